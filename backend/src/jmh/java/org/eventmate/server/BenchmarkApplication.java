@@ -0,0 +1,46 @@
+package org.eventmate.server;
+
+import org.eventmate.server.entity.Event;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+
+/**
+ * BenchmarkApplication - The real application context on in-memory H2 (application-benchmark.properties),
+ * for benchmarks whose hot path goes through JPA
+ */
+public final class BenchmarkApplication {
+
+    private BenchmarkApplication() {
+    }
+
+    /**
+     * With extra key=value properties, which win over application(-benchmark).properties
+     */
+    public static ConfigurableApplicationContext start(String... properties) {
+        return new SpringApplicationBuilder(ServerApplication.class, JdbcRoundTrip.class)
+                .profiles("benchmark")
+                .logStartupInfo(false)
+                .registerShutdownHook(false)
+                .run(Arrays.stream(properties).map(property -> "--" + property).toArray(String[]::new));
+    }
+
+    /**
+     * An active remote event a week out, big enough that enrollment never fills it
+     */
+    public static Event activeEvent(String title, Long organizerId) {
+        Event event = new Event();
+        event.setTitle(title);
+        event.setDescription("Benchmark event " + title);
+        event.setOrganizerId(organizerId);
+        event.setStatus(Event.EventStatus.ACTIVE);
+        event.setEventFormat(Event.EventFormat.REMOTE);
+        event.setEventType(Event.EventType.values()[0]);
+        event.setTotalCapacity(Integer.MAX_VALUE);
+        event.setStartDate(LocalDateTime.now().plusDays(7));
+        event.setEndDate(LocalDateTime.now().plusDays(8));
+        return event;
+    }
+}
@@ -0,0 +1,65 @@
+package org.eventmate.server;
+
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.EnvironmentAware;
+import org.springframework.core.env.Environment;
+
+import javax.sql.DataSource;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Proxy;
+import java.sql.CallableStatement;
+import java.sql.Connection;
+import java.sql.PreparedStatement;
+import java.sql.Statement;
+import java.util.Set;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * JdbcRoundTrip - Adds benchmark.jdbc-round-trip-micros to every statement execution and commit,
+ * standing in for the network round trip to a MySQL server on another host; in-process H2 has none.
+ * Off (0) unless a benchmark sets it.
+ */
+public class JdbcRoundTrip implements BeanPostProcessor, EnvironmentAware {
+
+    private static final Set<Class<?>> WRAPPED = Set.of(Connection.class, Statement.class, PreparedStatement.class,
+            CallableStatement.class);
+
+    private long delayNanos;
+
+    @Override
+    public void setEnvironment(Environment environment) {
+        delayNanos = environment.getProperty("benchmark.jdbc-round-trip-micros", Long.class, 0L) * 1_000;
+    }
+
+    @Override
+    public Object postProcessAfterInitialization(Object bean, String beanName) {
+        if (delayNanos > 0 && bean instanceof DataSource dataSource) {
+            return wrap(DataSource.class, dataSource);
+        }
+        return bean;
+    }
+
+    private <T> T wrap(Class<T> type, T target) {
+        Class<?>[] interfaces = { type };
+        return type.cast(Proxy.newProxyInstance(type.getClassLoader(), interfaces, (proxy, method, args) -> {
+            String name = method.getName();
+            if (name.startsWith("execute") || name.equals("commit")) {
+                LockSupport.parkNanos(delayNanos);
+            }
+            Object result;
+            try {
+                result = method.invoke(target, args);
+            } catch (InvocationTargetException e) {
+                throw e.getCause();
+            }
+            return result != null && WRAPPED.contains(method.getReturnType())
+                    ? wrap(castType(method.getReturnType()), result)
+                    : result;
+        }));
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> Class<T> castType(Class<?> type) {
+        return (Class<T>) type;
+    }
+}
@@ -0,0 +1,62 @@
+package org.eventmate.server;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * RequestThreadingBenchmark - Requests per second when every request blocks on I/O for io-millis
+ * (an SMTP send, a Gemini call, a MongoDB read), handled either by Tomcat's default pool of 200
+ * platform threads or by a virtual thread per request (spring.threads.virtual.enabled=true).
+ *
+ * Each invocation is a burst of concurrent requests; the blocking call is a sleep so the numbers
+ * show the threading model, not the network. The load test (-Ploadtest, virtual-threads=false|true)
+ * makes the same comparison through the real HTTP stack.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+public class RequestThreadingBenchmark {
+
+    private static final int BURST = 2_000;
+
+    @Param({ "platform", "virtual" })
+    public String threads;
+
+    @Param({ "20" })
+    public int ioMillis;
+
+    private ExecutorService executor;
+
+    @Setup
+    public void setUp() {
+        executor = threads.equals("virtual")
+                ? Executors.newVirtualThreadPerTaskExecutor()
+                : Executors.newFixedThreadPool(200); // server.tomcat.threads.max default
+    }
+
+    @TearDown
+    public void tearDown() {
+        executor.shutdownNow();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BURST)
+    public void burst() throws InterruptedException {
+        CountDownLatch done = new CountDownLatch(BURST);
+        for (int i = 0; i < BURST; i++) {
+            executor.execute(() -> {
+                try {
+                    Thread.sleep(ioMillis);
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                done.countDown();
+            });
+        }
+        done.await();
+    }
+}
@@ -0,0 +1,37 @@
+package org.eventmate.server.ai;
+
+import org.eventmate.server.dto.ChatResponse;
+import org.openjdk.jmh.annotations.*;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * AgentResponseParserBenchmark - Turning raw Gemini output into a ChatResponse (formerly
+ * AiController.parseAiResponse): a NAVIGATE command, plain prose, and prose that only looks like JSON
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@State(Scope.Benchmark)
+public class AgentResponseParserBenchmark {
+
+    @Param({ "command", "text", "pseudoJson" })
+    public String shape;
+
+    private String response;
+
+    @Setup
+    public void setUp() {
+        response = switch (shape) {
+            case "command" -> "{\"type\": \"NAVIGATE\", \"payload\": \"/events/12\", "
+                    + "\"message\": \"Opening the Spring Hackathon for you.\"}";
+            case "text" -> "The Spring Hackathon starts on 12 May at the Chennai Trade Centre. Registration "
+                    + "closes two days before and the entry fee is 500 INR per team.";
+            default -> "{ Here are three events you might like: Spring Hackathon, AI Meetup and Design Sprint }";
+        };
+    }
+
+    @Benchmark
+    public ChatResponse parse() {
+        return AgentResponseParser.parse(response);
+    }
+}
@@ -0,0 +1,49 @@
+package org.eventmate.server.security;
+
+import org.eventmate.server.entity.Role;
+import org.eventmate.server.entity.User;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * JwtUtilBenchmark - Token signing and the per-request validation done by the JWT filter
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class JwtUtilBenchmark {
+
+    private JwtUtil jwtUtil;
+    private User user;
+    private String token;
+
+    @Setup
+    public void setUp() {
+        jwtUtil = new JwtUtil();
+        ReflectionTestUtils.setField(jwtUtil, "secret", "mySuperSecretKey12345678901234567890");
+        ReflectionTestUtils.setField(jwtUtil, "expiration", 86_400_000L);
+
+        user = new User();
+        user.setUserId(42L);
+        user.setEmail("benchmark@example.com");
+        user.setRole(Role.USER);
+        token = jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public String generateToken() {
+        return jwtUtil.generateToken(user);
+    }
+
+    @Benchmark
+    public Boolean validateToken() {
+        return jwtUtil.validateToken(token, user);
+    }
+
+    @Benchmark
+    public Long extractUserId() {
+        return jwtUtil.extractUserId(token);
+    }
+}
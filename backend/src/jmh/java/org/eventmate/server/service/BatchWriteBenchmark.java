@@ -0,0 +1,97 @@
+package org.eventmate.server.service;
+
+import org.eventmate.server.BenchmarkApplication;
+import org.eventmate.server.dto.EventRequest;
+import org.eventmate.server.dto.GuestRequest;
+import org.eventmate.server.dto.TicketTierRequest;
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.entity.Notification;
+import org.eventmate.server.repository.NotificationRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * BatchWriteBenchmark - The bulk write paths with JDBC batching off (batch size 1) and on, on H2:
+ * creating an event with 30 guests and 5 ticket tiers, and saving 2000 reminder notifications.
+ *
+ * H2 runs in-process, so roundTripMicros adds what a MySQL server on another host would cost per
+ * statement (JdbcRoundTrip); with 0 only the per-statement CPU cost shows.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class BatchWriteBenchmark {
+
+    private static final int NOTIFICATIONS = 2_000;
+
+    @Param({ "1", "50" })
+    public int batchSize;
+
+    @Param({ "0", "200" })
+    public int roundTripMicros;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+    private NotificationRepository notificationRepository;
+    private EventRequest eventRequest;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start("spring.jpa.properties.hibernate.jdbc.batch_size=" + batchSize,
+                "benchmark.jdbc-round-trip-micros=" + roundTripMicros);
+        eventService = context.getBean(EventService.class);
+        notificationRepository = context.getBean(NotificationRepository.class);
+
+        eventRequest = new EventRequest();
+        eventRequest.setTitle("Batch Summit");
+        eventRequest.setStatus(Event.EventStatus.PLANNED);
+        eventRequest.setEventFormat(Event.EventFormat.REMOTE);
+        eventRequest.setEventType(Event.EventType.values()[0]);
+        List<GuestRequest> guests = new ArrayList<>();
+        for (int i = 0; i < 30; i++) {
+            GuestRequest guest = new GuestRequest();
+            guest.setName("Speaker " + i);
+            guest.setRole("Speaker");
+            guests.add(guest);
+        }
+        eventRequest.setGuests(guests);
+        List<TicketTierRequest> tiers = new ArrayList<>();
+        for (int i = 0; i < 5; i++) {
+            TicketTierRequest tier = new TicketTierRequest();
+            tier.setName("Tier " + i);
+            tier.setPrice(10.0 * i);
+            tier.setCapacity(100);
+            tiers.add(tier);
+        }
+        eventRequest.setTicketTiers(tiers);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Event createEventWithGuestsAndTiers() {
+        return eventService.createEvent(eventRequest, 1L);
+    }
+
+    @Benchmark
+    public List<Notification> saveReminderNotifications() {
+        List<Notification> notifications = new ArrayList<>(NOTIFICATIONS);
+        for (long user = 1; user <= NOTIFICATIONS; user++) {
+            Notification notification = new Notification();
+            notification.setUserId(user);
+            notification.setEventId(1L);
+            notification.setMessage("Reminder: Batch Summit starts in 2 days!");
+            notification.setCreatedAt(LocalDateTime.now());
+            notifications.add(notification);
+        }
+        return notificationRepository.saveAll(notifications);
+    }
+}
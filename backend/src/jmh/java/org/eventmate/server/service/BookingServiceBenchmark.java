@@ -0,0 +1,73 @@
+package org.eventmate.server.service;
+
+import org.eventmate.server.BenchmarkApplication;
+import org.eventmate.server.dto.BookingRequest;
+import org.eventmate.server.entity.Booking;
+import org.eventmate.server.repository.EventRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * BookingServiceBenchmark - enrollEvent on H2 with four threads, all enrolling into one event
+ * (contended: same event row lock) or each into its own event (uncontended)
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@State(Scope.Benchmark)
+@Threads(4)
+public class BookingServiceBenchmark {
+
+    private ConfigurableApplicationContext context;
+    private BookingService bookingService;
+    private EventRepository eventRepository;
+    private Long sharedEventId;
+
+    // Every enrollment needs a user not yet booked on the event
+    private final AtomicLong userIds = new AtomicLong(1_000);
+
+    @State(Scope.Thread)
+    public static class OwnEvent {
+        Long eventId;
+
+        @Setup
+        public void setUp(BookingServiceBenchmark benchmark) {
+            eventId = benchmark.eventRepository
+                    .save(BenchmarkApplication.activeEvent("Uncontended " + Thread.currentThread().getName(), 1L))
+                    .getEventId();
+        }
+    }
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        bookingService = context.getBean(BookingService.class);
+        eventRepository = context.getBean(EventRepository.class);
+        sharedEventId = eventRepository.save(BenchmarkApplication.activeEvent("Contended", 1L)).getEventId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public Booking enrollContended() {
+        return enroll(sharedEventId);
+    }
+
+    @Benchmark
+    public Booking enrollUncontended(OwnEvent own) {
+        return enroll(own.eventId);
+    }
+
+    private Booking enroll(Long eventId) {
+        BookingRequest request = new BookingRequest();
+        request.setEventId(eventId);
+        request.setBookingType("SOLO");
+        request.setAttendeeName("Benchmark Attendee");
+        return bookingService.enrollEvent(request, userIds.incrementAndGet());
+    }
+}
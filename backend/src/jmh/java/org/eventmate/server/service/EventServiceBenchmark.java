@@ -0,0 +1,68 @@
+package org.eventmate.server.service;
+
+import org.eventmate.server.BenchmarkApplication;
+import org.eventmate.server.dto.EventFields;
+import org.eventmate.server.dto.EventResponse;
+import org.eventmate.server.entity.Booking;
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.repository.BookingRepository;
+import org.eventmate.server.repository.EventRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EventServiceBenchmark - The public event listing (getAllEvents -> toEventResponse per event),
+ * including its per-event enrolled-count and rating queries, against the ?fields=card path that reads
+ * EventCard rows and one batched count, on H2
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@State(Scope.Benchmark)
+public class EventServiceBenchmark {
+
+    @Param({ "20", "200" })
+    public int events;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start();
+        eventService = context.getBean(EventService.class);
+        EventRepository eventRepository = context.getBean(EventRepository.class);
+        BookingRepository bookingRepository = context.getBean(BookingRepository.class);
+
+        List<Booking> bookings = new ArrayList<>();
+        for (int i = 0; i < events; i++) {
+            Event event = eventRepository.save(BenchmarkApplication.activeEvent("Listing " + i, 1L));
+            for (long user = 1; user <= 10; user++) {
+                Booking booking = new Booking();
+                booking.setEventId(event.getEventId());
+                booking.setUserId(user);
+                booking.setBookingType(Booking.BookingType.SOLO);
+                bookings.add(booking);
+            }
+        }
+        bookingRepository.saveAll(bookings);
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public List<EventResponse> getAllEvents() {
+        return eventService.getAllEvents();
+    }
+
+    @Benchmark
+    public List<EventResponse> getAllEventCards() {
+        return eventService.getAllEvents(EventFields.parse("card"));
+    }
+}
@@ -0,0 +1,33 @@
+package org.eventmate.server.service;
+
+import org.openjdk.jmh.annotations.*;
+
+import java.security.NoSuchAlgorithmException;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * FileStorageServiceBenchmark - SHA-256 content hash used to deduplicate uploads
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class FileStorageServiceBenchmark {
+
+    // A thumbnail, a typical profile picture, the 5 MB end of banner uploads
+    @Param({ "16384", "524288", "5242880" })
+    public int size;
+
+    private byte[] content;
+
+    @Setup
+    public void setUp() {
+        content = new byte[size];
+        new Random(42).nextBytes(content);
+    }
+
+    @Benchmark
+    public String calculateHash() throws NoSuchAlgorithmException {
+        return FileStorageService.calculateHash(content);
+    }
+}
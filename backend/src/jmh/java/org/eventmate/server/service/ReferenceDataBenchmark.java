@@ -0,0 +1,78 @@
+package org.eventmate.server.service;
+
+import org.eventmate.server.BenchmarkApplication;
+import org.eventmate.server.dto.EventResponse;
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.entity.Guest;
+import org.eventmate.server.entity.TicketTier;
+import org.eventmate.server.entity.Venue;
+import org.eventmate.server.repository.EventRepository;
+import org.eventmate.server.repository.VenueRepository;
+import org.openjdk.jmh.annotations.*;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.util.concurrent.TimeUnit;
+
+/**
+ * ReferenceDataBenchmark - Reads that repeat the same reference rows, with the second-level cache
+ * off and on, on H2: an event's detail (venue, 5 ticket tiers, 10 guests).
+ *
+ * roundTripMicros adds what a MySQL server on another host would cost per statement (JdbcRoundTrip).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@State(Scope.Benchmark)
+public class ReferenceDataBenchmark {
+
+    @Param({ "false", "true" })
+    public boolean entityCache;
+
+    @Param({ "0", "200" })
+    public int roundTripMicros;
+
+    private ConfigurableApplicationContext context;
+    private EventService eventService;
+    private Long eventId;
+
+    @Setup
+    public void setUp() {
+        context = BenchmarkApplication.start(
+                "spring.jpa.properties.hibernate.cache.use_second_level_cache=" + entityCache,
+                "benchmark.jdbc-round-trip-micros=" + roundTripMicros);
+        eventService = context.getBean(EventService.class);
+
+        Venue venue = new Venue();
+        venue.setName("Expo Hall");
+        venue.setAddress("1 Main Road");
+        venue.setCity("Pune");
+        venue.setState("MH");
+        venue.setCountry("India");
+        venue = context.getBean(VenueRepository.class).save(venue);
+
+        Event event = BenchmarkApplication.activeEvent("Reference Summit", 1L);
+        event.setVenue(venue);
+        for (int i = 0; i < 5; i++) {
+            TicketTier tier = new TicketTier();
+            tier.setName("Tier " + i);
+            tier.setPrice(10.0 * i);
+            tier.setCapacity(100);
+            event.addTicketTier(tier);
+        }
+        for (int i = 0; i < 10; i++) {
+            Guest guest = new Guest();
+            guest.setName("Speaker " + i);
+            event.addGuest(guest);
+        }
+        eventId = context.getBean(EventRepository.class).save(event).getEventId();
+    }
+
+    @TearDown
+    public void tearDown() {
+        context.close();
+    }
+
+    @Benchmark
+    public EventResponse getEventById() {
+        return eventService.getEventById(eventId);
+    }
+}
@@ -0,0 +1,156 @@
+package org.eventmate.server.loadtest;
+
+import org.eventmate.server.entity.Booking;
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.entity.Role;
+import org.eventmate.server.entity.User;
+import org.eventmate.server.repository.BookingRepository;
+import org.eventmate.server.repository.EventRepository;
+import org.eventmate.server.repository.UserRepository;
+import org.eventmate.server.security.JwtUtil;
+import org.eventmate.server.service.FileStorageService;
+import org.springframework.context.ApplicationContext;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+/**
+ * DatasetGenerator - Seeds users, events, banner images and bookings through the repositories, and
+ * signs a JWT per attendee so the load test never goes through BCrypt login
+ */
+public class DatasetGenerator {
+
+    private static final int CHUNK = 1000;
+    private static final String[] TOPICS = { "AI", "Cloud", "Design", "Startup", "Security", "Data", "Music",
+            "Robotics", "Fintech", "Health" };
+    private static final String[] KINDS = { "Summit", "Hackathon", "Meetup", "Workshop", "Conference" };
+
+    /**
+     * What the scenario needs to address the seeded data
+     */
+    public record Dataset(List<String> attendeeTokens, List<Long> eventIds, Long launchEventId,
+            List<String> imageIds, List<String> searchTerms) {
+    }
+
+    private final UserRepository userRepository;
+    private final EventRepository eventRepository;
+    private final BookingRepository bookingRepository;
+    private final FileStorageService fileStorageService;
+    private final PasswordEncoder passwordEncoder;
+    private final JwtUtil jwtUtil;
+    private final Random random = new Random(42);
+
+    public DatasetGenerator(ApplicationContext context) {
+        this.userRepository = context.getBean(UserRepository.class);
+        this.eventRepository = context.getBean(EventRepository.class);
+        this.bookingRepository = context.getBean(BookingRepository.class);
+        this.fileStorageService = context.getBean(FileStorageService.class);
+        this.passwordEncoder = context.getBean(PasswordEncoder.class);
+        this.jwtUtil = context.getBean(JwtUtil.class);
+    }
+
+    /**
+     * Registration for the launch event stays closed until {@link #openRegistration(Dataset)}
+     */
+    public Dataset generate(LoadTestConfig config) {
+        String passwordHash = passwordEncoder.encode("loadtest");
+
+        List<User> organizers = userRepository.saveAll(users(Role.ORGANIZATION, 10, "org", passwordHash));
+        List<User> attendees = new ArrayList<>(config.users());
+        for (int from = 0; from < config.users(); from += CHUNK) {
+            int count = Math.min(CHUNK, config.users() - from);
+            attendees.addAll(userRepository.saveAll(users(Role.USER, count, "user" + from + "-", passwordHash)));
+        }
+
+        List<String> imageIds = new ArrayList<>(config.images());
+        for (int i = 0; i < config.images(); i++) {
+            byte[] banner = new byte[20_000 + random.nextInt(180_000)];
+            random.nextBytes(banner);
+            imageIds.add(fileStorageService.storeFile("banner-" + i + ".jpg", banner, "image/jpeg"));
+        }
+
+        List<Event> events = new ArrayList<>(config.events());
+        for (int i = 0; i < config.events(); i++) {
+            String title = TOPICS[i % TOPICS.length] + " " + KINDS[(i / TOPICS.length) % KINDS.length] + " " + i;
+            Event event = event(title, organizers.get(i % organizers.size()).getUserId(), 500);
+            event.setIsFeatured(i % 20 == 0);
+            if (!imageIds.isEmpty()) {
+                event.setBannerImageId(imageIds.get(i % imageIds.size()));
+            }
+            events.add(event);
+        }
+        events = eventRepository.saveAll(events);
+
+        // Fewer seats than the burst asks for, so the launch also exercises "Event is full"
+        Event launch = event("Launch Day Hackathon", organizers.get(0).getUserId(),
+                Math.max(1, config.enrollRps() * config.launchSeconds() / 2));
+        launch.setRegistrationOpenDate(LocalDateTime.now().plusDays(1));
+        launch = eventRepository.save(launch);
+
+        List<Booking> bookings = new ArrayList<>(CHUNK);
+        for (int k = 0; k < config.bookings() && !events.isEmpty(); k++) {
+            int user = k % attendees.size();
+            // Distinct (user, event) pairs while bookings / users < events
+            int event = (user * 31 + k / attendees.size()) % events.size();
+            Booking booking = new Booking();
+            booking.setEventId(events.get(event).getEventId());
+            booking.setUserId(attendees.get(user).getUserId());
+            booking.setBookingType(k % 5 == 0 ? Booking.BookingType.GROUP : Booking.BookingType.SOLO);
+            booking.setAttendeeName(attendees.get(user).getFullName());
+            booking.setTicketCode("LT-" + k);
+            bookings.add(booking);
+            if (bookings.size() == CHUNK) {
+                bookingRepository.saveAll(bookings);
+                bookings.clear();
+            }
+        }
+        bookingRepository.saveAll(bookings);
+
+        return new Dataset(
+                attendees.stream().map(jwtUtil::generateToken).toList(),
+                events.stream().map(Event::getEventId).toList(),
+                launch.getEventId(),
+                imageIds,
+                List.of(TOPICS));
+    }
+
+    /**
+     * Opens registration for the launch event now, which starts its waiting room
+     */
+    public void openRegistration(Dataset dataset) {
+        Event launch = eventRepository.findById(dataset.launchEventId()).orElseThrow();
+        launch.setRegistrationOpenDate(LocalDateTime.now());
+        eventRepository.save(launch);
+    }
+
+    private List<User> users(Role role, int count, String prefix, String passwordHash) {
+        List<User> users = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            User user = new User();
+            user.setEmail(prefix + i + "@loadtest.eventmate");
+            user.setFullName("Load " + prefix + i);
+            user.setPasswordHash(passwordHash);
+            user.setRole(role);
+            users.add(user);
+        }
+        return users;
+    }
+
+    private Event event(String title, Long organizerId, int capacity) {
+        Event event = new Event();
+        event.setTitle(title);
+        event.setDescription("Seeded by the load test: " + title);
+        event.setOrganizerId(organizerId);
+        event.setStatus(Event.EventStatus.ACTIVE);
+        event.setEventFormat(Event.EventFormat.REMOTE);
+        event.setEventType(Event.EventType.values()[random.nextInt(Event.EventType.values().length)]);
+        event.setTotalCapacity(capacity);
+        LocalDateTime start = LocalDateTime.now().plusDays(7 + random.nextInt(60));
+        event.setStartDate(start);
+        event.setEndDate(start.plusHours(8));
+        return event;
+    }
+}
@@ -0,0 +1,132 @@
+package org.eventmate.server.loadtest;
+
+import java.io.IOException;
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.LockSupport;
+
+/**
+ * LoadDriver - Open-model traffic: each stream starts sessions at a fixed rate whether or not earlier
+ * ones have finished, every session on its own virtual thread. The first request of a session is
+ * timed from when it was due, not when it was sent, so a stalled server can't hide its queueing
+ * delay (coordinated omission).
+ */
+public class LoadDriver {
+
+    private static final Duration REQUEST_TIMEOUT = Duration.ofSeconds(30);
+
+    private final URI baseUri;
+    private final HttpClient client;
+    private final ExecutorService sessions = Executors.newVirtualThreadPerTaskExecutor();
+
+    /**
+     * A rate of sessions; a session is one request (browsing) or a short journey (queue, poll, enroll)
+     */
+    public record Stream(String name, int perSecond, SessionBody body) {
+    }
+
+    @FunctionalInterface
+    public interface SessionBody {
+        void run(Session session) throws Exception;
+    }
+
+    public LoadDriver(URI baseUri) {
+        this.baseUri = baseUri;
+        this.client = HttpClient.newBuilder()
+                .version(HttpClient.Version.HTTP_1_1)
+                .connectTimeout(Duration.ofSeconds(5))
+                .executor(Executors.newVirtualThreadPerTaskExecutor())
+                .build();
+    }
+
+    /**
+     * Runs the streams side by side for the given time, then waits for sessions still in flight
+     */
+    public void run(List<Stream> streams, int seconds, Map<String, LoadReport.EndpointStats> stats)
+            throws InterruptedException {
+        long start = System.nanoTime();
+        long end = start + TimeUnit.SECONDS.toNanos(seconds);
+        List<Thread> schedulers = new ArrayList<>();
+        for (Stream stream : streams) {
+            if (stream.perSecond() <= 0) {
+                continue;
+            }
+            schedulers.add(Thread.ofPlatform().name("load-" + stream.name()).start(() -> {
+                long interval = TimeUnit.SECONDS.toNanos(1) / stream.perSecond();
+                for (long due = start; due < end; due += interval) {
+                    long wait = due - System.nanoTime();
+                    if (wait > 0) {
+                        LockSupport.parkNanos(wait);
+                    }
+                    long dueAt = due;
+                    sessions.execute(() -> {
+                        try {
+                            stream.body().run(new Session(stats, dueAt));
+                        } catch (InterruptedException e) {
+                            Thread.currentThread().interrupt();
+                        } catch (Exception e) {
+                            // Already recorded as an error by the failing request
+                        }
+                    });
+                }
+            }));
+        }
+        for (Thread scheduler : schedulers) {
+            scheduler.join();
+        }
+    }
+
+    public void close() throws InterruptedException {
+        sessions.shutdown();
+        sessions.awaitTermination(1, TimeUnit.MINUTES);
+    }
+
+    public final class Session {
+
+        private final Map<String, LoadReport.EndpointStats> stats;
+        private long dueAt;
+
+        private Session(Map<String, LoadReport.EndpointStats> stats, long dueAt) {
+            this.stats = stats;
+            this.dueAt = dueAt;
+        }
+
+        /**
+         * Sends one request and records it under endpoint (a route template such as "GET /api/events/{id}")
+         *
+         * @return the response, or null if none arrived
+         */
+        public HttpResponse<String> send(String endpoint, HttpRequest.Builder request) throws InterruptedException {
+            long started = dueAt != 0 ? dueAt : System.nanoTime();
+            dueAt = 0;
+            LoadReport.EndpointStats endpointStats = stats.computeIfAbsent(endpoint,
+                    e -> new LoadReport.EndpointStats());
+            try {
+                HttpResponse<String> response = client.send(request.timeout(REQUEST_TIMEOUT).build(),
+                        HttpResponse.BodyHandlers.ofString());
+                endpointStats.record(System.nanoTime() - started, response.statusCode(), response.body());
+                return response;
+            } catch (IOException e) {
+                endpointStats.record(System.nanoTime() - started, -1, e.toString());
+                return null;
+            }
+        }
+
+        public HttpRequest.Builder request(String path, String token) {
+            HttpRequest.Builder builder = HttpRequest.newBuilder(baseUri.resolve(path));
+            if (token != null) {
+                builder.header("Authorization", "Bearer " + token);
+            }
+            return builder;
+        }
+    }
+}
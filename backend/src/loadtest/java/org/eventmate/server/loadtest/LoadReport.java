@@ -0,0 +1,125 @@
+package org.eventmate.server.loadtest;
+
+import org.HdrHistogram.ConcurrentHistogram;
+import org.HdrHistogram.Histogram;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * LoadReport - Per-phase, per-endpoint request counts, status codes and latency histograms
+ *
+ * "ok" is 2xx, "rejected" is 4xx (full event, not your turn yet), "errors" are 5xx, timeouts and
+ * connection failures.
+ */
+public class LoadReport {
+
+    private static final long MAX_LATENCY_MICROS = TimeUnit.MINUTES.toMicros(2);
+
+    private final Map<String, Map<String, EndpointStats>> phases = new LinkedHashMap<>();
+    private final Map<String, Integer> phaseSeconds = new LinkedHashMap<>();
+
+    public synchronized Map<String, EndpointStats> phase(String name, int seconds) {
+        phaseSeconds.put(name, seconds);
+        return phases.computeIfAbsent(name, n -> new ConcurrentHashMap<>());
+    }
+
+    public static final class EndpointStats {
+        private final Histogram latency = new ConcurrentHistogram(MAX_LATENCY_MICROS, 3);
+        private final LongAdder ok = new LongAdder();
+        private final LongAdder rejected = new LongAdder();
+        private final LongAdder errors = new LongAdder();
+        private final Map<Integer, LongAdder> statuses = new ConcurrentHashMap<>();
+        // First response body per failing status, to tell "event full" from a broken query
+        private final Map<Integer, String> samples = new ConcurrentHashMap<>();
+
+        /**
+         * @param status HTTP status, or -1 when no response arrived
+         * @param body response body (or exception) kept as a sample when the request failed
+         */
+        void record(long latencyNanos, int status, String body) {
+            latency.recordValue(Math.min(MAX_LATENCY_MICROS, TimeUnit.NANOSECONDS.toMicros(latencyNanos)));
+            statuses.computeIfAbsent(status, s -> new LongAdder()).increment();
+            if (status >= 200 && status < 300) {
+                ok.increment();
+            } else if (status >= 400 && status < 500) {
+                rejected.increment();
+            } else {
+                errors.increment();
+            }
+            if ((status < 200 || status >= 300) && body != null) {
+                samples.putIfAbsent(status, body.length() > 300 ? body.substring(0, 300) : body);
+            }
+        }
+    }
+
+    /**
+     * Plain data for the JSON report
+     */
+    public synchronized List<Map<String, Object>> toJson() {
+        List<Map<String, Object>> result = new ArrayList<>();
+        phases.forEach((phase, endpoints) -> {
+            int seconds = phaseSeconds.get(phase);
+            List<Map<String, Object>> rows = new ArrayList<>();
+            new TreeMap<>(endpoints).forEach((endpoint, stats) -> {
+                long requests = stats.latency.getTotalCount();
+                Map<String, Object> row = new LinkedHashMap<>();
+                row.put("endpoint", endpoint);
+                row.put("requests", requests);
+                row.put("throughputPerSecond", round((double) requests / seconds));
+                row.put("ok", stats.ok.sum());
+                row.put("rejected", stats.rejected.sum());
+                row.put("errors", stats.errors.sum());
+                row.put("errorRate", requests > 0 ? round((double) stats.errors.sum() / requests) : 0.0);
+                row.put("p50Ms", millis(stats.latency.getValueAtPercentile(50)));
+                row.put("p90Ms", millis(stats.latency.getValueAtPercentile(90)));
+                row.put("p99Ms", millis(stats.latency.getValueAtPercentile(99)));
+                row.put("p999Ms", millis(stats.latency.getValueAtPercentile(99.9)));
+                row.put("maxMs", millis(stats.latency.getMaxValue()));
+                Map<String, Long> statuses = new TreeMap<>();
+                stats.statuses.forEach((status, count) -> statuses.put(status < 0 ? "none" : status.toString(),
+                        count.sum()));
+                row.put("statuses", statuses);
+                row.put("failureSamples", new TreeMap<>(stats.samples));
+                rows.add(row);
+            });
+            Map<String, Object> entry = new LinkedHashMap<>();
+            entry.put("phase", phase);
+            entry.put("seconds", seconds);
+            entry.put("endpoints", rows);
+            result.add(entry);
+        });
+        return result;
+    }
+
+    public String toTable() {
+        StringBuilder out = new StringBuilder();
+        for (Map<String, Object> phase : toJson()) {
+            out.append(String.format("%n== %s (%ss) ==%n", phase.get("phase"), phase.get("seconds")));
+            out.append(String.format("%-44s %8s %8s %7s %7s %9s %9s %9s %9s%n", "endpoint", "requests", "req/s",
+                    "4xx", "errors", "p50 ms", "p90 ms", "p99 ms", "max ms"));
+            @SuppressWarnings("unchecked")
+            List<Map<String, Object>> rows = (List<Map<String, Object>>) phase.get("endpoints");
+            for (Map<String, Object> row : rows) {
+                out.append(String.format("%-44s %8d %8.1f %7d %7d %9.1f %9.1f %9.1f %9.1f%n", row.get("endpoint"),
+                        row.get("requests"), row.get("throughputPerSecond"), row.get("rejected"), row.get("errors"),
+                        row.get("p50Ms"), row.get("p90Ms"), row.get("p99Ms"), row.get("maxMs")));
+            }
+        }
+        return out.toString();
+    }
+
+    private static double millis(long micros) {
+        return round(micros / 1000.0);
+    }
+
+    private static double round(double value) {
+        return Math.round(value * 100) / 100.0;
+    }
+}
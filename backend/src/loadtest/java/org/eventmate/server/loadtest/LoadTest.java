@@ -0,0 +1,85 @@
+package org.eventmate.server.loadtest;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import org.eventmate.server.ServerApplication;
+import org.eventmate.server.service.MetadataService;
+import org.springframework.boot.builder.SpringApplicationBuilder;
+import org.springframework.boot.web.context.WebServerApplicationContext;
+import org.springframework.context.ConfigurableApplicationContext;
+
+import java.net.URI;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * LoadTest - Boots the server on an in-memory H2 database, seeds a dataset and replays the scenario
+ * against it over real HTTP, then prints and saves per-endpoint throughput, latency percentiles and
+ * error rates. Run with: mvn -Ploadtest verify -DskipTests -Dloadtest.args="users=5000 enroll-rps=300"
+ *
+ * Phases: warmup (half the browse rate, not reported), browse, then launch, where registration for
+ * one event opens and enroll-rps attendees a second go through the waiting room.
+ */
+public final class LoadTest {
+
+    private LoadTest() {
+    }
+
+    public static void main(String[] args) throws Exception {
+        LoadTestConfig config = LoadTestConfig.from(args);
+        // devtools is on the test classpath and would restart the app in a new class loader
+        System.setProperty("spring.devtools.restart.enabled", "false");
+        ConfigurableApplicationContext context = new SpringApplicationBuilder(ServerApplication.class,
+                LoadTestStubs.class)
+                .profiles("loadtest")
+                .properties("loadtest.ai-latency-ms=" + config.aiLatencyMs(),
+                        "loadtest.mail-latency-ms=" + config.mailLatencyMs(),
+                        "spring.threads.virtual.enabled=" + config.virtualThreads())
+                .run();
+        int exitCode = 0;
+        try {
+            int port = ((WebServerApplicationContext) context).getWebServer().getPort();
+            long seedStart = System.currentTimeMillis();
+            DatasetGenerator generator = new DatasetGenerator(context);
+            DatasetGenerator.Dataset dataset = generator.generate(config);
+            context.getBean(MetadataService.class).syncMetadataSync();
+            System.out.printf("Seeded %d events, %d users, %d bookings, %d images in %d ms%n", config.events(),
+                    config.users(), config.bookings(), config.images(), System.currentTimeMillis() - seedStart);
+
+            Scenario scenario = new Scenario(config, dataset);
+            LoadReport report = new LoadReport();
+            LoadDriver driver = new LoadDriver(URI.create("http://localhost:" + port));
+
+            driver.run(scenario.browsing(Math.max(1, config.browseRps() / 2)), config.warmupSeconds(),
+                    new LoadReport().phase("warmup", config.warmupSeconds()));
+            driver.run(scenario.browsing(config.browseRps()), config.browseSeconds(),
+                    report.phase("browse", config.browseSeconds()));
+            generator.openRegistration(dataset);
+            driver.run(scenario.launch(), config.launchSeconds(), report.phase("launch", config.launchSeconds()));
+            driver.close();
+
+            System.out.print(report.toTable());
+            writeReport(config, report);
+        } catch (Exception e) {
+            e.printStackTrace();
+            exitCode = 1;
+        } finally {
+            context.close();
+        }
+        System.exit(exitCode);
+    }
+
+    private static void writeReport(LoadTestConfig config, LoadReport report) throws Exception {
+        Map<String, Object> json = new LinkedHashMap<>();
+        json.put("config", config);
+        json.put("phases", report.toJson());
+        Path path = Path.of(config.report());
+        if (path.getParent() != null) {
+            Files.createDirectories(path.getParent());
+        }
+        new ObjectMapper().enable(SerializationFeature.INDENT_OUTPUT).writeValue(path.toFile(), json);
+        System.out.println("Report written to " + path.toAbsolutePath());
+    }
+}
@@ -0,0 +1,68 @@
+package org.eventmate.server.loadtest;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * LoadTestConfig - Dataset size and traffic rates, from key=value program arguments
+ * (e.g. -Dloadtest.args="events=500 users=5000 browse-rps=400")
+ */
+public record LoadTestConfig(
+        int events,
+        int users,
+        int bookings,
+        int images,
+        int warmupSeconds,
+        int browseSeconds,
+        int launchSeconds,
+        int browseRps,
+        int enrollRps,
+        int chatRps,
+        int imageRps,
+        int aiLatencyMs,
+        int mailLatencyMs,
+        boolean virtualThreads,
+        String report) {
+
+    private static final Set<String> KNOWN = Set.of("events", "users", "bookings", "images", "warmup-seconds",
+            "browse-seconds", "launch-seconds", "browse-rps", "enroll-rps", "chat-rps", "image-rps", "ai-latency-ms",
+            "mail-latency-ms", "virtual-threads", "report");
+
+    public static LoadTestConfig from(String[] args) {
+        Map<String, String> values = new HashMap<>();
+        for (String arg : args) {
+            int eq = arg.indexOf('=');
+            if (eq <= 0) {
+                throw new IllegalArgumentException("Expected key=value, got: " + arg);
+            }
+            values.put(arg.substring(0, eq).trim(), arg.substring(eq + 1).trim());
+        }
+        LoadTestConfig config = new LoadTestConfig(
+                intValue(values, "events", 200),
+                intValue(values, "users", 2000),
+                intValue(values, "bookings", 5000),
+                intValue(values, "images", 50),
+                intValue(values, "warmup-seconds", 10),
+                intValue(values, "browse-seconds", 30),
+                intValue(values, "launch-seconds", 15),
+                intValue(values, "browse-rps", 200),
+                intValue(values, "enroll-rps", 150),
+                intValue(values, "chat-rps", 5),
+                intValue(values, "image-rps", 40),
+                intValue(values, "ai-latency-ms", 800),
+                intValue(values, "mail-latency-ms", 200),
+                Boolean.parseBoolean(values.getOrDefault("virtual-threads", "true")),
+                values.getOrDefault("report", "target/loadtest-report.json"));
+        values.keySet().removeAll(KNOWN);
+        if (!values.isEmpty()) {
+            throw new IllegalArgumentException("Unknown load test settings: " + values.keySet());
+        }
+        return config;
+    }
+
+    private static int intValue(Map<String, String> values, String key, int defaultValue) {
+        String value = values.get(key);
+        return value != null ? Integer.parseInt(value) : defaultValue;
+    }
+}
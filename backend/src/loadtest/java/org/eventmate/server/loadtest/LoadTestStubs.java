@@ -0,0 +1,116 @@
+package org.eventmate.server.loadtest;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.data.message.ChatMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.ChatResponse;
+import dev.langchain4j.model.output.Response;
+import jakarta.mail.internet.MimeMessage;
+import org.eventmate.server.service.FileStorageService;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.mail.javamail.JavaMailSender;
+import org.springframework.mail.javamail.JavaMailSenderImpl;
+
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * LoadTestStubs - Swaps the external dependencies the load test can't reach: Gemini becomes a model
+ * that answers after ai-latency-ms, SMTP a sender that takes mail-latency-ms, MongoDB file storage a map
+ */
+@Configuration
+public class LoadTestStubs {
+
+    @Bean
+    static BeanPostProcessor loadTestStubReplacer(@Value("${loadtest.ai-latency-ms:800}") long aiLatencyMs,
+            @Value("${loadtest.mail-latency-ms:200}") long mailLatencyMs) {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessAfterInitialization(Object bean, String beanName) {
+                if (bean instanceof ChatLanguageModel) {
+                    return slowModel(aiLatencyMs);
+                }
+                if (bean instanceof JavaMailSender) {
+                    return new SlowMailSender(mailLatencyMs);
+                }
+                if (bean instanceof FileStorageService) {
+                    return new InMemoryFileStorage();
+                }
+                return bean;
+            }
+        };
+    }
+
+    private static void pause(long latencyMs) {
+        try {
+            Thread.sleep(latencyMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private static ChatLanguageModel slowModel(long latencyMs) {
+        return new ChatLanguageModel() {
+            @Override
+            public ChatResponse chat(ChatRequest request) {
+                pause(latencyMs);
+                return ChatResponse.builder()
+                        .aiMessage(AiMessage.from("There are several upcoming events that match. "
+                                + "Open the Events page to see dates and seats."))
+                        .build();
+            }
+
+            // Still abstract in this LangChain4j version; routed through chat(ChatRequest)
+            @Override
+            public Response<AiMessage> generate(List<ChatMessage> messages) {
+                return Response.from(chat(ChatRequest.builder().messages(messages).build()).aiMessage());
+            }
+        };
+    }
+
+    // Booking confirmations are sent inside the request, so the SMTP round trip stays in the numbers
+    static final class SlowMailSender extends JavaMailSenderImpl {
+
+        private final long latencyMs;
+
+        SlowMailSender(long latencyMs) {
+            this.latencyMs = latencyMs;
+        }
+
+        @Override
+        protected void doSend(MimeMessage[] mimeMessages, Object[] originalMessages) {
+            pause(latencyMs);
+        }
+    }
+
+    static final class InMemoryFileStorage extends FileStorageService {
+
+        private final Map<String, FileDocument> files = new ConcurrentHashMap<>();
+
+        InMemoryFileStorage() {
+            super(null);
+        }
+
+        @Override
+        public String storeFile(String filename, byte[] content, String contentType) {
+            FileDocument doc = new FileDocument();
+            doc.setId(UUID.randomUUID().toString());
+            doc.setFilename(filename);
+            doc.setContentType(contentType);
+            doc.setContent(content);
+            files.put(doc.getId(), doc);
+            return doc.getId();
+        }
+
+        @Override
+        public FileDocument getFile(String id) {
+            return files.get(id);
+        }
+    }
+}
@@ -0,0 +1,162 @@
+package org.eventmate.server.loadtest;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+
+import java.net.URLEncoder;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Scenario - The traffic mix: attendees browsing, chatting and loading banners, then a registration
+ * launch where a burst of attendees goes through the waiting room and enrolls in one event.
+ *
+ * Endpoints are reported by route template so /api/events/1 and /api/events/2 add up.
+ */
+public class Scenario {
+
+    private static final long MAX_QUEUE_WAIT_NANOS = TimeUnit.SECONDS.toNanos(60);
+    private static final List<String> NAVIGATION = List.of("show my bookings", "open my profile",
+            "go to upcoming events");
+    private static final List<String> QUESTIONS = List.of("Which events are about AI?",
+            "Any free workshops next month?", "What hackathons can I join?", "Recommend a cloud meetup");
+
+    private final LoadTestConfig config;
+    private final DatasetGenerator.Dataset dataset;
+    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AtomicInteger nextLaunchAttendee = new AtomicInteger();
+
+    public Scenario(LoadTestConfig config, DatasetGenerator.Dataset dataset) {
+        this.config = config;
+        this.dataset = dataset;
+    }
+
+    /**
+     * Browsing at the given rate plus chat and banner downloads
+     */
+    public List<LoadDriver.Stream> browsing(int browseRps) {
+        return List.of(
+                new LoadDriver.Stream("browse", browseRps, this::browse),
+                new LoadDriver.Stream("chat", config.chatRps(), this::chat),
+                new LoadDriver.Stream("images", config.imageRps(), this::image));
+    }
+
+    /**
+     * Browsing carries on while enroll-rps attendees per second rush the launch event
+     */
+    public List<LoadDriver.Stream> launch() {
+        return List.of(
+                new LoadDriver.Stream("browse", config.browseRps(), this::browse),
+                new LoadDriver.Stream("chat", config.chatRps(), this::chat),
+                new LoadDriver.Stream("images", config.imageRps(), this::image),
+                new LoadDriver.Stream("enroll", config.enrollRps(), this::enroll));
+    }
+
+    private void browse(LoadDriver.Session session) throws InterruptedException {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        String token = randomToken(random);
+        int pick = random.nextInt(100);
+        if (pick < 30) {
+            session.send("GET /api/events", session.request("/api/events", token).GET());
+        } else if (pick < 60) {
+            Long eventId = dataset.eventIds().get(random.nextInt(dataset.eventIds().size()));
+            session.send("GET /api/events/{id}", session.request("/api/events/" + eventId, token).GET());
+        } else if (pick < 75) {
+            String keyword = dataset.searchTerms().get(random.nextInt(dataset.searchTerms().size()));
+            session.send("GET /api/events/search", session.request("/api/events/search?keyword="
+                    + URLEncoder.encode(keyword, StandardCharsets.UTF_8), token).GET());
+        } else if (pick < 85) {
+            session.send("GET /api/events/upcoming", session.request("/api/events/upcoming", token).GET());
+        } else if (pick < 92) {
+            session.send("GET /api/events/featured", session.request("/api/events/featured", token).GET());
+        } else {
+            session.send("GET /api/bookings/my-bookings", session.request("/api/bookings/my-bookings", token).GET());
+        }
+    }
+
+    // Navigation is routed without the model, repeated questions hit the answer cache, unique ones don't
+    private void chat(LoadDriver.Session session) throws Exception {
+        ThreadLocalRandom random = ThreadLocalRandom.current();
+        int pick = random.nextInt(10);
+        String message;
+        if (pick < 3) {
+            message = NAVIGATION.get(random.nextInt(NAVIGATION.size()));
+        } else if (pick < 7) {
+            message = QUESTIONS.get(random.nextInt(QUESTIONS.size()));
+        } else {
+            message = "Is there anything on " + dataset.searchTerms().get(random.nextInt(dataset.searchTerms().size()))
+                    + " for a group of " + (2 + random.nextInt(1000)) + "?";
+        }
+        ObjectNode body = objectMapper.createObjectNode().put("message", message);
+        session.send("POST /api/ai/chat", json(session.request("/api/ai/chat", randomToken(random)), body));
+    }
+
+    private void image(LoadDriver.Session session) throws InterruptedException {
+        if (dataset.imageIds().isEmpty()) {
+            return;
+        }
+        String imageId = dataset.imageIds().get(ThreadLocalRandom.current().nextInt(dataset.imageIds().size()));
+        session.send("GET /api/files/{id}", session.request("/api/files/" + imageId, null).GET());
+    }
+
+    // What the web client does at a launch: join the waiting room, poll until admitted, then enroll
+    private void enroll(LoadDriver.Session session) throws Exception {
+        int attendee = nextLaunchAttendee.getAndIncrement() % dataset.attendeeTokens().size();
+        String token = dataset.attendeeTokens().get(attendee);
+        Long eventId = dataset.launchEventId();
+        long started = System.nanoTime();
+
+        JsonNode ticket = body(session.send("POST /api/bookings/queue/{eventId}/join",
+                session.request("/api/bookings/queue/" + eventId + "/join", token)
+                        .POST(HttpRequest.BodyPublishers.noBody())));
+        while (ticket != null && !ticket.path("admitted").asBoolean()) {
+            if (System.nanoTime() - started > MAX_QUEUE_WAIT_NANOS) {
+                return;
+            }
+            long waitSeconds = Math.clamp(ticket.path("estimatedWaitSeconds").asLong(1), 1, 5);
+            Thread.sleep(TimeUnit.SECONDS.toMillis(waitSeconds));
+            ticket = body(session.send("GET /api/bookings/queue/{eventId}/status",
+                    session.request("/api/bookings/queue/" + eventId + "/status?token="
+                            + URLEncoder.encode(ticket.path("token").asText(), StandardCharsets.UTF_8), token).GET()));
+        }
+        if (ticket == null) {
+            return;
+        }
+
+        ObjectNode body = objectMapper.createObjectNode()
+                .put("eventId", eventId)
+                .put("attendeeName", "Load attendee " + attendee)
+                .put("contactNumber", "9000000000")
+                .put("attendeeAge", 30)
+                .put("bookingType", "SOLO");
+        HttpRequest.Builder request = json(session.request("/api/bookings/enroll", token), body)
+                .header("Idempotency-Key", UUID.randomUUID().toString());
+        if (!ticket.path("token").isNull() && !ticket.path("token").isMissingNode()) {
+            request.header("X-Admission-Token", ticket.path("token").asText());
+        }
+        session.send("POST /api/bookings/enroll", request);
+    }
+
+    private String randomToken(ThreadLocalRandom random) {
+        return dataset.attendeeTokens().get(random.nextInt(dataset.attendeeTokens().size()));
+    }
+
+    private HttpRequest.Builder json(HttpRequest.Builder request, JsonNode body) throws Exception {
+        return request.header("Content-Type", "application/json")
+                .POST(HttpRequest.BodyPublishers.ofString(objectMapper.writeValueAsString(body)));
+    }
+
+    private JsonNode body(HttpResponse<String> response) throws Exception {
+        if (response == null || response.statusCode() != 200) {
+            return null;
+        }
+        return objectMapper.readTree(response.body());
+    }
+}
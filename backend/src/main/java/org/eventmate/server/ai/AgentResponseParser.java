@@ -0,0 +1,63 @@
+package org.eventmate.server.ai;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.dto.ChatResponse;
+
+/**
+ * AgentResponseParser - Turns EventAgent output into a ChatResponse, detecting NAVIGATE commands.
+ * Shared by the blocking and the streaming chat endpoints.
+ */
+@Slf4j
+public final class AgentResponseParser {
+
+    private static final ObjectMapper objectMapper = new ObjectMapper();
+
+    private AgentResponseParser() {
+    }
+
+    /**
+     * Parse AI response to detect navigation commands
+     */
+    public static ChatResponse parse(String aiResponse) {
+        try {
+            // Check if response is a JSON command
+            String trimmed = aiResponse.trim();
+            if (looksLikeCommand(trimmed)) {
+                JsonNode json = objectMapper.readTree(trimmed);
+
+                if (json.has("action") && "NAVIGATE".equals(json.get("action").asText())) {
+                    String friendlyMessage = json.has("message") ? json.get("message").asText() : "Navigating...";
+                    return ChatResponse.builder()
+                            .response(friendlyMessage)
+                            .isCommand(true)
+                            .action("NAVIGATE")
+                            .target(json.has("target") ? json.get("target").asText() : null)
+                            .message(friendlyMessage)
+                            .build();
+                }
+            }
+        } catch (Exception e) {
+            // Not a valid JSON command, treat as text response
+            log.debug("Response is not a command: {}", e.getMessage());
+        }
+
+        // Regular text response
+        return ChatResponse.builder()
+                .response(aiResponse)
+                .isCommand(false)
+                .build();
+    }
+
+    public static boolean looksLikeCommand(String trimmed) {
+        return trimmed.startsWith("{") && trimmed.contains("\"action\"");
+    }
+
+    public static ChatResponse fallback() {
+        return ChatResponse.builder()
+                .response("I'm having trouble processing your request right now. Please try again.")
+                .isCommand(false)
+                .build();
+    }
+}
@@ -0,0 +1,132 @@
+package org.eventmate.server.ai;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+/**
+ * Bm25Index - Small in-memory Okapi BM25 index for ranking catalogue records against a chat message.
+ * Immutable once built, so it can be shared between request threads without locking.
+ *
+ * @param <T> the record returned for each indexed document
+ */
+public final class Bm25Index<T> {
+
+    private static final double K1 = 1.2;
+    private static final double B = 0.75;
+
+    private static final Set<String> STOP_WORDS = Set.of(
+            "a", "an", "and", "any", "are", "about", "can", "do", "for", "from", "have", "how", "i", "in",
+            "is", "it", "me", "my", "of", "on", "or", "please", "show", "tell", "that", "the", "there",
+            "this", "to", "what", "when", "where", "which", "who", "with", "you", "your");
+
+    private final List<T> documents;
+    private final List<Map<String, Integer>> termFrequencies;
+    private final int[] lengths;
+    private final Map<String, Double> idf;
+    private final double averageLength;
+
+    private Bm25Index(List<T> documents, List<Map<String, Integer>> termFrequencies, int[] lengths,
+            Map<String, Double> idf, double averageLength) {
+        this.documents = documents;
+        this.termFrequencies = termFrequencies;
+        this.lengths = lengths;
+        this.idf = idf;
+        this.averageLength = averageLength;
+    }
+
+    /**
+     * @param texts searchable text of each document, in the same order as {@code documents}
+     */
+    public static <T> Bm25Index<T> build(List<T> documents, List<String> texts) {
+        List<Map<String, Integer>> termFrequencies = new ArrayList<>(documents.size());
+        int[] lengths = new int[documents.size()];
+        Map<String, Integer> documentFrequency = new HashMap<>();
+        long totalLength = 0;
+
+        for (int i = 0; i < documents.size(); i++) {
+            List<String> tokens = tokenize(texts.get(i));
+            Map<String, Integer> tf = new HashMap<>();
+            for (String token : tokens) {
+                tf.merge(token, 1, Integer::sum);
+            }
+            for (String term : tf.keySet()) {
+                documentFrequency.merge(term, 1, Integer::sum);
+            }
+            termFrequencies.add(tf);
+            lengths[i] = tokens.size();
+            totalLength += tokens.size();
+        }
+
+        int n = documents.size();
+        Map<String, Double> idf = new HashMap<>(documentFrequency.size() * 2);
+        documentFrequency.forEach((term, df) -> idf.put(term, Math.log(1 + (n - df + 0.5) / (df + 0.5))));
+
+        return new Bm25Index<>(List.copyOf(documents), termFrequencies, lengths, idf,
+                n == 0 ? 0 : (double) totalLength / n);
+    }
+
+    /**
+     * Documents with a positive score for the query, best first
+     */
+    public List<T> search(String query, int limit) {
+        List<String> terms = tokenize(query).stream().distinct().filter(idf::containsKey).toList();
+        if (terms.isEmpty()) {
+            return List.of();
+        }
+
+        double[] scores = new double[documents.size()];
+        for (int i = 0; i < documents.size(); i++) {
+            Map<String, Integer> tf = termFrequencies.get(i);
+            double norm = K1 * (1 - B + B * lengths[i] / Math.max(averageLength, 1));
+            for (String term : terms) {
+                Integer f = tf.get(term);
+                if (f != null) {
+                    scores[i] += idf.get(term) * (f * (K1 + 1)) / (f + norm);
+                }
+            }
+        }
+
+        Integer[] order = new Integer[documents.size()];
+        Arrays.setAll(order, i -> i);
+        Arrays.sort(order, Comparator.comparingDouble((Integer i) -> scores[i]).reversed());
+
+        List<T> results = new ArrayList<>(Math.min(limit, documents.size()));
+        for (Integer i : order) {
+            if (scores[i] <= 0 || results.size() >= limit) {
+                break;
+            }
+            results.add(documents.get(i));
+        }
+        return results;
+    }
+
+    public int size() {
+        return documents.size();
+    }
+
+    /**
+     * Lower-cased alphanumeric terms without stop words; a trailing plural "s" is dropped so
+     * "concerts" matches "concert".
+     */
+    public static List<String> tokenize(String text) {
+        if (text == null || text.isBlank()) {
+            return List.of();
+        }
+        List<String> tokens = new ArrayList<>();
+        for (String raw : text.toLowerCase(Locale.ROOT).split("[^\\p{L}\\p{N}]+")) {
+            if (raw.length() < 2 || STOP_WORDS.contains(raw)) {
+                continue;
+            }
+            tokens.add(raw.length() > 3 && raw.endsWith("s") && !raw.endsWith("ss")
+                    ? raw.substring(0, raw.length() - 1)
+                    : raw);
+        }
+        return tokens;
+    }
+}
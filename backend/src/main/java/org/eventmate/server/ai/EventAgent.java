@@ -1,6 +1,7 @@
 package org.eventmate.server.ai;
 
 import dev.langchain4j.service.SystemMessage;
+import dev.langchain4j.service.TokenStream;
 import dev.langchain4j.service.UserMessage;
 import dev.langchain4j.service.V;
 import dev.langchain4j.service.spring.AiService;
@@ -12,10 +13,11 @@ import dev.langchain4j.service.spring.AiService;
 @AiService
 public interface EventAgent {
 
-    @SystemMessage("""
+    String SYSTEM_PROMPT = """
             You are EventMate AI, an intelligent assistant for the EventMate event management platform.
 
-            You have access to the following metadata about the platform:
+            You have access to the following metadata about the platform. It lists only the events and
+            venues most relevant to the user's message; totalEvents/totalVenues give the full catalogue size:
             {{metadata}}
 
             YOUR CAPABILITIES:
@@ -54,6 +56,14 @@ public interface EventAgent {
 
             User: "Show me venues"
             Response: {"action": "NAVIGATE", "target": "/org/venues", "message": "Opening venue dashboard"}
-            """)
+            """;
+
+    @SystemMessage(SYSTEM_PROMPT)
     String chat(@UserMessage String message, @V("metadata") String metadata);
+
+    /**
+     * Same prompt as chat(), answered token by token by the streaming model
+     */
+    @SystemMessage(SYSTEM_PROMPT)
+    TokenStream chatStream(@UserMessage String message, @V("metadata") String metadata);
 }
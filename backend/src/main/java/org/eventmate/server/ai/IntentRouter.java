@@ -0,0 +1,212 @@
+package org.eventmate.server.ai;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.dto.ChatResponse;
+import org.eventmate.server.service.MetadataService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * IntentRouter - Answers plain navigation requests in-process so they don't cost a Gemini round trip.
+ *
+ * A message is routed locally only if it asks to go somewhere ("take me to", "open", "... page")
+ * and isn't a question. "event 12" style references are resolved against the metadata snapshot;
+ * everything else is scored against the example phrases below (the routes EventAgent's system
+ * prompt knows about) by cosine similarity of word uni/bigram vectors, nearest example wins.
+ * Anything below min-confidence falls through to the model.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class IntentRouter {
+
+    private static final Pattern NAVIGATION_CUE = Pattern.compile(
+            "\\b(take|go|goto|navigate|open|bring|show|switch|jump|head|visit|launch)\\b|\\bpage\\b|\\bdashboard\\b");
+    private static final Pattern QUESTION = Pattern.compile(
+            "\\b(what|which|when|why|how|who|whose|recommend|suggest|is|are|does|do|should|could)\\b");
+    // Only an explicit id ("event #12", "event id 12") or a bare number that ends the request ("open
+    // event 12"), so "event 2025 schedule" or "event 3 days from now" go to the model
+    private static final Pattern EVENT_ID = Pattern.compile(
+            "\\bevent\\s*(?:(?:id|no\\.?|number)\\s*[:#]?|#)\\s*(\\d{1,12})\\b|\\bevent\\s+(\\d{1,12})\\s*[.!]*$");
+    private static final Pattern EVENT_NUMBER = Pattern.compile("\\bevent\\s+\\d");
+
+    // Words that say "navigate" rather than where to; they don't help tell routes apart
+    private static final Set<String> CUE_TERMS = Set.of(
+            "take", "go", "goto", "navigate", "open", "bring", "switch", "jump", "head", "visit", "launch",
+            "page", "screen", "want", "need", "let", "please", "now", "can", "would", "like");
+
+    private static final List<Route> ROUTES = List.of(
+            new Route("/events", "Opening all events", List.of(
+                    "browse events", "all events", "event list", "events page", "explore events",
+                    "discover events", "find events", "event listing", "upcoming events")),
+            new Route("/org/events", "Opening your events dashboard", List.of(
+                    "my events dashboard", "organization events", "manage my events", "org dashboard",
+                    "organizer dashboard", "events i organize", "dashboard", "my organized events")),
+            new Route("/org/events/create", "Opening event creation page", List.of(
+                    "create event", "new event", "create a new event", "host an event", "add event",
+                    "event creation", "organize a new event", "publish an event")),
+            new Route("/org/venues", "Opening venue dashboard", List.of(
+                    "venues", "venue dashboard", "manage venues", "venue management", "my venues",
+                    "venue list")),
+            new Route("/org/venues/create", "Opening venue creation page", List.of(
+                    "create venue", "new venue", "add venue", "register a venue", "venue creation",
+                    "add a new venue")),
+            new Route("/bookings", "Opening your bookings", List.of(
+                    "my bookings", "bookings", "my tickets", "tickets", "registrations", "my reservations",
+                    "booked events", "my registrations")),
+            new Route("/profile", "Opening your profile", List.of(
+                    "profile", "my profile", "account settings", "settings", "edit profile", "my account",
+                    "profile settings")));
+
+    private static final List<Example> EXAMPLES = train();
+
+    private final MetadataService metadataService;
+
+    @Value("${app.ai.router.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.ai.router.min-confidence:0.6}")
+    private double minConfidence;
+
+    /**
+     * A NAVIGATE command if the message is a plain navigation request, otherwise empty
+     */
+    public Optional<ChatResponse> route(String message) {
+        if (!enabled || message == null || message.isBlank() || message.length() > 200) {
+            return Optional.empty();
+        }
+        String text = message.toLowerCase(Locale.ROOT);
+        if (QUESTION.matcher(text).find()) {
+            return Optional.empty();
+        }
+
+        Matcher eventId = EVENT_ID.matcher(text);
+        if (eventId.find()) {
+            String id = eventId.group(1) != null ? eventId.group(1) : eventId.group(2);
+            return Optional.of(eventLookup(Long.parseLong(id)));
+        }
+        if (EVENT_NUMBER.matcher(text).find()) {
+            // A number next to "event" that may or may not be an id; let the model read it
+            return Optional.empty();
+        }
+
+        List<String> words = contentWords(text);
+        boolean cue = NAVIGATION_CUE.matcher(text).find();
+        // Without a cue only terse requests ("my bookings", "add a new venue") count as navigation
+        if (words.isEmpty() || (!cue && words.size() > 3)) {
+            return Optional.empty();
+        }
+
+        Map<String, Double> vector = normalize(count(ngrams(words)));
+        int best = -1;
+        double bestScore = 0;
+        for (Example example : EXAMPLES) {
+            double score = dot(vector, example.vector);
+            if (score > bestScore) {
+                bestScore = score;
+                best = example.route;
+            }
+        }
+        if (best < 0 || bestScore < minConfidence) {
+            return Optional.empty();
+        }
+        Route route = ROUTES.get(best);
+        log.debug("Routed '{}' to {} locally (score {})", message, route.target, bestScore);
+        return Optional.of(navigate(route.target, route.message));
+    }
+
+    private ChatResponse eventLookup(long eventId) {
+        Map<String, Object> event = metadataService.getSnapshot().events().get(eventId);
+        if (event == null) {
+            return ChatResponse.builder()
+                    .response("I couldn't find an active event with ID " + eventId
+                            + ". It may have ended or not be published yet.")
+                    .isCommand(false)
+                    .build();
+        }
+        return navigate("/event/" + eventId, "Opening " + event.get("title"));
+    }
+
+    private static ChatResponse navigate(String target, String message) {
+        return ChatResponse.builder()
+                .response(message)
+                .isCommand(true)
+                .action("NAVIGATE")
+                .target(target)
+                .message(message)
+                .build();
+    }
+
+    private static List<String> contentWords(String text) {
+        List<String> words = new ArrayList<>();
+        for (String token : Bm25Index.tokenize(text)) {
+            if (!CUE_TERMS.contains(token)) {
+                words.add(token);
+            }
+        }
+        return words;
+    }
+
+    // Unigrams and bigrams
+    private static List<String> ngrams(List<String> words) {
+        List<String> features = new ArrayList<>(words);
+        for (int i = 1; i < words.size(); i++) {
+            features.add(words.get(i - 1) + " " + words.get(i));
+        }
+        return features;
+    }
+
+    private static List<Example> train() {
+        List<Example> examples = new ArrayList<>();
+        for (int i = 0; i < ROUTES.size(); i++) {
+            for (String phrase : ROUTES.get(i).examples) {
+                examples.add(new Example(i, normalize(count(ngrams(contentWords(phrase))))));
+            }
+        }
+        return examples;
+    }
+
+    private static Map<String, Double> count(List<String> features) {
+        Map<String, Double> counts = new HashMap<>();
+        for (String feature : features) {
+            counts.merge(feature, 1.0, Double::sum);
+        }
+        return counts;
+    }
+
+    private static Map<String, Double> normalize(Map<String, Double> vector) {
+        double norm = Math.sqrt(vector.values().stream().mapToDouble(v -> v * v).sum());
+        if (norm > 0) {
+            vector.replaceAll((term, weight) -> weight / norm);
+        }
+        return vector;
+    }
+
+    private static double dot(Map<String, Double> a, Map<String, Double> b) {
+        double sum = 0;
+        for (Map.Entry<String, Double> entry : a.entrySet()) {
+            Double other = b.get(entry.getKey());
+            if (other != null) {
+                sum += entry.getValue() * other;
+            }
+        }
+        return sum;
+    }
+
+    private record Route(String target, String message, List<String> examples) {
+    }
+
+    private record Example(int route, Map<String, Double> vector) {
+    }
+}
@@ -1,11 +1,17 @@
 package org.eventmate.server.config;
 
 import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
 import dev.langchain4j.model.googleai.GoogleAiGeminiChatModel;
+import dev.langchain4j.model.googleai.GoogleAiGeminiStreamingChatModel;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 
+import java.time.Duration;
+import java.util.List;
+
 /**
  * AI Configuration - Configures LangChain4j with Google Gemini
  */
@@ -24,20 +30,46 @@ public class AiConfig {
     @Value("${ai.gemini.max-output-tokens:1024}")
     private int maxOutputTokens;
 
+    @Value("${app.ai.stream.timeout-ms:60000}")
+    private long streamTimeoutMs;
+
     @Bean
-    public ChatLanguageModel chatLanguageModel() {
-        if (geminiApiKey == null || geminiApiKey.isEmpty()) {
-            throw new IllegalStateException(
-                    "GEMINI_API_KEY environment variable is not set. " +
-                            "Please set it in your environment or .env file. " +
-                            "Get your key from: https://aistudio.google.com/app/apikey");
-        }
+    public ChatLanguageModel chatLanguageModel(List<ChatModelListener> listeners) {
+        requireApiKey();
 
         return GoogleAiGeminiChatModel.builder()
                 .apiKey(geminiApiKey)
                 .modelName(modelName)
                 .temperature(temperature)
                 .maxOutputTokens(maxOutputTokens)
+                .listeners(listeners)
                 .build();
     }
+
+    /**
+     * Backs EventAgent.chatStream - tokens are pushed to /api/ai/chat/stream as Gemini produces them.
+     * Times out with the SSE stream, since that bounds how long a stream holds its AiCallGuard slot.
+     */
+    @Bean
+    public StreamingChatLanguageModel streamingChatLanguageModel(List<ChatModelListener> listeners) {
+        requireApiKey();
+
+        return GoogleAiGeminiStreamingChatModel.builder()
+                .apiKey(geminiApiKey)
+                .modelName(modelName)
+                .temperature(temperature)
+                .maxOutputTokens(maxOutputTokens)
+                .timeout(Duration.ofMillis(streamTimeoutMs))
+                .listeners(listeners)
+                .build();
+    }
+
+    private void requireApiKey() {
+        if (geminiApiKey == null || geminiApiKey.isEmpty()) {
+            throw new IllegalStateException(
+                    "GEMINI_API_KEY environment variable is not set. " +
+                            "Please set it in your environment or .env file. " +
+                            "Get your key from: https://aistudio.google.com/app/apikey");
+        }
+    }
 }
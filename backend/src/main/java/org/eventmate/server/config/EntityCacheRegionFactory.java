@@ -0,0 +1,56 @@
+package org.eventmate.server.config;
+
+import com.github.benmanes.caffeine.jcache.configuration.CaffeineConfiguration;
+import org.eventmate.server.entity.CacheRegions;
+import org.hibernate.boot.spi.SessionFactoryOptions;
+import org.hibernate.cache.jcache.internal.JCacheRegionFactory;
+import org.hibernate.internal.util.config.ConfigurationHelper;
+
+import javax.cache.Cache;
+import java.net.URI;
+import java.util.Map;
+import java.util.OptionalLong;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * EntityCacheRegionFactory - Hibernate's JCache region factory backed by in-process Caffeine caches
+ * (see CacheRegions), set as hibernate.cache.region.factory_class.
+ *
+ * Every session factory gets its own cache manager, so two application contexts in one JVM (tests,
+ * benchmarks) never read each other's rows. Regions hold at most max_entries and expire after
+ * ttl_minutes, which bounds how long a write made by another instance can go unseen.
+ */
+public class EntityCacheRegionFactory extends JCacheRegionFactory {
+
+    public static final String MAX_ENTRIES = "eventmate.entity_cache.max_entries";
+    public static final String TTL_MINUTES = "eventmate.entity_cache.ttl_minutes";
+
+    private final URI uri = URI.create("entity-cache-" + UUID.randomUUID());
+    private long maxEntries;
+    private long ttlMinutes;
+
+    @Override
+    protected void prepareForUse(SessionFactoryOptions settings, Map<String, Object> properties) {
+        maxEntries = ConfigurationHelper.getLong(MAX_ENTRIES, properties, 10000);
+        ttlMinutes = ConfigurationHelper.getLong(TTL_MINUTES, properties, 5);
+        super.prepareForUse(settings, properties);
+    }
+
+    @Override
+    protected URI getUri(SessionFactoryOptions settings, Map<String, Object> properties) {
+        return uri;
+    }
+
+    @Override
+    protected Cache<Object, Object> createCache(String regionName) {
+        // Hibernate stores immutable disassembled state, so entries are kept by reference
+        CaffeineConfiguration<Object, Object> configuration = new CaffeineConfiguration<>().setStoreByValue(false);
+        // Timestamps must outlive every query result they vouch for: never evicted, never expired
+        if (!CacheRegions.UPDATE_TIMESTAMPS.equals(regionName)) {
+            configuration.setMaximumSize(OptionalLong.of(maxEntries))
+                    .setExpireAfterWrite(OptionalLong.of(TimeUnit.MINUTES.toNanos(ttlMinutes)));
+        }
+        return getCacheManager().createCache(regionName, configuration);
+    }
+}
@@ -0,0 +1,53 @@
+package org.eventmate.server.config;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.entity.IdSequences;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+/**
+ * Id Sequence Configuration - Makes sure no id_sequences row is below the highest id already in
+ * its table, so ids handed out by Hibernate never collide with rows written by AUTO_INCREMENT
+ * before the switch. Runs before any request or scheduled job.
+ *
+ * The check only sees rows that exist at startup. A node still running the AUTO_INCREMENT version
+ * keeps inserting into ids that this node may already have reserved, so moving a table onto
+ * id_sequences needs a stop-the-world deploy: every old node stopped before the first new one
+ * starts.
+ */
+@Configuration
+@RequiredArgsConstructor
+@Slf4j
+public class IdSequenceConfig {
+
+    private final JdbcTemplate jdbcTemplate;
+    // Hibernate has created or updated the schema (including id_sequences) once this exists
+    private final EntityManagerFactory entityManagerFactory;
+
+    @PostConstruct
+    void seedIdSequences() {
+        IdSequences.ID_COLUMNS.forEach(this::seed);
+    }
+
+    void seed(String name, String idColumn) {
+        long last = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(" + idColumn + "), 0) FROM " + name, Long.class);
+        String moveUp = "UPDATE " + IdSequences.TABLE + " SET " + IdSequences.VALUE_COLUMN + " = ? WHERE "
+                + IdSequences.NAME_COLUMN + " = ? AND " + IdSequences.VALUE_COLUMN + " < ?";
+        if (jdbcTemplate.update(moveUp, last, name, last) > 0) {
+            log.info("Id sequence {} moved up to {}", name, last);
+            return;
+        }
+        try {
+            jdbcTemplate.update("INSERT INTO " + IdSequences.TABLE + " (" + IdSequences.NAME_COLUMN + ", "
+                    + IdSequences.VALUE_COLUMN + ") VALUES (?, ?)", name, last);
+            log.info("Id sequence {} starts after {}", name, last);
+        } catch (DuplicateKeyException e) {
+            // Row already there and already far enough, or another node just created it
+            jdbcTemplate.update(moveUp, last, name, last);
+        }
+    }
+}
@@ -0,0 +1,36 @@
+package org.eventmate.server.config;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.aop.TimedAspect;
+import io.micrometer.core.instrument.MeterRegistry;
+import org.eventmate.server.metrics.TimedJsonConverter;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+/**
+ * Metrics Configuration - Wiring for the timers that Spring Boot doesn't register by itself.
+ *
+ * Boot already covers controllers (http.server.requests), repositories
+ * (spring.data.repository.invocations), the Hikari pool (hikaricp.*) and MongoDB
+ * (mongodb.driver.*); this adds @Timed service methods and JSON serialization time. Per-request
+ * SQL statement counts come from QueryCounter and RequestMetricsFilter. Everything is served at
+ * /actuator/metrics and /actuator/prometheus.
+ */
+@Configuration
+public class MetricsConfig {
+
+    @Bean
+    public TimedAspect timedAspect(MeterRegistry meterRegistry) {
+        return new TimedAspect(meterRegistry);
+    }
+
+    /**
+     * Replaces Boot's default Jackson converter, which backs off when one is defined
+     */
+    @Bean
+    public MappingJackson2HttpMessageConverter mappingJackson2HttpMessageConverter(ObjectMapper objectMapper,
+            MeterRegistry meterRegistry) {
+        return new TimedJsonConverter(objectMapper, meterRegistry);
+    }
+}
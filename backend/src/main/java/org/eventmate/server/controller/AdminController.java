@@ -2,15 +2,31 @@ package org.eventmate.server.controller;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.dto.AdminEventSummary;
+import org.eventmate.server.dto.AdminUserSummary;
+import org.eventmate.server.dto.AdmissionQueueStats;
 import org.eventmate.server.dto.AnalyticsResponse;
+import org.eventmate.server.dto.PagedResponse;
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.entity.EventDailyStats;
 import org.eventmate.server.entity.Role;
 import org.eventmate.server.entity.Transaction;
 import org.eventmate.server.entity.User;
 import org.eventmate.server.service.AdminService;
+import org.eventmate.server.service.AdmissionQueueService;
+import org.eventmate.server.service.AiCallGuard;
+import org.eventmate.server.service.AiResponseCache;
+import org.eventmate.server.service.AnalyticsService;
+import org.eventmate.server.service.EntityCacheService;
+import org.eventmate.server.service.ExportService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.time.LocalDate;
 import java.util.List;
+import java.util.Map;
 
 @RestController
 @RequestMapping("/api/admin")
@@ -21,12 +37,97 @@ import java.util.List;
 public class AdminController {
 
     private final AdminService adminService;
+    private final AdmissionQueueService admissionQueueService;
+    private final AiResponseCache aiResponseCache;
+    private final AiCallGuard aiCallGuard;
+    private final AnalyticsService analyticsService;
+    private final EntityCacheService entityCacheService;
+    private final ExportService exportService;
 
     @GetMapping("/analytics")
     public ResponseEntity<AnalyticsResponse> getAnalytics() {
         return ResponseEntity.ok(adminService.getAnalytics());
     }
 
+    /**
+     * Daily bookings, cancellations and revenue of one event (defaults to the last 30 days)
+     */
+    @GetMapping("/analytics/events/{eventId}/daily")
+    public ResponseEntity<List<EventDailyStats>> getEventDailyStats(
+            @PathVariable Long eventId,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to) {
+        LocalDate end = to != null ? to : LocalDate.now();
+        LocalDate start = from != null ? from : end.minusDays(29);
+        return ResponseEntity.ok(analyticsService.getDailySeries(eventId, start, end));
+    }
+
+    /**
+     * Waiting-room depth and admit rate for events with registration opening now
+     */
+    @GetMapping("/admission-queues")
+    public ResponseEntity<List<AdmissionQueueStats>> getAdmissionQueues() {
+        return ResponseEntity.ok(admissionQueueService.getStats());
+    }
+
+    /**
+     * Hit/miss counters of the AI assistant's response cache
+     */
+    @GetMapping("/ai-cache")
+    public ResponseEntity<Map<String, Object>> getAiCacheStats() {
+        return ResponseEntity.ok(aiResponseCache.getStats());
+    }
+
+    /**
+     * Hit/miss counters of the second-level cache regions (venues, tiers, guests, users)
+     */
+    @GetMapping("/entity-cache")
+    public ResponseEntity<Map<String, Object>> getEntityCacheStats() {
+        return ResponseEntity.ok(entityCacheService.getStats());
+    }
+
+    /**
+     * Empties the second-level cache after rows were changed directly in the database
+     */
+    @DeleteMapping("/entity-cache")
+    public ResponseEntity<String> clearEntityCache() {
+        entityCacheService.evictAll();
+        return ResponseEntity.ok("Entity cache cleared successfully");
+    }
+
+    /**
+     * Circuit state, bulkhead occupancy and latency of Gemini calls
+     */
+    @GetMapping("/ai-guard")
+    public ResponseEntity<Map<String, Object>> getAiGuardStats() {
+        return ResponseEntity.ok(aiCallGuard.getStats());
+    }
+
+    /**
+     * Transactions paid between from and to (inclusive), streamed as CSV or NDJSON, optionally gzipped
+     */
+    @GetMapping("/export/transactions")
+    public ResponseEntity<StreamingResponseBody> exportTransactions(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        return exportService.exportTransactions(ExportService.Format.from(format), from, to, gzip);
+    }
+
+    /**
+     * Users registered between from and to (inclusive), optionally of one role
+     */
+    @GetMapping("/export/users")
+    public ResponseEntity<StreamingResponseBody> exportUsers(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        return exportService.exportUsers(ExportService.Format.from(format), role, from, to, gzip);
+    }
+
     @GetMapping("/transactions")
     public ResponseEntity<List<Transaction>> getAllTransactions() {
         return ResponseEntity.ok(adminService.getAllTransactions());
@@ -37,6 +138,21 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getAllUsers());
     }
 
+    /**
+     * Paged, sortable user list for the admin console (sort: userId, fullName, email, role, createdAt)
+     */
+    @GetMapping("/users/page")
+    public ResponseEntity<PagedResponse<AdminUserSummary>> getUsersPage(
+            @RequestParam(required = false) Role role,
+            @RequestParam(required = false) Boolean active,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "desc") String direction) {
+        return ResponseEntity.ok(adminService.getUsersPage(role, active, search, page, size, sort, direction));
+    }
+
     @GetMapping("/users/role/{role}")
     public ResponseEntity<List<User>> getUsersByRole(@PathVariable Role role) {
         return ResponseEntity.ok(adminService.getUsersByRole(role));
@@ -62,6 +178,23 @@ public class AdminController {
         return ResponseEntity.ok(adminService.getAllEventsForAdmin(status));
     }
 
+    /**
+     * Paged, sortable event list for the admin console (sort: eventId, title, startDate, status, createdAt)
+     */
+    @GetMapping("/events/page")
+    public ResponseEntity<PagedResponse<AdminEventSummary>> getEventsPage(
+            @RequestParam(required = false) Event.EventStatus status,
+            @RequestParam(required = false) Boolean featured,
+            @RequestParam(required = false) Long organizerId,
+            @RequestParam(required = false) String search,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size,
+            @RequestParam(required = false) String sort,
+            @RequestParam(defaultValue = "desc") String direction) {
+        return ResponseEntity.ok(adminService.getEventsPage(status, featured, organizerId, search, page, size, sort,
+                direction));
+    }
+
     @GetMapping("/events/featured")
     public ResponseEntity<List<org.eventmate.server.entity.Event>> getFeaturedEvents() {
         return ResponseEntity.ok(adminService.getFeaturedEvents());
@@ -1,15 +1,24 @@
 package org.eventmate.server.controller;
 
-import com.fasterxml.jackson.databind.JsonNode;
-import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.ai.AgentResponseParser;
 import org.eventmate.server.ai.EventAgent;
+import org.eventmate.server.ai.IntentRouter;
 import org.eventmate.server.dto.ChatRequest;
 import org.eventmate.server.dto.ChatResponse;
+import org.eventmate.server.exception.custom.ServiceUnavailableException;
+import org.eventmate.server.service.AiCallGuard;
+import org.eventmate.server.service.AiContextService;
+import org.eventmate.server.service.AiResponseCache;
+import org.eventmate.server.service.AiStreamingService;
+import org.eventmate.server.service.CompressedResponseCache;
 import org.eventmate.server.service.MetadataService;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 
 /**
  * AI Chat Controller - Handles AI assistant interactions
@@ -23,34 +32,61 @@ public class AiController {
 
     private final EventAgent eventAgent;
     private final MetadataService metadataService;
-    private final ObjectMapper objectMapper = new ObjectMapper();
+    private final AiContextService aiContextService;
+    private final IntentRouter intentRouter;
+    private final AiResponseCache aiResponseCache;
+    private final AiStreamingService aiStreamingService;
+    private final AiCallGuard aiCallGuard;
+    private final CompressedResponseCache responseCache;
 
     @PostMapping("/chat")
     public ResponseEntity<ChatResponse> chat(@RequestBody ChatRequest request) {
         try {
             log.info("AI Chat request: {}", request.getMessage());
 
-            // 1. Get cached metadata for context
-            String metadata = metadataService.readMetadata();
+            // 0. Plain navigation requests are answered without calling the model
+            java.util.Optional<ChatResponse> routed = intentRouter.route(request.getMessage());
+            if (routed.isPresent()) {
+                return ResponseEntity.ok(routed.get());
+            }
+
+            // 1. Same question against the same metadata version -> reuse the earlier answer
+            long metadataVersion = metadataService.getSnapshot().version();
+            java.util.Optional<ChatResponse> cached = aiResponseCache.get(request.getMessage(), metadataVersion);
+            if (cached.isPresent()) {
+                return ResponseEntity.ok(cached.get());
+            }
 
-            // 2. Call AI Agent
-            String aiResponse = eventAgent.chat(request.getMessage(), metadata);
+            // 2. Get the events/venues relevant to this message from the metadata cache
+            String metadata = aiContextService.buildContext(request.getMessage());
+
+            // 3. Call AI Agent (bounded concurrency, deadline and circuit breaker)
+            String aiResponse = aiCallGuard.call(() -> eventAgent.chat(request.getMessage(), metadata));
             log.info("AI Response: {}", aiResponse);
 
-            // 3. Parse response to detect commands
-            ChatResponse response = parseAiResponse(aiResponse);
+            // 4. Parse response to detect commands
+            ChatResponse response = AgentResponseParser.parse(aiResponse);
+            aiResponseCache.put(request.getMessage(), metadataVersion, response);
 
             return ResponseEntity.ok(response);
 
+        } catch (ServiceUnavailableException e) {
+            log.warn("AI Chat unavailable: {}", e.getMessage());
+            return ResponseEntity.ok(AgentResponseParser.fallback());
         } catch (Exception e) {
             log.error("AI Chat error: ", e);
-            return ResponseEntity.ok(ChatResponse.builder()
-                    .response("I'm having trouble processing your request right now. Please try again.")
-                    .isCommand(false)
-                    .build());
+            return ResponseEntity.ok(AgentResponseParser.fallback());
         }
     }
 
+    /**
+     * Same as /chat, but the answer is streamed as server-sent events while Gemini generates it
+     */
+    @PostMapping(value = "/chat/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter chatStream(@RequestBody ChatRequest request) {
+        return aiStreamingService.stream(request.getMessage());
+    }
+
     @PostMapping("/sync-metadata")
     public ResponseEntity<String> syncMetadata() {
         metadataService.forceRefresh();
@@ -58,40 +94,8 @@ public class AiController {
     }
 
     @GetMapping("/metadata")
-    public ResponseEntity<String> getMetadata() {
-        return ResponseEntity.ok(metadataService.readMetadata());
-    }
-
-    /**
-     * Parse AI response to detect navigation commands
-     */
-    private ChatResponse parseAiResponse(String aiResponse) {
-        try {
-            // Check if response is a JSON command
-            String trimmed = aiResponse.trim();
-            if (trimmed.startsWith("{") && trimmed.contains("\"action\"")) {
-                JsonNode json = objectMapper.readTree(trimmed);
-
-                if (json.has("action") && "NAVIGATE".equals(json.get("action").asText())) {
-                    String friendlyMessage = json.has("message") ? json.get("message").asText() : "Navigating...";
-                    return ChatResponse.builder()
-                            .response(friendlyMessage)
-                            .isCommand(true)
-                            .action("NAVIGATE")
-                            .target(json.has("target") ? json.get("target").asText() : null)
-                            .message(friendlyMessage)
-                            .build();
-                }
-            }
-        } catch (Exception e) {
-            // Not a valid JSON command, treat as text response
-            log.debug("Response is not a command: {}", e.getMessage());
-        }
-
-        // Regular text response
-        return ChatResponse.builder()
-                .response(aiResponse)
-                .isCommand(false)
-                .build();
+    public ResponseEntity<byte[]> getMetadata(
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        return responseCache.rawJson("ai-metadata", metadataService::readMetadata).toResponse(acceptEncoding);
     }
 }
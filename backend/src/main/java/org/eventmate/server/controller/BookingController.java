@@ -3,14 +3,22 @@ package org.eventmate.server.controller;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.dto.AdmissionTicket;
 import org.eventmate.server.dto.BookingRequest;
 import org.eventmate.server.entity.Booking;
+import org.eventmate.server.service.AdmissionQueueService;
 import org.eventmate.server.service.BookingService;
+import org.eventmate.server.service.BookingWriteGuard;
 import org.eventmate.server.service.EventService;
+import org.eventmate.server.service.ExportService;
+import org.eventmate.server.service.IdempotencyService;
 import org.eventmate.server.service.UserContextService;
+import org.springframework.format.annotation.DateTimeFormat;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+import java.time.LocalDate;
 import java.util.List;
 import java.util.Map;
 
@@ -24,12 +32,41 @@ public class BookingController {
     private final BookingService bookingService;
     private final UserContextService userContextService;
     private final EventService eventService;
+    private final AdmissionQueueService admissionQueueService;
+    private final IdempotencyService idempotencyService;
+    private final ExportService exportService;
+    private final BookingWriteGuard bookingWriteGuard;
 
     @PostMapping("/enroll")
     @PreAuthorize("hasRole('USER')")
-    public ResponseEntity<Booking> enrollEvent(@Valid @RequestBody BookingRequest request) {
+    public ResponseEntity<Booking> enrollEvent(@Valid @RequestBody BookingRequest request,
+            @RequestHeader(value = "X-Admission-Token", required = false) String admissionToken,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         Long userId = userContextService.getCurrentUserId();
-        return ResponseEntity.ok(bookingService.enrollEvent(request, userId));
+        // A retried request with the same key gets the original booking back without queueing again
+        return ResponseEntity.ok(idempotencyService.execute("enroll", userId, idempotencyKey, request, Booking.class,
+                () -> {
+                    // Rejects excess demand during registration openings before the booking transaction starts
+                    admissionQueueService.admit(request.getEventId(), userId, admissionToken);
+                    return bookingWriteGuard.call(() -> bookingService.enrollEvent(request, userId));
+                }));
+    }
+
+    /**
+     * Join the waiting room for an event whose registration is opening
+     */
+    @PostMapping("/queue/{eventId}/join")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<AdmissionTicket> joinQueue(@PathVariable Long eventId) {
+        Long userId = userContextService.getCurrentUserId();
+        return ResponseEntity.ok(admissionQueueService.join(eventId, userId));
+    }
+
+    @GetMapping("/queue/{eventId}/status")
+    @PreAuthorize("hasRole('USER')")
+    public ResponseEntity<AdmissionTicket> queueStatus(@PathVariable Long eventId, @RequestParam String token) {
+        Long userId = userContextService.getCurrentUserId();
+        return ResponseEntity.ok(admissionQueueService.status(eventId, userId, token));
     }
 
     @GetMapping("/my-bookings")
@@ -57,11 +94,26 @@ public class BookingController {
         return ResponseEntity.ok(bookingService.getEventBookings(eventId));
     }
 
+    /**
+     * Attendee list of an event as a CSV/NDJSON download, streamed without loading it into memory
+     */
+    @GetMapping("/event/{eventId}/export")
+    @PreAuthorize("hasAnyRole('ORGANIZATION', 'ADMIN')")
+    public ResponseEntity<StreamingResponseBody> exportEventBookings(@PathVariable Long eventId,
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(defaultValue = "false") boolean gzip) {
+        Long userId = userContextService.getCurrentUserId();
+        return exportService.exportEventBookings(eventId, userId, userContextService.isCurrentUserAdmin(),
+                ExportService.Format.from(format), from, to, gzip);
+    }
+
     @DeleteMapping("/{bookingId}")
     @PreAuthorize("hasRole('USER')")
     public ResponseEntity<String> cancelBooking(@PathVariable Long bookingId) {
         Long userId = userContextService.getCurrentUserId();
-        bookingService.cancelBooking(bookingId, userId);
+        bookingWriteGuard.run(() -> bookingService.cancelBooking(bookingId, userId));
         return ResponseEntity.ok("Booking cancelled successfully");
     }
 
@@ -0,0 +1,50 @@
+package org.eventmate.server.controller;
+
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.dto.CheckInRequest;
+import org.eventmate.server.dto.CheckInResult;
+import org.eventmate.server.service.CheckInService;
+import org.eventmate.server.service.UserContextService;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.access.prepost.PreAuthorize;
+import org.springframework.web.bind.annotation.*;
+import java.util.List;
+import java.util.Map;
+
+@RestController
+@RequestMapping("/api/checkin")
+@RequiredArgsConstructor
+@CrossOrigin(origins = "*")
+@PreAuthorize("hasAnyRole('ORGANIZATION', 'ADMIN')")
+@Slf4j
+public class CheckInController {
+
+    private final CheckInService checkInService;
+    private final UserContextService userContextService;
+
+    @PostMapping("/{eventId}/scan")
+    public ResponseEntity<CheckInResult> scan(@PathVariable Long eventId, @Valid @RequestBody CheckInRequest request) {
+        Long userId = userContextService.getCurrentUserId();
+        return ResponseEntity.ok(checkInService.checkIn(eventId, userId, userContextService.isCurrentUserAdmin(),
+                request));
+    }
+
+    /**
+     * Upload scans collected while a scanner was offline
+     */
+    @PostMapping("/{eventId}/batch")
+    public ResponseEntity<List<CheckInResult>> scanBatch(@PathVariable Long eventId,
+            @Valid @RequestBody List<@Valid CheckInRequest> scans) {
+        Long userId = userContextService.getCurrentUserId();
+        return ResponseEntity.ok(checkInService.checkInBatch(eventId, userId, userContextService.isCurrentUserAdmin(),
+                scans));
+    }
+
+    @GetMapping("/{eventId}/stats")
+    public ResponseEntity<Map<String, Long>> stats(@PathVariable Long eventId) {
+        Long userId = userContextService.getCurrentUserId();
+        return ResponseEntity.ok(checkInService.getStats(eventId, userId, userContextService.isCurrentUserAdmin()));
+    }
+}
@@ -4,12 +4,18 @@ import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eventmate.server.dto.*;
+import org.eventmate.server.entity.Booking;
 import org.eventmate.server.entity.Event;
+import org.eventmate.server.service.BookingFactsService;
+import org.eventmate.server.service.CompressedResponseCache;
 import org.eventmate.server.service.EventService;
 import org.eventmate.server.service.UserContextService;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.access.prepost.PreAuthorize;
 import org.springframework.web.bind.annotation.*;
+import java.time.LocalDate;
 import java.util.List;
 
 @RestController
@@ -21,35 +27,45 @@ public class EventController {
 
     private final EventService eventService;
     private final UserContextService userContextService;
+    private final BookingFactsService bookingFactsService;
+    private final CompressedResponseCache responseCache;
 
+    /**
+     * The list endpoints and GET /{id} take ?fields=a,b,c (or "card") to return only those fields
+     */
     @GetMapping
-    public ResponseEntity<List<EventResponse>> getAllEvents() {
-        return ResponseEntity.ok(eventService.getAllEvents());
+    public ResponseEntity<List<EventResponse>> getAllEvents(@RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(eventService.getAllEvents(EventFields.parse(fields)));
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<EventResponse> getEventById(@PathVariable Long id) {
-        return ResponseEntity.ok(eventService.getEventById(id));
+    public ResponseEntity<byte[]> getEventById(@PathVariable Long id, @RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        EventFields selected = EventFields.parse(fields);
+        return responseCache.json("event:" + id + ":" + selected.key(), () -> eventService.getEventById(id),
+                selected.filters()).toResponse(acceptEncoding);
     }
 
     @GetMapping("/search")
-    public ResponseEntity<List<EventResponse>> searchEvents(@RequestParam String keyword) {
-        return ResponseEntity.ok(eventService.searchEvents(keyword));
+    public ResponseEntity<List<EventResponse>> searchEvents(@RequestParam String keyword,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(eventService.searchEvents(keyword, EventFields.parse(fields)));
     }
 
     @GetMapping("/filter")
-    public ResponseEntity<List<EventResponse>> filterByType(@RequestParam Event.EventType type) {
-        return ResponseEntity.ok(eventService.filterEventsByType(type));
+    public ResponseEntity<List<EventResponse>> filterByType(@RequestParam Event.EventType type,
+            @RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(eventService.filterEventsByType(type, EventFields.parse(fields)));
     }
 
     @GetMapping("/upcoming")
-    public ResponseEntity<List<EventResponse>> getUpcomingEvents() {
-        return ResponseEntity.ok(eventService.getUpcomingEvents());
+    public ResponseEntity<List<EventResponse>> getUpcomingEvents(@RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(eventService.getUpcomingEvents(EventFields.parse(fields)));
     }
 
     @GetMapping("/all")
-    public ResponseEntity<List<EventResponse>> getAllEventsForAttendee() {
-        return ResponseEntity.ok(eventService.getAllEventsForAttendee());
+    public ResponseEntity<List<EventResponse>> getAllEventsForAttendee(@RequestParam(required = false) String fields) {
+        return ResponseEntity.ok(eventService.getAllEventsForAttendee(EventFields.parse(fields)));
     }
 
     @PostMapping
@@ -77,13 +93,33 @@ public class EventController {
 
     @GetMapping("/my-events")
     @PreAuthorize("hasAnyRole('ORGANIZATION', 'ADMIN')")
-    public ResponseEntity<List<EventResponse>> getMyEvents() {
+    public ResponseEntity<List<EventResponse>> getMyEvents(@RequestParam(required = false) String fields) {
         Long organizerId = userContextService.getCurrentUserId();
-        return ResponseEntity.ok(eventService.getEventsByOrganizer(organizerId));
+        return ResponseEntity.ok(eventService.getEventsByOrganizer(organizerId, EventFields.parse(fields)));
+    }
+
+    /**
+     * Booking breakdown for the organizer dashboard: by status, type, day and top dietary,
+     * accessibility and company values, optionally for a date range, status or booking type
+     */
+    @GetMapping("/{id}/analytics")
+    @PreAuthorize("hasAnyRole('ORGANIZATION', 'ADMIN')")
+    public ResponseEntity<BookingBreakdown> getEventAnalytics(@PathVariable Long id,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate from,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate to,
+            @RequestParam(required = false) Booking.BookingStatus status,
+            @RequestParam(required = false) Booking.BookingType type,
+            @RequestParam(defaultValue = "10") int top) {
+        Long userId = userContextService.getCurrentUserId();
+        return ResponseEntity.ok(bookingFactsService.getBreakdown(id, userId, userContextService.isCurrentUserAdmin(),
+                from, to, status, type, top));
     }
 
     @GetMapping("/featured")
-    public ResponseEntity<List<EventResponse>> getFeaturedEvents() {
-        return ResponseEntity.ok(eventService.getFeaturedEvents());
+    public ResponseEntity<byte[]> getFeaturedEvents(@RequestParam(required = false) String fields,
+            @RequestHeader(value = HttpHeaders.ACCEPT_ENCODING, required = false) String acceptEncoding) {
+        EventFields selected = EventFields.parse(fields);
+        return responseCache.json("featured:" + selected.key(), () -> eventService.getFeaturedEvents(selected),
+                selected.filters()).toResponse(acceptEncoding);
     }
 }
@@ -0,0 +1,31 @@
+package org.eventmate.server.controller;
+
+import org.eventmate.server.dto.EventFields;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.servlet.mvc.method.annotation.AbstractMappingJacksonResponseBodyAdvice;
+
+/**
+ * EventFieldsAdvice - Writes only the EventResponse fields named in ?fields= on the event
+ * endpoints; other response types are written whole
+ */
+@ControllerAdvice(assignableTypes = EventController.class)
+public class EventFieldsAdvice extends AbstractMappingJacksonResponseBodyAdvice {
+
+    @Override
+    protected void beforeBodyWriteInternal(MappingJacksonValue bodyContainer, MediaType contentType,
+            MethodParameter returnType, ServerHttpRequest request, ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return;
+        }
+        EventFields fields = EventFields.parse(servletRequest.getServletRequest().getParameter("fields"));
+        if (!fields.isAll()) {
+            bodyContainer.setFilters(fields.filters());
+        }
+    }
+}
@@ -6,6 +6,7 @@ import lombok.extern.slf4j.Slf4j;
 import org.eventmate.server.dto.*;
 import org.eventmate.server.entity.Venue;
 import org.eventmate.server.entity.VenueBooking;
+import org.eventmate.server.service.IdempotencyService;
 import org.eventmate.server.service.UserContextService;
 import org.eventmate.server.service.VenueService;
 import org.springframework.http.ResponseEntity;
@@ -22,6 +23,7 @@ public class VenueController {
 
     private final VenueService venueService;
     private final UserContextService userContextService;
+    private final IdempotencyService idempotencyService;
 
     @GetMapping
     public ResponseEntity<List<Venue>> getAllVenues() {
@@ -66,9 +68,11 @@ public class VenueController {
 
     @PostMapping("/book")
     @PreAuthorize("hasAnyRole('ORGANIZATION', 'ADMIN')")
-    public ResponseEntity<VenueBooking> bookVenue(@Valid @RequestBody VenueBookingRequest request) {
+    public ResponseEntity<VenueBooking> bookVenue(@Valid @RequestBody VenueBookingRequest request,
+            @RequestHeader(value = "Idempotency-Key", required = false) String idempotencyKey) {
         Long userId = userContextService.getCurrentUserId();
-        return ResponseEntity.ok(venueService.bookVenue(request, userId));
+        return ResponseEntity.ok(idempotencyService.execute("venue-book", userId, idempotencyKey, request,
+                VenueBooking.class, () -> venueService.bookVenue(request, userId)));
     }
 
     @DeleteMapping("/bookings/{bookingId}")
@@ -0,0 +1,24 @@
+package org.eventmate.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.eventmate.server.entity.Event;
+import java.time.LocalDateTime;
+
+/**
+ * One row of the admin event list - no venue, guests or JSON columns
+ */
+@Data
+@AllArgsConstructor
+public class AdminEventSummary {
+    private Long eventId;
+    private Long organizerId;
+    private String title;
+    private Event.EventType eventType;
+    private Event.EventFormat eventFormat;
+    private Event.EventStatus status;
+    private LocalDateTime startDate;
+    private String bannerImageId;
+    private Boolean isFeatured;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,22 @@
+package org.eventmate.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.eventmate.server.entity.Role;
+import java.time.LocalDateTime;
+
+/**
+ * One row of the admin user list - only what the table shows, no social links or secrets
+ */
+@Data
+@AllArgsConstructor
+public class AdminUserSummary {
+    private Long userId;
+    private String fullName;
+    private String email;
+    private Role role;
+    private String phoneNumber;
+    private String companyName;
+    private Boolean isActive;
+    private LocalDateTime createdAt;
+}
@@ -0,0 +1,18 @@
+package org.eventmate.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+public class AdmissionQueueStats {
+    private Long eventId;
+    private LocalDateTime registrationOpenDate;
+    private boolean active;
+    private Long queueDepth;
+    private Long admittedTotal;
+    private Long admittedLastSecond;
+    private Long rejectedTotal;
+    private Integer admitRatePerSecond;
+}
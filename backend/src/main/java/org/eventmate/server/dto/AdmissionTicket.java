@@ -0,0 +1,14 @@
+package org.eventmate.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+
+@Data
+@AllArgsConstructor
+public class AdmissionTicket {
+    private Long eventId;
+    private String token; // Send as X-Admission-Token on /api/bookings/enroll; null when no queue is running
+    private boolean admitted;
+    private Long peopleAhead;
+    private Long estimatedWaitSeconds;
+}
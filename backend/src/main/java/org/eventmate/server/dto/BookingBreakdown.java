@@ -0,0 +1,23 @@
+package org.eventmate.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.eventmate.server.entity.Booking;
+import java.time.LocalDate;
+import java.util.Map;
+
+/**
+ * Organizer dashboard numbers for one event; the free-text maps hold the most common values, largest first
+ */
+@Data
+@AllArgsConstructor
+public class BookingBreakdown {
+    private Long eventId;
+    private long bookings;
+    private Map<Booking.BookingStatus, Long> byStatus;
+    private Map<Booking.BookingType, Long> byType;
+    private Map<LocalDate, Long> byDay;
+    private Map<String, Long> dietaryRestrictions;
+    private Map<String, Long> accessibilityNeeds;
+    private Map<String, Long> companies;
+}
@@ -37,4 +37,6 @@ public class BookingRequest {
     private Integer seatNumber; // For ONSITE events
 
     private java.util.List<String> invitedUsers; // List of emails or usernames to invite
+
+    private Boolean joinWaitlist; // If the event is full, queue instead of failing (invitedUsers are then dropped)
 }
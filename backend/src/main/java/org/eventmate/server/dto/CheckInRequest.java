@@ -0,0 +1,13 @@
+package org.eventmate.server.dto;
+
+import jakarta.validation.constraints.NotBlank;
+import lombok.Data;
+import java.time.LocalDateTime;
+
+@Data
+public class CheckInRequest {
+    @NotBlank(message = "Ticket code is required")
+    private String ticketCode;
+
+    private LocalDateTime scannedAt; // Set by offline scanners; defaults to the time the server sees the scan
+}
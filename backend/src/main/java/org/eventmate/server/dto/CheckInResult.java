@@ -0,0 +1,24 @@
+package org.eventmate.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.time.LocalDateTime;
+
+@Data
+@AllArgsConstructor
+@NoArgsConstructor
+public class CheckInResult {
+    private String ticketCode;
+    private Outcome outcome;
+    private Long bookingId;
+    private String attendeeName;
+    private Integer seatNumber;
+    private LocalDateTime checkinTime; // For ALREADY_CHECKED_IN: when the ticket was first scanned
+
+    public enum Outcome {
+        CHECKED_IN,
+        ALREADY_CHECKED_IN,
+        INVALID
+    }
+}
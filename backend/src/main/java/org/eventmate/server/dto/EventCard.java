@@ -0,0 +1,33 @@
+package org.eventmate.server.dto;
+
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import org.eventmate.server.entity.Event;
+import java.time.LocalDateTime;
+
+/**
+ * The scalar columns of an event, for list views - no TEXT or JSON columns, tiers or guests, and
+ * only the venue's id, name and city
+ */
+@Data
+@AllArgsConstructor
+public class EventCard {
+    private Long eventId;
+    private String title;
+    private String tagline;
+    private Event.EventType eventType;
+    private Event.EventFormat eventFormat;
+    private Event.EventStatus status;
+    private LocalDateTime startDate;
+    private LocalDateTime endDate;
+    private LocalDateTime registrationOpenDate;
+    private LocalDateTime registrationCloseDate;
+    private Integer totalCapacity;
+    private Long venueId;
+    private String venueName;
+    private String venueCity;
+    private String bannerImageId;
+    private Event.TicketType ticketType;
+    private Double ticketPrice;
+    private Boolean isFeatured;
+}
@@ -0,0 +1,103 @@
+package org.eventmate.server.dto;
+
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import com.fasterxml.jackson.databind.ser.impl.SimpleBeanPropertyFilter;
+import com.fasterxml.jackson.databind.ser.impl.SimpleFilterProvider;
+import org.eventmate.server.exception.custom.ValidationException;
+
+import java.lang.reflect.Field;
+import java.lang.reflect.Modifier;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.Set;
+import java.util.TreeSet;
+import java.util.stream.Collectors;
+import java.util.stream.Stream;
+
+/**
+ * EventFields - The EventResponse fields a client asked for with ?fields=, e.g.
+ * fields=eventId,title,startDate. "card" stands for what an event card shows; no parameter means
+ * every field.
+ *
+ * When every requested field is a scalar column or a count, the list endpoints read EventCard rows
+ * instead of whole events.
+ */
+public final class EventFields {
+
+    public static final String FILTER = "eventFields";
+
+    public static final Set<String> CARD = Set.of("eventId", "title", "tagline", "eventType", "status",
+            "startDate", "endDate", "totalCapacity", "venue", "enrolledCount", "bannerImageId", "isFeatured");
+
+    // What an EventCard row plus the batched counts can fill
+    private static final Set<String> PROJECTED = Stream.concat(CARD.stream(), Stream.of("eventFormat",
+            "registrationOpenDate", "registrationCloseDate", "ticketType", "ticketPrice", "averageRating"))
+            .collect(Collectors.toUnmodifiableSet());
+
+    private static final Set<String> NAMES = Arrays.stream(EventResponse.class.getDeclaredFields())
+            .filter(field -> !Modifier.isStatic(field.getModifiers()))
+            .map(Field::getName)
+            .collect(Collectors.toUnmodifiableSet());
+
+    public static final EventFields ALL = new EventFields(null);
+
+    // null means all
+    private final Set<String> names;
+
+    private EventFields(Set<String> names) {
+        this.names = names;
+    }
+
+    public static EventFields parse(String fields) {
+        if (fields == null || fields.isBlank()) {
+            return ALL;
+        }
+        Set<String> names = new LinkedHashSet<>();
+        for (String name : fields.split(",")) {
+            name = name.trim();
+            if (name.equals("card")) {
+                names.addAll(CARD);
+            } else if (NAMES.contains(name)) {
+                names.add(name);
+            } else if (!name.isEmpty()) {
+                throw new ValidationException("Unknown event field: " + name);
+            }
+        }
+        return names.isEmpty() ? ALL : new EventFields(Collections.unmodifiableSet(names));
+    }
+
+    public boolean isAll() {
+        return names == null;
+    }
+
+    /**
+     * The requested names; only call when not isAll()
+     */
+    public Set<String> names() {
+        return names;
+    }
+
+    public boolean includes(String name) {
+        return names == null || names.contains(name);
+    }
+
+    public boolean isProjected() {
+        return names != null && PROJECTED.containsAll(names);
+    }
+
+    /**
+     * Jackson filters that keep only the requested fields, or null to write every field
+     */
+    public FilterProvider filters() {
+        return names == null ? null
+                : new SimpleFilterProvider().addFilter(FILTER, SimpleBeanPropertyFilter.filterOutAllExcept(names));
+    }
+
+    /**
+     * Same for the same set of names in any order, for cache keys
+     */
+    public String key() {
+        return names == null ? "*" : String.join(",", new TreeSet<>(names));
+    }
+}
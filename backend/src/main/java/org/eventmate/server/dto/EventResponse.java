@@ -1,13 +1,20 @@
 package org.eventmate.server.dto;
 
+import com.fasterxml.jackson.annotation.JsonFilter;
 import lombok.AllArgsConstructor;
 import lombok.Data;
+import lombok.NoArgsConstructor;
 import org.eventmate.server.entity.Event;
 import org.eventmate.server.entity.Venue;
 import java.time.LocalDateTime;
 
+/**
+ * An event as the event endpoints return it; ?fields= trims it to the requested fields (EventFields)
+ */
 @Data
+@NoArgsConstructor
 @AllArgsConstructor
+@JsonFilter(EventFields.FILTER)
 public class EventResponse {
     private Long eventId;
     private String title;
@@ -5,7 +5,10 @@ import lombok.Data;
 import java.time.LocalDateTime;
 
 @Entity
-@Table(name = "bookings")
+@Table(name = "bookings", indexes = {
+        @Index(name = "idx_bookings_event_status", columnList = "event_id, status, booking_id"),
+        @Index(name = "idx_bookings_event_ticket_code", columnList = "event_id, ticket_code")
+})
 @Data
 public class Booking {
 
@@ -23,6 +26,9 @@ public class Booking {
     @Column(name = "ticket_type_id")
     private Long ticketTypeId;
 
+    @Column(name = "ticket_tier_id")
+    private Long ticketTierId;
+
     @Column(name = "booking_date")
     private LocalDateTime bookingDate;
 
@@ -0,0 +1,30 @@
+package org.eventmate.server.entity;
+
+import java.util.List;
+
+/**
+ * CacheRegions - Second-level cache regions for reference data that is read far more often than
+ * it is written. Each region is a Caffeine cache built by EntityCacheRegionFactory; entries are
+ * kept in step by Hibernate on entity writes and dropped for the whole region by bulk updates.
+ *
+ * Users are deliberately left out: rows carry password hashes and account state, and nothing
+ * invalidates a copy cached on another node when an account is locked or its password changes.
+ */
+public final class CacheRegions {
+
+    public static final String VENUES = "venues";
+    public static final String TICKET_TIERS = "ticket_tiers";
+    public static final String GUESTS = "guests";
+
+    // Child ids per event, resolved through the TICKET_TIERS and GUESTS regions
+    public static final String EVENT_TICKET_TIERS = "event_ticket_tiers";
+    public static final String EVENT_GUESTS = "event_guests";
+
+    // Only created if the query cache is switched on
+    public static final String UPDATE_TIMESTAMPS = "default-update-timestamps-region";
+
+    public static final List<String> ALL = List.of(VENUES, TICKET_TIERS, GUESTS, EVENT_TICKET_TIERS, EVENT_GUESTS);
+
+    private CacheRegions() {
+    }
+}
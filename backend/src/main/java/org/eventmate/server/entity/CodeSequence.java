@@ -0,0 +1,22 @@
+package org.eventmate.server.entity;
+
+import jakarta.persistence.*;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Entity
+@Table(name = "code_sequences")
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class CodeSequence {
+
+    @Id
+    @Column(name = "name", length = 50)
+    private String name;
+
+    // First value of the next block handed out to a node
+    @Column(name = "next_value", nullable = false)
+    private Long nextValue;
+}
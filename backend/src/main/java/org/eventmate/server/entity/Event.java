@@ -2,13 +2,17 @@ package org.eventmate.server.entity;
 
 import jakarta.persistence.*;
 import lombok.Data;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 import org.hibernate.annotations.JdbcTypeCode;
 import org.hibernate.type.SqlTypes;
 import java.time.LocalDateTime;
 import java.util.Map;
 
 @Entity
-@Table(name = "events")
+@Table(name = "events", indexes = {
+        @Index(name = "idx_events_deleted_status_created", columnList = "deleted_at, status, created_at")
+})
 @Data
 public class Event {
 
@@ -122,6 +126,7 @@ public class Event {
     private TicketType ticketType;
 
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.EVENT_TICKET_TIERS)
     private java.util.List<TicketTier> ticketTiers = new java.util.ArrayList<>();
 
     @Column(name = "ticket_price")
@@ -140,6 +145,7 @@ public class Event {
     private Boolean allowMembershipDiscount = false;
 
     @OneToMany(mappedBy = "event", cascade = CascadeType.ALL, orphanRemoval = true)
+    @Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.EVENT_GUESTS)
     private java.util.List<Guest> guests = new java.util.ArrayList<>();
 
     @PrePersist
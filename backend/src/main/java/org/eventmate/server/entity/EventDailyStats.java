@@ -0,0 +1,39 @@
+package org.eventmate.server.entity;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import java.math.BigDecimal;
+import java.time.LocalDate;
+
+/**
+ * One row per event per day: bookings made, bookings cancelled and revenue taken that day.
+ * Maintained by AnalyticsService so time series never scan bookings/transactions.
+ */
+@Entity
+@Table(name = "event_daily_stats", uniqueConstraints = {
+        @UniqueConstraint(name = "uk_event_daily_stats_event_day", columnNames = { "event_id", "stat_date" })
+})
+@Data
+@NoArgsConstructor
+public class EventDailyStats {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "event_id", nullable = false)
+    private Long eventId;
+
+    @Column(name = "stat_date", nullable = false)
+    private LocalDate statDate;
+
+    @Column(name = "bookings", nullable = false)
+    private Long bookings = 0L;
+
+    @Column(name = "cancellations", nullable = false)
+    private Long cancellations = 0L;
+
+    @Column(name = "revenue", precision = 12, scale = 2, nullable = false)
+    private BigDecimal revenue = BigDecimal.ZERO;
+}
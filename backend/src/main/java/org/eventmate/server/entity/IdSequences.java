@@ -0,0 +1,32 @@
+package org.eventmate.server.entity;
+
+import java.util.Map;
+
+/**
+ * IdSequences - Entities written in bulk take their ids from blocks reserved in the id_sequences
+ * table instead of AUTO_INCREMENT, so Hibernate can batch their inserts. Each row holds the last
+ * id reserved for one table (pooled-lo optimizer); IdSequenceConfig moves it up to the table's
+ * highest id at startup.
+ *
+ * Reserving a block takes a second connection of its own, so Booking and Transaction, inserted
+ * one at a time on the enroll path while it holds a connection and the event row lock, stay on
+ * IDENTITY.
+ */
+public final class IdSequences {
+
+    public static final String TABLE = "id_sequences";
+    public static final String NAME_COLUMN = "sequence_name";
+    public static final String VALUE_COLUMN = "last_value";
+
+    // Ids reserved per id_sequences round trip
+    public static final int BLOCK_SIZE = 50;
+
+    // Sequence name (the entity's table) -> id column
+    public static final Map<String, String> ID_COLUMNS = Map.of(
+            "notifications", "notification_id",
+            "guests", "guest_id",
+            "ticket_tiers", "ticket_tier_id");
+
+    private IdSequences() {
+    }
+}
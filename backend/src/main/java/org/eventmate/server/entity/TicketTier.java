@@ -4,15 +4,22 @@ import com.fasterxml.jackson.annotation.JsonBackReference;
 import jakarta.persistence.*;
 import lombok.Data;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
 
 @Entity
 @Table(name = "ticket_tiers")
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = CacheRegions.TICKET_TIERS)
 @Data
 @NoArgsConstructor
 public class TicketTier {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "ticket_tier_ids")
+    @TableGenerator(name = "ticket_tier_ids", table = IdSequences.TABLE, pkColumnName = IdSequences.NAME_COLUMN,
+            valueColumnName = IdSequences.VALUE_COLUMN, pkColumnValue = "ticket_tiers",
+            allocationSize = IdSequences.BLOCK_SIZE)
     @Column(name = "ticket_tier_id")
     private Long id;
 
@@ -25,6 +32,9 @@ public class TicketTier {
     @Column(name = "capacity")
     private Integer capacity;
 
+    @Column(name = "quantity_sold")
+    private Integer quantitySold = 0;
+
     @Column(name = "description", columnDefinition = "TEXT")
     private String description;
 
@@ -32,4 +42,14 @@ public class TicketTier {
     @JoinColumn(name = "event_id")
     @JsonBackReference
     private Event event;
+
+    /**
+     * Seats left in this tier; null means the tier is only bounded by event capacity
+     */
+    public Integer getRemaining() {
+        if (capacity == null) {
+            return null;
+        }
+        return Math.max(0, capacity - (quantitySold != null ? quantitySold : 0));
+    }
 }
@@ -39,6 +39,13 @@ public class TicketType {
     @Column(name = "status")
     private String status = "AVAILABLE";
 
+    public Integer getQuantityRemaining() {
+        if (quantityAllocated == null) {
+            return null;
+        }
+        return Math.max(0, quantityAllocated - (quantitySold != null ? quantitySold : 0));
+    }
+
     @PrePersist
     protected void onCreate() {
         if (quantitySold == null) {
@@ -14,7 +14,9 @@ import java.util.Collection;
 import java.util.List;
 
 @Entity
-@Table(name = "users")
+@Table(name = "users", indexes = {
+        @Index(name = "idx_users_role_created_at", columnList = "role, created_at")
+})
 @Data
 @NoArgsConstructor
 @AllArgsConstructor
@@ -0,0 +1,55 @@
+package org.eventmate.server.metrics;
+
+import dev.langchain4j.model.chat.listener.ChatModelErrorContext;
+import dev.langchain4j.model.chat.listener.ChatModelListener;
+import dev.langchain4j.model.chat.listener.ChatModelRequestContext;
+import dev.langchain4j.model.chat.listener.ChatModelResponseContext;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Component;
+
+/**
+ * GeminiMetricsListener - Times every Gemini call (blocking and streaming) as
+ * eventmate.external.calls{system=gemini} and counts the tokens it used
+ */
+@Component
+@RequiredArgsConstructor
+public class GeminiMetricsListener implements ChatModelListener {
+
+    private static final String SAMPLE = GeminiMetricsListener.class.getName() + ".sample";
+
+    private final MeterRegistry meterRegistry;
+
+    @Override
+    public void onRequest(ChatModelRequestContext context) {
+        context.attributes().put(SAMPLE, Timer.start(meterRegistry));
+    }
+
+    @Override
+    public void onResponse(ChatModelResponseContext context) {
+        stop(context.attributes().get(SAMPLE), "success");
+        if (context.chatResponse() != null && context.chatResponse().tokenUsage() != null) {
+            Integer input = context.chatResponse().tokenUsage().inputTokenCount();
+            Integer output = context.chatResponse().tokenUsage().outputTokenCount();
+            if (input != null) {
+                meterRegistry.counter("eventmate.ai.tokens", "direction", "input").increment(input);
+            }
+            if (output != null) {
+                meterRegistry.counter("eventmate.ai.tokens", "direction", "output").increment(output);
+            }
+        }
+    }
+
+    @Override
+    public void onError(ChatModelErrorContext context) {
+        stop(context.attributes().get(SAMPLE), "error");
+    }
+
+    private void stop(Object sample, String outcome) {
+        if (sample instanceof Timer.Sample timerSample) {
+            timerSample.stop(meterRegistry.timer("eventmate.external.calls", "system", "gemini", "operation", "chat",
+                    "outcome", outcome));
+        }
+    }
+}
@@ -0,0 +1,42 @@
+package org.eventmate.server.metrics;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+
+import java.util.HashMap;
+import java.util.Map;
+
+/**
+ * QueryCounter - Records the SQL statements Hibernate prepares on the current thread between
+ * start() and stop(). Hibernate creates it from
+ * spring.jpa.properties.hibernate.session_factory.statement_inspector; statements are passed
+ * through unchanged. Native queries go through here too, so every request-path statement is seen.
+ */
+public class QueryCounter implements StatementInspector {
+
+    private static final ThreadLocal<Map<String, Integer>> CURRENT = new ThreadLocal<>();
+
+    @Override
+    public String inspect(String sql) {
+        Map<String, Integer> statements = CURRENT.get();
+        if (statements != null) {
+            statements.merge(sql, 1, Integer::sum);
+        }
+        return sql;
+    }
+
+    /**
+     * Starts a fresh recording on this thread, discarding any unfinished one
+     */
+    public static void start() {
+        CURRENT.set(new HashMap<>());
+    }
+
+    /**
+     * Ends the recording; empty stats if none was started on this thread
+     */
+    public static QueryStats stop() {
+        Map<String, Integer> statements = CURRENT.get();
+        CURRENT.remove();
+        return QueryStats.of(statements != null ? statements : Map.of());
+    }
+}
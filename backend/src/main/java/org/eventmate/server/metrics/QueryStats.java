@@ -0,0 +1,65 @@
+package org.eventmate.server.metrics;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.regex.Pattern;
+
+/**
+ * QueryStats - Statements recorded by QueryCounter, grouped by shape: the SQL with literals and
+ * IN-list lengths folded to ?, so "select ... where event_id=?" run once per row counts as one
+ * shape executed N times (the signature of an N+1)
+ */
+public record QueryStats(int total, Map<String, Integer> shapes) {
+
+    private static final Pattern STRING_LITERAL = Pattern.compile("'(?:[^']|'')*'");
+    private static final Pattern NUMBER_LITERAL = Pattern.compile("\\b\\d+(?:\\.\\d+)?\\b");
+    private static final Pattern IN_LIST = Pattern.compile("\\(\\s*\\?(?:\\s*,\\s*\\?)*\\s*\\)");
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    public record Shape(String sql, int count) {
+    }
+
+    static QueryStats of(Map<String, Integer> statements) {
+        Map<String, Integer> shapes = new HashMap<>();
+        int total = 0;
+        for (Map.Entry<String, Integer> entry : statements.entrySet()) {
+            shapes.merge(shapeOf(entry.getKey()), entry.getValue(), Integer::sum);
+            total += entry.getValue();
+        }
+        return new QueryStats(total, shapes);
+    }
+
+    /**
+     * Shapes executed at least threshold times, most repeated first
+     */
+    public List<Shape> repeated(int threshold) {
+        return shapes.entrySet().stream()
+                .filter(entry -> entry.getValue() >= threshold)
+                .map(entry -> new Shape(entry.getKey(), entry.getValue()))
+                .sorted(Comparator.comparingInt(Shape::count).reversed())
+                .toList();
+    }
+
+    public int mostRepeated() {
+        return shapes.values().stream().mapToInt(Integer::intValue).max().orElse(0);
+    }
+
+    /**
+     * One line per shape, most repeated first - for log lines and assertion messages
+     */
+    public String describe() {
+        StringBuilder out = new StringBuilder(total + " statements");
+        repeated(1).forEach(shape -> out.append(System.lineSeparator()).append("  ").append(shape.count())
+                .append("x ").append(shape.sql()));
+        return out.toString();
+    }
+
+    static String shapeOf(String sql) {
+        String shape = STRING_LITERAL.matcher(sql).replaceAll("?");
+        shape = NUMBER_LITERAL.matcher(shape).replaceAll("?");
+        shape = IN_LIST.matcher(shape).replaceAll("(?)");
+        return WHITESPACE.matcher(shape).replaceAll(" ").trim();
+    }
+}
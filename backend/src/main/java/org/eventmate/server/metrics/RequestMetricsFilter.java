@@ -0,0 +1,103 @@
+package org.eventmate.server.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * RequestMetricsFilter - Records how many SQL statements each request issued, as
+ * http.server.requests.queries tagged like http.server.requests (method, uri template, status),
+ * and flags requests that look like an N+1 or blow the per-request statement budget.
+ *
+ * A flagged request increments http.server.requests.query.alerts{kind=n-plus-one|budget} and is
+ * logged with its statement shapes, at most once per endpoint and kind per log-interval-ms.
+ * Runs ahead of the security filter chain so the JWT filter's user lookup is counted too.
+ */
+@Component
+@Order(Ordered.HIGHEST_PRECEDENCE + 10)
+@RequiredArgsConstructor
+@Slf4j
+public class RequestMetricsFilter extends OncePerRequestFilter {
+
+    private final MeterRegistry meterRegistry;
+
+    private final Map<String, Long> lastLogged = new ConcurrentHashMap<>();
+
+    // The same statement shape this many times in one request is reported as an N+1
+    @Value("${app.metrics.queries.n-plus-one-threshold:10}")
+    private int nPlusOneThreshold;
+
+    @Value("${app.metrics.queries.max-per-request:50}")
+    private int maxPerRequest;
+
+    @Value("${app.metrics.queries.log-interval-ms:60000}")
+    private long logIntervalMs;
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        QueryCounter.start();
+        try {
+            filterChain.doFilter(request, response);
+        } finally {
+            QueryStats stats = QueryCounter.stop();
+            String uri = uri(request);
+            DistributionSummary.builder("http.server.requests.queries")
+                    .description("SQL statements issued while handling a request")
+                    .tag("method", request.getMethod())
+                    .tag("uri", uri)
+                    .tag("status", String.valueOf(response.getStatus()))
+                    .register(meterRegistry)
+                    .record(stats.total());
+
+            if (stats.mostRepeated() >= nPlusOneThreshold) {
+                alert("n-plus-one", request.getMethod(), uri, stats);
+            }
+            if (stats.total() > maxPerRequest) {
+                alert("budget", request.getMethod(), uri, stats);
+            }
+        }
+    }
+
+    private void alert(String kind, String method, String uri, QueryStats stats) {
+        meterRegistry.counter("http.server.requests.query.alerts", "kind", kind, "method", method, "uri", uri)
+                .increment();
+
+        long now = System.currentTimeMillis();
+        String key = kind + " " + method + " " + uri;
+        Long previous = lastLogged.get(key);
+        if (previous != null && now - previous < logIntervalMs) {
+            return;
+        }
+        lastLogged.put(key, now);
+        List<QueryStats.Shape> repeated = stats.repeated(nPlusOneThreshold);
+        if (kind.equals("n-plus-one")) {
+            log.warn("Possible N+1 on {} {}: {}x {} ({} statements in total)", method, uri,
+                    repeated.get(0).count(), repeated.get(0).sql(), stats.total());
+        } else {
+            log.warn("{} {} issued more than {} SQL statements: {}", method, uri, maxPerRequest, stats.describe());
+        }
+    }
+
+    // The route template keeps one series per endpoint instead of one per id
+    private static String uri(HttpServletRequest request) {
+        Object pattern = request.getAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE);
+        return pattern != null ? pattern.toString() : "UNKNOWN";
+    }
+}
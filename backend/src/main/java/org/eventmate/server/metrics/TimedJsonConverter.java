@@ -0,0 +1,41 @@
+package org.eventmate.server.metrics;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import org.springframework.http.HttpOutputMessage;
+import org.springframework.http.converter.HttpMessageNotWritableException;
+import org.springframework.http.converter.json.MappingJackson2HttpMessageConverter;
+
+import java.io.IOException;
+import java.lang.reflect.Type;
+
+/**
+ * TimedJsonConverter - Spring's Jackson converter with response serialization timed as
+ * eventmate.json.write, tagged by the top-level type written
+ */
+public class TimedJsonConverter extends MappingJackson2HttpMessageConverter {
+
+    private final MeterRegistry meterRegistry;
+
+    public TimedJsonConverter(ObjectMapper objectMapper, MeterRegistry meterRegistry) {
+        super(objectMapper);
+        this.meterRegistry = meterRegistry;
+    }
+
+    @Override
+    protected void writeInternal(Object object, Type type, HttpOutputMessage outputMessage)
+            throws IOException, HttpMessageNotWritableException {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        try {
+            super.writeInternal(object, type, outputMessage);
+        } finally {
+            sample.stop(meterRegistry.timer("eventmate.json.write", "type", typeName(object)));
+        }
+    }
+
+    // List<EventResponse> is tagged "List", which keeps the tag values few
+    private static String typeName(Object object) {
+        return object != null ? object.getClass().getSimpleName() : "null";
+    }
+}
@@ -1,11 +1,21 @@
 package org.eventmate.server.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
 import org.eventmate.server.entity.Booking;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
+import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 
 @Repository
 public interface BookingRepository extends JpaRepository<Booking, Long> {
@@ -13,6 +23,27 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 
     List<Booking> findByEventId(Long eventId);
 
+    @Query("SELECT b.eventId FROM Booking b WHERE b.bookingId = :bookingId")
+    Optional<Long> findEventIdById(Long bookingId);
+
+    // Cancellation locks the event first, then the booking - the order enroll and promotion use
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT b FROM Booking b WHERE b.bookingId = :bookingId")
+    Optional<Booking> findByIdForUpdate(Long bookingId);
+
+    // [booking, attendee account name, account email], streamed for exports
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT b, u.fullName, u.email FROM Booking b LEFT JOIN User u ON u.userId = b.userId " +
+           "WHERE b.eventId = :eventId AND (:from IS NULL OR b.bookingDate >= :from) " +
+           "AND (:to IS NULL OR b.bookingDate < :to) ORDER BY b.bookingId")
+    Stream<Object[]> streamForExport(Long eventId, LocalDateTime from, LocalDateTime to);
+
+    // [bookingId, bookingDate, status, bookingType, dietaryRestrictions, accessibilityNeeds, companyName]
+    // of one event - just what BookingFactsService keeps
+    @Query("SELECT b.bookingId, b.bookingDate, b.status, b.bookingType, b.dietaryRestrictions, " +
+           "b.accessibilityNeeds, b.companyName FROM Booking b WHERE b.eventId = :eventId")
+    List<Object[]> findFactsByEventId(Long eventId);
+
     Optional<Booking> findByUserIdAndEventId(Long userId, Long eventId);
 
     @Query("SELECT b.seatNumber FROM Booking b WHERE b.eventId = :eventId AND b.status = 'CONFIRMED' AND b.seatNumber IS NOT NULL")
@@ -20,4 +51,31 @@ public interface BookingRepository extends JpaRepository<Booking, Long> {
 
     @Query("SELECT COUNT(b) FROM Booking b WHERE b.eventId = :eventId AND b.status = 'CONFIRMED'")
     Long countConfirmedBookings(Long eventId);
+
+    // [eventId, confirmed count] for each of the events that has confirmed bookings
+    @Query("SELECT b.eventId, COUNT(b) FROM Booking b WHERE b.eventId IN :eventIds AND b.status = 'CONFIRMED' " +
+           "GROUP BY b.eventId")
+    List<Object[]> countConfirmedBookingsByEventIds(Collection<Long> eventIds);
+
+    // Head of the waitlist after :afterId: served from idx_bookings_event_status, never scans the
+    // whole event. Bookings waiting on a sold-out tier or ticket type are skipped so they don't
+    // block the rest of the queue (a ticketTypeId that isn't a type of this event is a legacy tier id).
+    @Query("SELECT b FROM Booking b WHERE b.eventId = :eventId AND b.status = 'WAITLISTED' " +
+           "AND b.bookingId > :afterId AND (b.ticketTierId IS NULL OR b.ticketTierId IN (SELECT t.id FROM TicketTier t " +
+           "WHERE t.event.eventId = :eventId AND (t.capacity IS NULL OR COALESCE(t.quantitySold, 0) < t.capacity))) " +
+           "AND (b.ticketTypeId IS NULL OR b.ticketTypeId NOT IN (SELECT tt.ticketTypeId FROM TicketType tt " +
+           "WHERE tt.eventId = :eventId AND tt.quantityAllocated IS NOT NULL " +
+           "AND COALESCE(tt.quantitySold, 0) >= tt.quantityAllocated)) " +
+           "ORDER BY b.bookingId ASC")
+    List<Booking> findPromotableWaitlist(Long eventId, Long afterId, Pageable pageable);
+
+    List<Booking> findByEventIdAndStatus(Long eventId, Booking.BookingStatus status);
+
+    Optional<Booking> findFirstByEventIdAndTicketCode(Long eventId, String ticketCode);
+
+    // Check-in flush: one statement per distinct check-in second; earlier check-ins are never overwritten
+    @Modifying
+    @Query("UPDATE Booking b SET b.checkinStatus = true, b.checkinTime = :checkinTime " +
+           "WHERE b.bookingId IN :bookingIds AND (b.checkinStatus IS NULL OR b.checkinStatus = false)")
+    int markCheckedIn(Collection<Long> bookingIds, LocalDateTime checkinTime);
 }
@@ -0,0 +1,17 @@
+package org.eventmate.server.repository;
+
+import jakarta.persistence.LockModeType;
+import org.eventmate.server.entity.CodeSequence;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.stereotype.Repository;
+import java.util.Optional;
+
+@Repository
+public interface CodeSequenceRepository extends JpaRepository<CodeSequence, String> {
+
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM CodeSequence s WHERE s.name = :name")
+    Optional<CodeSequence> findByNameForUpdate(String name);
+}
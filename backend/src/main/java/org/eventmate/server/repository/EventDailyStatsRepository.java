@@ -0,0 +1,40 @@
+package org.eventmate.server.repository;
+
+import jakarta.persistence.QueryHint;
+import org.eventmate.server.entity.EventDailyStats;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.stereotype.Repository;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Repository
+public interface EventDailyStatsRepository extends JpaRepository<EventDailyStats, Long> {
+
+    List<EventDailyStats> findByEventIdAndStatDateBetweenOrderByStatDateAsc(Long eventId, LocalDate from, LocalDate to);
+
+    // Adds to the day's counters, creating the row on first use. Native writes name the table they
+    // touch; without it Hibernate would empty every second-level cache region after each one.
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_daily_stats"))
+    @Query(value = "INSERT INTO event_daily_stats (event_id, stat_date, bookings, cancellations, revenue) " +
+            "VALUES (:eventId, :statDate, :bookings, :cancellations, 0) " +
+            "ON DUPLICATE KEY UPDATE bookings = bookings + VALUES(bookings), " +
+            "cancellations = cancellations + VALUES(cancellations)", nativeQuery = true)
+    int addCounts(Long eventId, LocalDate statDate, long bookings, long cancellations);
+
+    // Recomputes revenue per event and day for payments made since :since
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "event_daily_stats"))
+    @Query(value = "INSERT INTO event_daily_stats (event_id, stat_date, bookings, cancellations, revenue) " +
+            "SELECT b.event_id, DATE(t.payment_date), 0, 0, SUM(t.amount) " +
+            "FROM transactions t JOIN bookings b ON b.booking_id = t.booking_id " +
+            "WHERE t.transaction_status = 'SUCCESS' AND t.payment_date >= :since " +
+            "GROUP BY b.event_id, DATE(t.payment_date) " +
+            "ON DUPLICATE KEY UPDATE revenue = VALUES(revenue)", nativeQuery = true)
+    int refreshRevenueSince(LocalDateTime since);
+}
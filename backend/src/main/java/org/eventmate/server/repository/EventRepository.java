@@ -1,18 +1,57 @@
 package org.eventmate.server.repository;
 
+import jakarta.persistence.LockModeType;
+import org.eventmate.server.dto.AdminEventSummary;
+import org.eventmate.server.dto.EventCard;
 import org.eventmate.server.entity.Event;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.time.LocalDateTime;
+import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 
 @Repository
 public interface EventRepository extends JpaRepository<Event, Long> {
+
+    String ADMIN_FILTER = "WHERE e.deletedAt IS NULL AND (:status IS NULL OR e.status = :status) " +
+            "AND (:featured IS NULL OR e.isFeatured = :featured) " +
+            "AND (:organizerId IS NULL OR e.organizerId = :organizerId) " +
+            "AND (:search IS NULL OR LOWER(e.title) LIKE :search)";
+
+    String CARD_SELECT = "SELECT new org.eventmate.server.dto.EventCard(e.eventId, e.title, e.tagline, " +
+            "e.eventType, e.eventFormat, e.status, e.startDate, e.endDate, e.registrationOpenDate, " +
+            "e.registrationCloseDate, e.totalCapacity, v.venueId, v.name, v.city, e.bannerImageId, e.ticketType, " +
+            "e.ticketPrice, e.isFeatured) FROM Event e LEFT JOIN e.venue v ";
+
+    // Row lock on the event serializes capacity changes (enroll, cancel, waitlist promotion)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT e FROM Event e WHERE e.eventId = :eventId")
+    Optional<Event> findByIdForUpdate(Long eventId);
+
     List<Event> findByOrganizerId(Long organizerId);
 
+    // Ownership check without loading the event
+    @Query("SELECT e.organizerId FROM Event e WHERE e.eventId = :eventId")
+    Optional<Long> findOrganizerIdById(Long eventId);
+
+    // Events whose doors open before :until and that haven't ended yet
+    @Query("SELECT e.eventId FROM Event e WHERE e.startDate <= :until " +
+           "AND (e.endDate IS NULL OR e.endDate >= :now) AND e.deletedAt IS NULL")
+    List<Long> findEventIdsOpenForCheckIn(LocalDateTime now, LocalDateTime until);
+
+    @Query("SELECT e.registrationOpenDate FROM Event e WHERE e.eventId = :eventId")
+    Optional<LocalDateTime> findRegistrationOpenDate(Long eventId);
+
     List<Event> findByStatus(Event.EventStatus status);
 
+    // [status, count] pairs
+    @Query("SELECT e.status, COUNT(e) FROM Event e GROUP BY e.status")
+    List<Object[]> countGroupedByStatus();
+
     List<Event> findByEventType(Event.EventType eventType);
 
     @Query("SELECT e FROM Event e WHERE e.startDate >= :now AND e.status = 'ACTIVE' AND e.deletedAt IS NULL")
@@ -26,6 +65,18 @@ public interface EventRepository extends JpaRepository<Event, Long> {
 
     List<Event> findByStatusAndDeletedAtIsNullOrderByCreatedAtDesc(Event.EventStatus status);
 
+    List<Event> findByDeletedAtIsNullAndStatusIn(Collection<Event.EventStatus> statuses);
+
+    // One page of the admin event list (soft-deleted excluded); search is a lowercase LIKE pattern
+    @Query("SELECT new org.eventmate.server.dto.AdminEventSummary(e.eventId, e.organizerId, e.title, e.eventType, " +
+           "e.eventFormat, e.status, e.startDate, e.bannerImageId, e.isFeatured, e.createdAt) FROM Event e " +
+           ADMIN_FILTER)
+    List<AdminEventSummary> findAdminPage(Event.EventStatus status, Boolean featured, Long organizerId, String search,
+            Pageable pageable);
+
+    @Query("SELECT COUNT(e) FROM Event e " + ADMIN_FILTER)
+    long countAdminPage(Event.EventStatus status, Boolean featured, Long organizerId, String search);
+
     List<Event> findByIsFeaturedTrueAndDeletedAtIsNullAndStatus(Event.EventStatus status);
 
     List<Event> findByEventTypeAndStatusAndDeletedAtIsNull(Event.EventType eventType, Event.EventStatus status);
@@ -33,10 +84,38 @@ public interface EventRepository extends JpaRepository<Event, Long> {
     @Query("SELECT e FROM Event e WHERE e.status = 'ACTIVE' AND e.deletedAt IS NULL ORDER BY e.startDate ASC")
     List<Event> findActiveEventsForAttendee();
 
+    // EventCard variants of the list queries, for ?fields= requests that only need scalar columns
+    @Query(CARD_SELECT)
+    List<EventCard> findAllCards();
+
+    @Query(CARD_SELECT + "WHERE e.organizerId = :organizerId")
+    List<EventCard> findCardsByOrganizerId(Long organizerId);
+
+    @Query(CARD_SELECT + "WHERE e.eventType = :eventType")
+    List<EventCard> findCardsByEventType(Event.EventType eventType);
+
+    @Query(CARD_SELECT + "WHERE (e.title LIKE %:keyword% OR e.description LIKE %:keyword%) AND e.deletedAt IS NULL")
+    List<EventCard> searchCards(String keyword);
+
+    @Query(CARD_SELECT + "WHERE e.deletedAt IS NULL ORDER BY e.createdAt DESC")
+    List<EventCard> findLiveCards();
+
+    @Query(CARD_SELECT + "WHERE e.isFeatured = true AND e.deletedAt IS NULL AND e.status = :status")
+    List<EventCard> findFeaturedCards(Event.EventStatus status);
+
     @Query("""
 SELECT DISTINCT e FROM Event e
 LEFT JOIN FETCH e.ticketTiers
 WHERE e.organizerId = :organizerId
 """)
 List<Event> findByOrganizerIdWithTicketTiers(Long organizerId);
+
+    // Featured events with their tiers, then their guests in a second query (two bags can't be
+    // fetch-joined at once); the second query fills the guests of the events already loaded
+    @Query("SELECT DISTINCT e FROM Event e LEFT JOIN FETCH e.ticketTiers " +
+           "WHERE e.isFeatured = true AND e.deletedAt IS NULL AND e.status = :status")
+    List<Event> findFeaturedWithTicketTiers(Event.EventStatus status);
+
+    @Query("SELECT DISTINCT e FROM Event e LEFT JOIN FETCH e.guests WHERE e.eventId IN :eventIds")
+    List<Event> fetchGuests(Collection<Long> eventIds);
 }
@@ -4,6 +4,7 @@ import org.eventmate.server.entity.Feedback;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -17,4 +18,8 @@ public interface FeedbackRepository extends JpaRepository<Feedback, Long> {
 
     @Query("SELECT AVG(f.rating) FROM Feedback f WHERE f.eventId = :eventId")
     Double getAverageRating(Long eventId);
+
+    // [eventId, average rating] for each of the events that has feedback
+    @Query("SELECT f.eventId, AVG(f.rating) FROM Feedback f WHERE f.eventId IN :eventIds GROUP BY f.eventId")
+    List<Object[]> getAverageRatingsByEventIds(Collection<Long> eventIds);
 }
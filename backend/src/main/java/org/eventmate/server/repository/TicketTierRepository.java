@@ -1,7 +1,38 @@
 package org.eventmate.server.repository;
 
+import jakarta.persistence.QueryHint;
 import org.eventmate.server.entity.TicketTier;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 public interface TicketTierRepository extends JpaRepository<TicketTier, Long> {
+
+    // Counter moves are native with their own query space, so Hibernate drops no cached tiers or
+    // event tier lists for them; TicketInventoryService evicts the one tier that changed
+    String COUNTER_SPACE = "ticket_tier_counters";
+
+    // Atomic "take one seat": 0 rows updated means sold out (or tier not part of the event)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+    @Query(value = "UPDATE ticket_tiers SET quantity_sold = COALESCE(quantity_sold, 0) + 1 " +
+           "WHERE ticket_tier_id = :tierId AND event_id = :eventId " +
+           "AND (capacity IS NULL OR COALESCE(quantity_sold, 0) < capacity)", nativeQuery = true)
+    int reserveOne(Long tierId, Long eventId);
+
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = COUNTER_SPACE))
+    @Query(value = "UPDATE ticket_tiers SET quantity_sold = quantity_sold - 1 " +
+           "WHERE ticket_tier_id = :tierId AND quantity_sold > 0", nativeQuery = true)
+    int releaseOne(Long tierId);
+
+    // Resets drifted counters to the number of confirmed bookings; returns rows corrected
+    @Modifying
+    @Query("UPDATE TicketTier t SET t.quantitySold = " +
+           "(SELECT COUNT(b) FROM Booking b WHERE b.ticketTierId = t.id AND b.status = 'CONFIRMED') " +
+           "WHERE COALESCE(t.quantitySold, -1) <> " +
+           "(SELECT COUNT(b2) FROM Booking b2 WHERE b2.ticketTierId = t.id AND b2.status = 'CONFIRMED')")
+    int reconcileQuantitySold();
 }
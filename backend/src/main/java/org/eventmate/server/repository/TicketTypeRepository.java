@@ -2,10 +2,32 @@ package org.eventmate.server.repository;
 
 import org.eventmate.server.entity.TicketType;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
 import org.springframework.stereotype.Repository;
 import java.util.List;
 
 @Repository
 public interface TicketTypeRepository extends JpaRepository<TicketType, Long> {
     List<TicketType> findByEventId(Long eventId);
+
+    @Modifying
+    @Query("UPDATE TicketType t SET t.quantitySold = COALESCE(t.quantitySold, 0) + 1 " +
+           "WHERE t.ticketTypeId = :ticketTypeId " +
+           "AND (t.quantityAllocated IS NULL OR COALESCE(t.quantitySold, 0) < t.quantityAllocated)")
+    int reserveOne(Long ticketTypeId);
+
+    @Modifying
+    @Query("UPDATE TicketType t SET t.quantitySold = t.quantitySold - 1 " +
+           "WHERE t.ticketTypeId = :ticketTypeId AND t.quantitySold > 0")
+    int releaseOne(Long ticketTypeId);
+
+    @Modifying
+    @Query("UPDATE TicketType t SET t.quantitySold = " +
+           "(SELECT COUNT(b) FROM Booking b WHERE b.ticketTypeId = t.ticketTypeId " +
+           "AND b.eventId = t.eventId AND b.status = 'CONFIRMED') " +
+           "WHERE COALESCE(t.quantitySold, -1) <> " +
+           "(SELECT COUNT(b2) FROM Booking b2 WHERE b2.ticketTypeId = t.ticketTypeId " +
+           "AND b2.eventId = t.eventId AND b2.status = 'CONFIRMED')")
+    int reconcileQuantitySold();
 }
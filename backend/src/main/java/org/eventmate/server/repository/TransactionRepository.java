@@ -1,11 +1,16 @@
 package org.eventmate.server.repository;
 
+import jakarta.persistence.QueryHint;
 import org.eventmate.server.entity.Transaction;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.stereotype.Repository;
 import java.math.BigDecimal;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.stream.Stream;
 
 @Repository
 public interface TransactionRepository extends JpaRepository<Transaction, Long> {
@@ -16,4 +21,10 @@ public interface TransactionRepository extends JpaRepository<Transaction, Long>
     
     @Query("SELECT t FROM Transaction t ORDER BY t.paymentDate DESC")
     List<Transaction> findAllOrderByDateDesc();
+
+    // For exports: fetch size Integer.MIN_VALUE makes MySQL stream rows instead of buffering the result
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT t FROM Transaction t WHERE (:from IS NULL OR t.paymentDate >= :from) " +
+           "AND (:to IS NULL OR t.paymentDate < :to) ORDER BY t.paymentDate DESC")
+    Stream<Transaction> streamByPaymentDate(LocalDateTime from, LocalDateTime to);
 }
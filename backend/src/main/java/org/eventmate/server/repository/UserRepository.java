@@ -1,15 +1,25 @@
 package org.eventmate.server.repository;
 
+import jakarta.persistence.QueryHint;
+import org.eventmate.server.dto.AdminUserSummary;
 import org.eventmate.server.entity.Role;
 import org.eventmate.server.entity.User;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import java.time.LocalDateTime;
 import java.util.List;
 import java.util.Optional;
+import java.util.stream.Stream;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 
 // JpaRepository gives us free methods like save(), delete(), findById()
 public interface UserRepository extends JpaRepository<User, Long> {
 
+    String ADMIN_FILTER = "WHERE (:role IS NULL OR u.role = :role) AND (:active IS NULL OR u.isActive = :active) " +
+            "AND (:search IS NULL OR LOWER(u.fullName) LIKE :search OR LOWER(u.email) LIKE :search)";
+
     // Custom method: Find user by email
     // Returns "Optional" because the user might not exist
     Optional<User> findByEmail(String email);
@@ -23,6 +33,24 @@ public interface UserRepository extends JpaRepository<User, Long> {
     // Count users by role
     Long countByRole(Role role);
 
+    // [role, count] pairs
+    @Query("SELECT u.role, COUNT(u) FROM User u GROUP BY u.role")
+    List<Object[]> countGroupedByRole();
+
+    // One page of the admin user list; search is a lowercase LIKE pattern
+    @Query("SELECT new org.eventmate.server.dto.AdminUserSummary(u.userId, u.fullName, u.email, u.role, " +
+           "u.phoneNumber, u.companyName, u.isActive, u.createdAt) FROM User u " + ADMIN_FILTER)
+    List<AdminUserSummary> findAdminPage(Role role, Boolean active, String search, Pageable pageable);
+
+    @Query("SELECT COUNT(u) FROM User u " + ADMIN_FILTER)
+    long countAdminPage(Role role, Boolean active, String search);
+
+    // Streamed for exports (see TransactionRepository.streamByPaymentDate)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT u FROM User u WHERE (:role IS NULL OR u.role = :role) " +
+           "AND (:from IS NULL OR u.createdAt >= :from) AND (:to IS NULL OR u.createdAt < :to) ORDER BY u.userId")
+    Stream<User> streamForExport(Role role, LocalDateTime from, LocalDateTime to);
+
     // Search users by name or email
     List<User> findByFullNameContainingIgnoreCaseOrEmailContainingIgnoreCase(String name, String email);
 
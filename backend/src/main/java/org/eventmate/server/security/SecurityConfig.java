@@ -1,5 +1,6 @@
 package org.eventmate.server.security;
 
+import jakarta.servlet.DispatcherType;
 import lombok.RequiredArgsConstructor;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
@@ -58,12 +59,18 @@ public class SecurityConfig {
 
                 // Configure URL-based authorization
                 .authorizeHttpRequests(auth -> auth
+                        // Streamed responses (SSE) finish on an async dispatch that carries no JWT;
+                        // the original request was already authorized
+                        .dispatcherTypeMatchers(DispatcherType.ASYNC).permitAll()
+
                         // Public endpoints - no authentication required
                         .requestMatchers("/api/auth/**").permitAll()
                         .requestMatchers(org.springframework.http.HttpMethod.GET, "/api/files/**").permitAll()
+                        .requestMatchers("/actuator/health").permitAll()
 
                         // Admin-only endpoints
                         .requestMatchers("/api/admin/**").hasRole("ADMIN")
+                        .requestMatchers("/actuator/**").hasRole("ADMIN")
 
                         // Organization and Admin access
                         .requestMatchers("/api/organization/**").hasAnyRole("ORGANIZATION", "ADMIN")
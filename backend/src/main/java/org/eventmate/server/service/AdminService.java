@@ -1,43 +1,47 @@
 package org.eventmate.server.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.dto.AdminEventSummary;
+import org.eventmate.server.dto.AdminUserSummary;
 import org.eventmate.server.dto.AnalyticsResponse;
+import org.eventmate.server.dto.PagedResponse;
 import org.eventmate.server.entity.Event;
 import org.eventmate.server.entity.Role;
 import org.eventmate.server.entity.Transaction;
 import org.eventmate.server.entity.User;
 import org.eventmate.server.exception.custom.*;
 import org.eventmate.server.repository.*;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
+import org.springframework.data.support.PageableExecutionUtils;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
-import java.math.BigDecimal;
 import java.util.List;
+import java.util.Locale;
+import java.util.Set;
 
 @Service
+@Timed("eventmate.service")
 @RequiredArgsConstructor
 @Slf4j
 public class AdminService {
 
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final Set<String> USER_SORTS = Set.of("userId", "fullName", "email", "role", "createdAt");
+    private static final Set<String> EVENT_SORTS = Set.of("eventId", "title", "startDate", "status", "createdAt");
+
     private final UserRepository userRepository;
     private final EventRepository eventRepository;
-    private final BookingRepository bookingRepository;
     private final TransactionRepository transactionRepository;
+    private final MetadataService metadataService;
+    private final AnalyticsService analyticsService;
 
     public AnalyticsResponse getAnalytics() {
-        Long totalEvents = eventRepository.count();
-        Long totalUsers = userRepository.countByRole(Role.USER);
-        Long totalOrgs = userRepository.countByRole(Role.ORGANIZATION);
-        Long totalBookings = bookingRepository.count();
-        BigDecimal totalRevenue = transactionRepository.getTotalRevenue();
-        Long activeEvents = (long) eventRepository.findByStatus(Event.EventStatus.ACTIVE).size();
-        Long completedEvents = (long) eventRepository.findByStatus(Event.EventStatus.COMPLETED).size();
-
-        return new AnalyticsResponse(
-                totalEvents, totalUsers, totalOrgs, totalBookings,
-                totalRevenue != null ? totalRevenue : BigDecimal.ZERO,
-                activeEvents, completedEvents);
+        return analyticsService.getAnalytics();
     }
 
     public List<Transaction> getAllTransactions() {
@@ -52,8 +56,26 @@ public class AdminService {
         return userRepository.findByRole(role);
     }
 
+    /**
+     * One page of users as slim rows. Without active/search filters the total comes from the
+     * analytics counters; otherwise a COUNT query runs, and only when the page doesn't already
+     * tell us the total (first page not full).
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<AdminUserSummary> getUsersPage(Role role, Boolean active, String search, int page, int size,
+            String sort, String direction) {
+        Pageable pageable = pageRequest(page, size, sort, direction, USER_SORTS, "userId");
+        String pattern = likePattern(search);
+        List<AdminUserSummary> content = userRepository.findAdminPage(role, active, pattern, pageable);
+        return PagedResponse.of(PageableExecutionUtils.getPage(content, pageable,
+                () -> active == null && pattern == null
+                        ? analyticsService.countUsers(role)
+                        : userRepository.countAdminPage(role, active, pattern)));
+    }
+
     @Transactional
     public void deleteUser(Long userId) {
+        userRepository.findById(userId).ifPresent(user -> analyticsService.userDeleted(user.getRole()));
         userRepository.deleteById(userId);
         log.info("Admin deleted user {}", userId);
     }
@@ -84,6 +106,20 @@ public class AdminService {
         return eventRepository.findByDeletedAtIsNullOrderByCreatedAtDesc();
     }
 
+    /**
+     * One page of non-deleted events as slim rows, newest first unless another sort is asked for
+     */
+    @Transactional(readOnly = true)
+    public PagedResponse<AdminEventSummary> getEventsPage(Event.EventStatus status, Boolean featured,
+            Long organizerId, String search, int page, int size, String sort, String direction) {
+        Pageable pageable = pageRequest(page, size, sort, direction, EVENT_SORTS, "eventId");
+        String pattern = likePattern(search);
+        List<AdminEventSummary> content = eventRepository.findAdminPage(status, featured, organizerId, pattern,
+                pageable);
+        return PagedResponse.of(PageableExecutionUtils.getPage(content, pageable,
+                () -> eventRepository.countAdminPage(status, featured, organizerId, pattern)));
+    }
+
     /**
      * Toggle featured status for an event
      */
@@ -105,10 +141,13 @@ public class AdminService {
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
 
+        Event.EventStatus previousStatus = event.getStatus();
         event.setDeletedAt(java.time.LocalDateTime.now());
         event.setDeleteReason(reason);
         event.setStatus(Event.EventStatus.CANCELLED);
         eventRepository.save(event);
+        metadataService.eventChanged(event);
+        analyticsService.eventSaved(previousStatus, event.getStatus());
         log.info("Admin soft deleted event {} with reason: {}", eventId, reason);
     }
 
@@ -118,4 +157,31 @@ public class AdminService {
     public List<Event> getFeaturedEvents() {
         return eventRepository.findByIsFeaturedTrueAndDeletedAtIsNullAndStatus(Event.EventStatus.ACTIVE);
     }
+
+    // Sorts only by whitelisted columns, with the id as tie-breaker so pages don't overlap
+    private static Pageable pageRequest(int page, int size, String sort, String direction, Set<String> allowed,
+            String idProperty) {
+        if (page < 0 || size < 1 || size > MAX_PAGE_SIZE) {
+            throw new ValidationException("page must be >= 0 and size between 1 and " + MAX_PAGE_SIZE);
+        }
+        String property = sort != null && !sort.isBlank() ? sort : "createdAt";
+        if (!allowed.contains(property)) {
+            throw new ValidationException("Cannot sort by " + property + "; use one of " + allowed);
+        }
+        Sort.Direction dir = "asc".equalsIgnoreCase(direction) ? Sort.Direction.ASC : Sort.Direction.DESC;
+        Sort order = Sort.by(dir, property);
+        if (!property.equals(idProperty)) {
+            order = order.and(Sort.by(dir, idProperty));
+        }
+        return PageRequest.of(page, size, order);
+    }
+
+    private static String likePattern(String search) {
+        if (search == null || search.isBlank()) {
+            return null;
+        }
+        String escaped = search.trim().toLowerCase(Locale.ROOT)
+                .replace("\\", "\\\\").replace("%", "\\%").replace("_", "\\_");
+        return "%" + escaped + "%";
+    }
 }
@@ -0,0 +1,274 @@
+package org.eventmate.server.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.dto.AdmissionQueueStats;
+import org.eventmate.server.dto.AdmissionTicket;
+import org.eventmate.server.exception.custom.TooManyRequestsException;
+import org.eventmate.server.exception.custom.ValidationException;
+import org.eventmate.server.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.security.MessageDigest;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.Base64;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AdmissionQueueService - Virtual waiting room for registration openings.
+ *
+ * Around an event's registrationOpenDate every enrollment must pass through here before it
+ * reaches the booking transaction. Each second the event gets admit-rate-per-second admissions:
+ * queued users are admitted first (FIFO by position) and whatever is left over is handed to
+ * direct enrollments. Everyone else gets a cheap 429 without touching the database.
+ *
+ * Queue state is per node and in memory; position tokens are HMAC-signed so they can't be forged
+ * or reused for another user or event.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AdmissionQueueService {
+
+    private static final long STALE_QUEUE_MILLIS = 60_000;
+
+    private final EventRepository eventRepository;
+
+    private final Map<Long, EventQueue> queues = new ConcurrentHashMap<>();
+
+    @Value("${app.admission.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.admission.window-minutes:30}")
+    private int windowMinutes;
+
+    @Value("${app.admission.admit-rate-per-second:50}")
+    private int admitRatePerSecond;
+
+    @Value("${app.admission.max-queue-depth:20000}")
+    private int maxQueueDepth;
+
+    @Value("${app.admission.token-ttl-minutes:15}")
+    private int tokenTtlMinutes;
+
+    @Value("${app.admission.secret}")
+    private String secret;
+
+    // Only read to make sure admission tokens aren't signed with the JWT key
+    @Value("${app.jwt.secret}")
+    private String jwtSecret;
+
+    private ThreadLocal<Mac> macs;
+
+    @PostConstruct
+    void initSigner() {
+        if (secret == null || secret.isBlank() || secret.equals(jwtSecret)) {
+            throw new IllegalStateException("app.admission.secret must be set and differ from app.jwt.secret");
+        }
+        SecretKeySpec key = new SecretKeySpec(secret.getBytes(StandardCharsets.UTF_8), "HmacSHA256");
+        macs = ThreadLocal.withInitial(() -> {
+            try {
+                Mac mac = Mac.getInstance("HmacSHA256");
+                mac.init(key);
+                return mac;
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException("HmacSHA256 not available", e);
+            }
+        });
+    }
+
+    /**
+     * Take a place in the waiting room. Joining twice returns the same position.
+     */
+    public AdmissionTicket join(Long eventId, Long userId) {
+        EventQueue queue = queueFor(eventId);
+        if (!enabled || !queue.isActive(LocalDateTime.now())) {
+            return new AdmissionTicket(eventId, null, true, 0L, 0L);
+        }
+
+        long position = queue.positions.computeIfAbsent(userId, id -> {
+            if (queue.depth() >= maxQueueDepth) {
+                queue.rejected.incrementAndGet();
+                throw new TooManyRequestsException("The waiting room is full. Please try again shortly.", 30);
+            }
+            return queue.tail.incrementAndGet();
+        });
+        return ticketFor(queue, eventId, userId, position);
+    }
+
+    /**
+     * Poll the current position for a previously issued token
+     */
+    public AdmissionTicket status(Long eventId, Long userId, String token) {
+        long position = verify(token, eventId, userId);
+        return ticketFor(queueFor(eventId), eventId, userId, position);
+    }
+
+    /**
+     * Gate in front of enrollEvent: returns normally if the request may proceed.
+     *
+     * @throws TooManyRequestsException if the caller has to (keep) wait(ing)
+     */
+    public void admit(Long eventId, Long userId, String token) {
+        if (!enabled) {
+            return;
+        }
+        EventQueue queue = queueFor(eventId);
+        if (!queue.isActive(LocalDateTime.now())) {
+            return;
+        }
+
+        if (token != null && !token.isBlank()) {
+            long position = verify(token, eventId, userId);
+            if (position <= queue.admittedUpTo.get()) {
+                return;
+            }
+            throw new TooManyRequestsException("It's not your turn yet. Please stay in the waiting room.",
+                    estimatedWaitSeconds(queue, position));
+        }
+
+        // No token: only allowed while nobody is waiting and this second's budget isn't used up
+        if (queue.depth() == 0 && queue.directBudget.getAndDecrement() > 0) {
+            return;
+        }
+        queue.rejected.incrementAndGet();
+        throw new TooManyRequestsException("Registration is very busy right now. Please join the waiting room.", 1);
+    }
+
+    /**
+     * Hands out this second's admissions and drops queues that are no longer needed
+     */
+    @Scheduled(fixedRate = 1000)
+    public void tick() {
+        LocalDateTime now = LocalDateTime.now();
+        long nowMillis = System.currentTimeMillis();
+        queues.entrySet().removeIf(entry -> {
+            EventQueue queue = entry.getValue();
+            if (!queue.isActive(now)) {
+                return nowMillis - queue.loadedAt > STALE_QUEUE_MILLIS;
+            }
+            if (now.isBefore(queue.registrationOpenDate)) {
+                return false;
+            }
+            long queued = Math.min(queue.depth(), admitRatePerSecond);
+            queue.admittedUpTo.addAndGet(queued);
+            long directUsed = queue.lastDirectBudget - Math.max(queue.directBudget.get(), 0);
+            queue.admittedLastSecond = queued + directUsed;
+            queue.admittedTotal.addAndGet(queue.admittedLastSecond);
+            queue.lastDirectBudget = admitRatePerSecond - queued;
+            queue.directBudget.set(queue.lastDirectBudget);
+            return false;
+        });
+    }
+
+    public List<AdmissionQueueStats> getStats() {
+        LocalDateTime now = LocalDateTime.now();
+        return queues.entrySet().stream()
+                .filter(entry -> entry.getValue().registrationOpenDate != null)
+                .map(entry -> {
+                    EventQueue queue = entry.getValue();
+                    return new AdmissionQueueStats(
+                            entry.getKey(),
+                            queue.registrationOpenDate,
+                            queue.isActive(now),
+                            queue.depth(),
+                            queue.admittedTotal.get(),
+                            queue.admittedLastSecond,
+                            queue.rejected.get(),
+                            admitRatePerSecond);
+                })
+                .toList();
+    }
+
+    private EventQueue queueFor(Long eventId) {
+        return queues.computeIfAbsent(eventId, id -> new EventQueue(
+                eventRepository.findRegistrationOpenDate(id).orElse(null), windowMinutes, admitRatePerSecond));
+    }
+
+    private AdmissionTicket ticketFor(EventQueue queue, Long eventId, Long userId, long position) {
+        long ahead = Math.max(0, position - queue.admittedUpTo.get());
+        return new AdmissionTicket(eventId, sign(eventId, userId, position, queue), ahead == 0, ahead,
+                estimatedWaitSeconds(queue, position));
+    }
+
+    private long estimatedWaitSeconds(EventQueue queue, long position) {
+        long ahead = Math.max(0, position - queue.admittedUpTo.get());
+        return (ahead + admitRatePerSecond - 1) / Math.max(1, admitRatePerSecond);
+    }
+
+    // Token: base64url("eventId:userId:position:expiresAtEpochSecond") + "." + base64url(hmac)
+    private String sign(Long eventId, Long userId, long position, EventQueue queue) {
+        long expiresAt = queue.registrationOpenDate.plusMinutes(windowMinutes + tokenTtlMinutes)
+                .toEpochSecond(ZoneOffset.UTC);
+        byte[] payload = (eventId + ":" + userId + ":" + position + ":" + expiresAt)
+                .getBytes(StandardCharsets.UTF_8);
+        Base64.Encoder encoder = Base64.getUrlEncoder().withoutPadding();
+        return encoder.encodeToString(payload) + "." + encoder.encodeToString(macs.get().doFinal(payload));
+    }
+
+    private long verify(String token, Long eventId, Long userId) {
+        try {
+            int dot = token.indexOf('.');
+            byte[] payload = Base64.getUrlDecoder().decode(token.substring(0, dot));
+            byte[] signature = Base64.getUrlDecoder().decode(token.substring(dot + 1));
+            if (!MessageDigest.isEqual(signature, macs.get().doFinal(payload))) {
+                throw new ValidationException("Invalid admission token");
+            }
+            String[] parts = new String(payload, StandardCharsets.UTF_8).split(":");
+            long expiresAt = Long.parseLong(parts[3]);
+            if (!eventId.equals(Long.valueOf(parts[0])) || !userId.equals(Long.valueOf(parts[1]))
+                    || LocalDateTime.now().toEpochSecond(ZoneOffset.UTC) > expiresAt) {
+                throw new ValidationException("Admission token is not valid for this registration");
+            }
+            return Long.parseLong(parts[2]);
+        } catch (IllegalArgumentException | IndexOutOfBoundsException e) {
+            throw new ValidationException("Invalid admission token");
+        }
+    }
+
+    private static final class EventQueue {
+        private final LocalDateTime registrationOpenDate; // null -> event never queues
+        private final int windowMinutes;
+        private final long loadedAt = System.currentTimeMillis();
+        private final Map<Long, Long> positions = new ConcurrentHashMap<>(); // userId -> position
+        private final AtomicLong tail = new AtomicLong();
+        private final AtomicLong admittedUpTo = new AtomicLong();
+        private final AtomicLong directBudget = new AtomicLong();
+        private final AtomicLong admittedTotal = new AtomicLong();
+        private final AtomicLong rejected = new AtomicLong();
+        private volatile long lastDirectBudget;
+        private volatile long admittedLastSecond;
+
+        private EventQueue(LocalDateTime registrationOpenDate, int windowMinutes, int admitRatePerSecond) {
+            this.registrationOpenDate = registrationOpenDate;
+            this.windowMinutes = windowMinutes;
+            // Created after registration opened: first second gets a full budget instead of waiting for tick()
+            if (registrationOpenDate != null && !LocalDateTime.now().isBefore(registrationOpenDate)) {
+                lastDirectBudget = admitRatePerSecond;
+                directBudget.set(admitRatePerSecond);
+            }
+        }
+
+        // Waiting room is open from windowMinutes before registration opens until windowMinutes after
+        private boolean isActive(LocalDateTime now) {
+            return registrationOpenDate != null
+                    && !now.isBefore(registrationOpenDate.minusMinutes(windowMinutes))
+                    && now.isBefore(registrationOpenDate.plusMinutes(windowMinutes));
+        }
+
+        private long depth() {
+            return tail.get() - admittedUpTo.get();
+        }
+    }
+}
@@ -0,0 +1,305 @@
+package org.eventmate.server.service;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.exception.custom.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Supplier;
+
+/**
+ * AiCallGuard - Keeps a slow or failing Gemini from taking the rest of the API down with it.
+ *
+ * Bulkhead: at most max-concurrent model calls run at once; up to max-queued more wait max-wait-ms
+ * for a slot, anything beyond that is rejected straight away. A slot is held until the model call
+ * really ends, so calls that outlive their deadline still count against the limit.
+ *
+ * Deadline: the caller gets its answer or a ServiceUnavailableException after timeout-ms, whatever
+ * the model is doing.
+ *
+ * Circuit breaker: failure-threshold consecutive failures/timeouts open the circuit and calls fail
+ * fast for open-ms; then a single trial call decides whether it closes again.
+ */
+@Service
+@Slf4j
+public class AiCallGuard {
+
+    public enum State {
+        CLOSED, OPEN, HALF_OPEN
+    }
+
+    private enum Admission {
+        NORMAL, TRIAL, DENIED
+    }
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    private final AtomicInteger active = new AtomicInteger();
+    private final AtomicInteger queued = new AtomicInteger();
+    private final AtomicLong calls = new AtomicLong();
+    private final AtomicLong successes = new AtomicLong();
+    private final AtomicLong failures = new AtomicLong();
+    private final AtomicLong timeouts = new AtomicLong();
+    private final AtomicLong rejected = new AtomicLong();
+    private final AtomicLong shortCircuited = new AtomicLong();
+    private final AtomicLong totalLatencyMs = new AtomicLong();
+    private final AtomicLong maxLatencyMs = new AtomicLong();
+
+    private Semaphore slots;
+
+    // Breaker state, guarded by this
+    private State state = State.CLOSED;
+    private int consecutiveFailures;
+    private long openedAt;
+    private boolean trialInFlight;
+
+    @Value("${app.ai.guard.max-concurrent:8}")
+    private int maxConcurrent;
+
+    @Value("${app.ai.guard.max-queued:16}")
+    private int maxQueued;
+
+    @Value("${app.ai.guard.max-wait-ms:2000}")
+    private long maxWaitMs;
+
+    @Value("${app.ai.guard.timeout-ms:20000}")
+    private long timeoutMs;
+
+    @Value("${app.ai.guard.failure-threshold:5}")
+    private int failureThreshold;
+
+    @Value("${app.ai.guard.open-ms:30000}")
+    private long openMs;
+
+    @PostConstruct
+    void initSlots() {
+        slots = new Semaphore(maxConcurrent, true);
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    /**
+     * Runs a blocking model call inside the bulkhead and returns its result, or throws
+     * ServiceUnavailableException if the circuit is open, the bulkhead is full or the deadline passes
+     */
+    public <T> T call(Supplier<T> action) {
+        Permit permit = acquire();
+        Future<T> future;
+        try {
+            future = executor.submit(() -> {
+                try {
+                    T result = action.get();
+                    permit.record(true);
+                    return result;
+                } catch (RuntimeException e) {
+                    permit.record(false);
+                    throw e;
+                } finally {
+                    permit.release();
+                }
+            });
+        } catch (RuntimeException e) {
+            permit.release();
+            throw e;
+        }
+
+        try {
+            return future.get(timeoutMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            future.cancel(true);
+            timeouts.incrementAndGet();
+            permit.record(false);
+            throw new ServiceUnavailableException("AI model did not answer within " + timeoutMs + " ms",
+                    retryAfterSeconds());
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            future.cancel(true);
+            throw new ServiceUnavailableException("Interrupted while waiting for the AI model", 1);
+        } catch (ExecutionException e) {
+            if (e.getCause() instanceof RuntimeException runtime) {
+                throw runtime;
+            }
+            throw new IllegalStateException(e.getCause());
+        }
+    }
+
+    /**
+     * Takes a bulkhead slot for a call the caller drives itself (streaming). The caller must end it
+     * with success(), failure() or, if the outcome says nothing about the model, release().
+     */
+    public Permit acquire() {
+        Admission admission = admit();
+        if (admission == Admission.DENIED) {
+            shortCircuited.incrementAndGet();
+            throw new ServiceUnavailableException("AI assistant is temporarily unavailable", retryAfterSeconds());
+        }
+        if (!slots.tryAcquire() && !waitForSlot()) {
+            rejected.incrementAndGet();
+            if (admission == Admission.TRIAL) {
+                endTrial();
+            }
+            throw new ServiceUnavailableException("AI assistant is busy", 1);
+        }
+        active.incrementAndGet();
+        calls.incrementAndGet();
+        return new Permit(admission == Admission.TRIAL);
+    }
+
+    private boolean waitForSlot() {
+        if (queued.incrementAndGet() > maxQueued) {
+            queued.decrementAndGet();
+            return false;
+        }
+        try {
+            return slots.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            return false;
+        } finally {
+            queued.decrementAndGet();
+        }
+    }
+
+    public synchronized State state() {
+        return state;
+    }
+
+    public Map<String, Object> getStats() {
+        long finished = successes.get() + failures.get();
+        Map<String, Object> stats = new LinkedHashMap<>();
+        stats.put("state", state().name());
+        stats.put("active", active.get());
+        stats.put("queued", queued.get());
+        stats.put("calls", calls.get());
+        stats.put("successes", successes.get());
+        stats.put("failures", failures.get());
+        stats.put("timeouts", timeouts.get());
+        stats.put("rejected", rejected.get());
+        stats.put("shortCircuited", shortCircuited.get());
+        stats.put("avgLatencyMs", finished == 0 ? 0 : totalLatencyMs.get() / finished);
+        stats.put("maxLatencyMs", maxLatencyMs.get());
+        return stats;
+    }
+
+    private synchronized Admission admit() {
+        if (state == State.OPEN && System.currentTimeMillis() - openedAt >= openMs) {
+            state = State.HALF_OPEN;
+            trialInFlight = false;
+        }
+        return switch (state) {
+            case CLOSED -> Admission.NORMAL;
+            case OPEN -> Admission.DENIED;
+            case HALF_OPEN -> {
+                // Only one trial call at a time; the rest fail fast as if the circuit were open
+                if (trialInFlight) {
+                    yield Admission.DENIED;
+                }
+                trialInFlight = true;
+                yield Admission.TRIAL;
+            }
+        };
+    }
+
+    private synchronized void endTrial() {
+        trialInFlight = false;
+    }
+
+    private synchronized void onSuccess() {
+        if (state != State.CLOSED) {
+            log.info("AI circuit closed again");
+        }
+        state = State.CLOSED;
+        consecutiveFailures = 0;
+        trialInFlight = false;
+    }
+
+    private synchronized void onFailure() {
+        consecutiveFailures++;
+        trialInFlight = false;
+        if (state == State.HALF_OPEN || consecutiveFailures >= failureThreshold) {
+            if (state != State.OPEN) {
+                log.warn("AI circuit opened after {} consecutive failures", consecutiveFailures);
+            }
+            state = State.OPEN;
+            openedAt = System.currentTimeMillis();
+        }
+    }
+
+    private synchronized long retryAfterSeconds() {
+        if (state != State.OPEN) {
+            return 1;
+        }
+        long remainingMs = openMs - (System.currentTimeMillis() - openedAt);
+        return Math.max(1, (remainingMs + 999) / 1000);
+    }
+
+    /**
+     * One bulkhead slot. The slot and the breaker outcome are settled independently so a timed-out
+     * call counts as a failure right away but keeps its slot until the model actually returns.
+     */
+    public final class Permit {
+
+        private final boolean trial;
+        private final long startNanos = System.nanoTime();
+        private final AtomicBoolean released = new AtomicBoolean();
+        private final AtomicBoolean recorded = new AtomicBoolean();
+
+        private Permit(boolean trial) {
+            this.trial = trial;
+        }
+
+        public void success() {
+            record(true);
+            release();
+        }
+
+        public void failure() {
+            record(false);
+            release();
+        }
+
+        public void release() {
+            if (released.compareAndSet(false, true)) {
+                active.decrementAndGet();
+                slots.release();
+                if (trial && !recorded.get()) {
+                    // Trial ended without a verdict (client left); let the next call try instead
+                    endTrial();
+                }
+            }
+        }
+
+        void record(boolean ok) {
+            if (!recorded.compareAndSet(false, true)) {
+                return;
+            }
+            long latencyMs = TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - startNanos);
+            totalLatencyMs.addAndGet(latencyMs);
+            maxLatencyMs.accumulateAndGet(latencyMs, Math::max);
+            if (ok) {
+                successes.incrementAndGet();
+                onSuccess();
+            } else {
+                failures.incrementAndGet();
+                onFailure();
+            }
+        }
+    }
+}
@@ -0,0 +1,174 @@
+package org.eventmate.server.service;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.node.ArrayNode;
+import com.fasterxml.jackson.databind.node.ObjectNode;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.ai.Bm25Index;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDateTime;
+import java.time.format.DateTimeParseException;
+import java.time.format.TextStyle;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+
+/**
+ * AiContextService - Picks the part of the metadata cache that is relevant to a chat message.
+ *
+ * Events and venues from MetadataService are ranked against the message with BM25 and only the
+ * best matches go into the prompt, as compact single-line JSON, until the token budget is used
+ * up. Questions that match nothing (e.g. "what's on?") get the next upcoming events instead.
+ * The index is rebuilt only when the metadata snapshot version changes.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AiContextService {
+
+    private static final int CHARS_PER_TOKEN = 4;
+    private static final int DESCRIPTION_CHARS = 120;
+
+    private final MetadataService metadataService;
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private volatile Snapshot snapshot;
+
+    @Value("${app.ai.retrieval.top-k:8}")
+    private int topK;
+
+    @Value("${app.ai.retrieval.max-context-tokens:1500}")
+    private int maxContextTokens;
+
+    /**
+     * Prompt context for {@code message}: totals plus the most relevant events and venues
+     */
+    public String buildContext(String message) {
+        Snapshot current = currentSnapshot();
+
+        List<ObjectNode> selected = current.index.search(message, topK);
+        boolean matched = !selected.isEmpty();
+        if (!matched) {
+            selected = current.fallback;
+        }
+
+        ObjectNode context = mapper.createObjectNode();
+        context.put("totalEvents", current.totalEvents);
+        context.put("totalVenues", current.totalVenues);
+        ArrayNode events = context.putArray("events");
+        ArrayNode venues = context.putArray("venues");
+
+        int budget = maxContextTokens * CHARS_PER_TOKEN;
+        int used = 0;
+        int included = 0;
+        for (ObjectNode record : selected) {
+            int size = record.toString().length();
+            if (used + size > budget && included > 0) {
+                break;
+            }
+            ObjectNode copy = record.deepCopy();
+            String kind = copy.remove("kind").asText();
+            ("venue".equals(kind) ? venues : events).add(copy);
+            used += size;
+            included++;
+        }
+        context.put("note", matched
+                ? "Only the records most relevant to the user's message are listed."
+                : "Only the next upcoming events are listed; ask the user what they are looking for.");
+        return context.toString();
+    }
+
+    private Snapshot currentSnapshot() {
+        MetadataService.Snapshot metadata = metadataService.getSnapshot();
+        Snapshot current = snapshot;
+        if (current != null && current.version == metadata.version()) {
+            return current;
+        }
+        current = buildSnapshot(metadata);
+        snapshot = current;
+        return current;
+    }
+
+    private Snapshot buildSnapshot(MetadataService.Snapshot metadata) {
+        JsonNode root = mapper.valueToTree(metadata.toContextMap());
+
+        List<ObjectNode> records = new ArrayList<>();
+        List<String> texts = new ArrayList<>();
+        List<ObjectNode> upcoming = new ArrayList<>();
+        LocalDateTime now = LocalDateTime.now();
+
+        for (JsonNode event : root.path("events")) {
+            ObjectNode record = mapper.createObjectNode();
+            record.put("kind", "event");
+            copy(event, record, "id", "title", "type", "format", "startDate", "ticketType", "price", "venue");
+            String description = event.path("description").asText("");
+            if (!description.isEmpty()) {
+                record.put("description", description.length() > DESCRIPTION_CHARS
+                        ? description.substring(0, DESCRIPTION_CHARS) + "..."
+                        : description);
+            }
+            records.add(record);
+
+            String title = event.path("title").asText("");
+            texts.add(String.join(" ", title, title, description,
+                    event.path("type").asText(""), event.path("format").asText(""),
+                    event.path("ticketType").asText(""), event.path("venue").asText(""),
+                    monthOf(event.path("startDate").asText(null))));
+
+            LocalDateTime start = parse(event.path("startDate").asText(null));
+            if (start == null || !start.isBefore(now)) {
+                upcoming.add(record);
+            }
+        }
+        for (JsonNode venue : root.path("venues")) {
+            ObjectNode record = mapper.createObjectNode();
+            record.put("kind", "venue");
+            copy(venue, record, "id", "name", "location", "capacity");
+            records.add(record);
+
+            String name = venue.path("name").asText("");
+            texts.add(String.join(" ", name, name, venue.path("location").asText("")));
+        }
+
+        upcoming.sort(Comparator.comparing((ObjectNode r) -> r.path("startDate").asText("9999")));
+        return new Snapshot(metadata.version(), Bm25Index.build(records, texts),
+                List.copyOf(upcoming.subList(0, Math.min(topK, upcoming.size()))),
+                root.path("events").size(), root.path("venues").size());
+    }
+
+    private static void copy(JsonNode from, ObjectNode to, String... fields) {
+        for (String field : fields) {
+            JsonNode value = from.get(field);
+            if (value != null && !value.isNull()) {
+                to.set(field, value);
+            }
+        }
+    }
+
+    // "2025-03-14T18:00" -> "march 2025" so questions like "events in March" can match
+    private static String monthOf(String date) {
+        LocalDateTime parsed = parse(date);
+        return parsed == null ? "" : parsed.getMonth().getDisplayName(TextStyle.FULL, Locale.ENGLISH) + " "
+                + parsed.getYear();
+    }
+
+    private static LocalDateTime parse(String date) {
+        if (date == null || date.isEmpty()) {
+            return null;
+        }
+        try {
+            return LocalDateTime.parse(date);
+        } catch (DateTimeParseException e) {
+            return null;
+        }
+    }
+
+    private record Snapshot(long version, Bm25Index<ObjectNode> index, List<ObjectNode> fallback,
+            int totalEvents, int totalVenues) {
+    }
+}
@@ -0,0 +1,109 @@
+package org.eventmate.server.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.dto.ChatResponse;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * AiResponseCache - Remembers model answers so a repeated question doesn't cost another Gemini call.
+ *
+ * Keyed on the normalized message plus the metadata snapshot version: any event/venue change
+ * bumps the version, so answers computed from stale data are never served. Entries expire after
+ * ttl-minutes and the least recently used one is dropped once max-entries is reached.
+ */
+@Service
+@Slf4j
+public class AiResponseCache {
+
+    private final AtomicLong hits = new AtomicLong();
+    private final AtomicLong misses = new AtomicLong();
+    private final AtomicLong evictions = new AtomicLong();
+
+    private Map<String, Entry> entries;
+
+    @Value("${app.ai.cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.ai.cache.max-entries:1000}")
+    private int maxEntries;
+
+    @Value("${app.ai.cache.ttl-minutes:10}")
+    private long ttlMinutes;
+
+    @PostConstruct
+    void initCache() {
+        entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                if (size() > maxEntries) {
+                    evictions.incrementAndGet();
+                    return true;
+                }
+                return false;
+            }
+        });
+    }
+
+    public Optional<ChatResponse> get(String message, long metadataVersion) {
+        if (!enabled) {
+            return Optional.empty();
+        }
+        String key = key(message, metadataVersion);
+        Entry entry = entries.get(key);
+        if (entry != null && entry.expiresAt > System.currentTimeMillis()) {
+            hits.incrementAndGet();
+            return Optional.of(entry.response);
+        }
+        if (entry != null) {
+            entries.remove(key);
+            evictions.incrementAndGet();
+        }
+        misses.incrementAndGet();
+        return Optional.empty();
+    }
+
+    public void put(String message, long metadataVersion, ChatResponse response) {
+        if (enabled) {
+            entries.put(key(message, metadataVersion),
+                    new Entry(response, System.currentTimeMillis() + ttlMinutes * 60_000));
+        }
+    }
+
+    public Map<String, Object> getStats() {
+        long hitCount = hits.get();
+        long missCount = misses.get();
+        long total = hitCount + missCount;
+        return Map.of(
+                "size", entries.size(),
+                "hits", hitCount,
+                "misses", missCount,
+                "evictions", evictions.get(),
+                "hitRate", total == 0 ? 0.0 : (double) hitCount / total);
+    }
+
+    // "What events are available this week?" and "what events are  available this week" share an entry
+    static String normalize(String message) {
+        if (message == null) {
+            return "";
+        }
+        return message.toLowerCase(Locale.ROOT)
+                .replaceAll("[^\\p{L}\\p{N}]+", " ")
+                .trim();
+    }
+
+    private static String key(String message, long metadataVersion) {
+        return metadataVersion + "|" + normalize(message);
+    }
+
+    private record Entry(ChatResponse response, long expiresAt) {
+    }
+}
@@ -0,0 +1,308 @@
+package org.eventmate.server.service;
+
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.ai.AgentResponseParser;
+import org.eventmate.server.ai.EventAgent;
+import org.eventmate.server.ai.IntentRouter;
+import org.eventmate.server.dto.ChatResponse;
+import org.eventmate.server.exception.custom.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+
+import java.io.IOException;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.Consumer;
+
+/**
+ * AiStreamingService - Streams EventAgent answers to the browser as server-sent events.
+ *
+ * Events: "token" ({"text": ...}) for each chunk Gemini produces, then one "done" carrying the same
+ * ChatResponse /api/ai/chat would return, or "error" with the usual fallback message. Output that
+ * starts with "{" is held back until the JSON object closes, so a NAVIGATE command is sent as "done"
+ * the moment it is complete instead of being streamed as raw JSON. Routed and cached answers skip
+ * the model and arrive as a single "done".
+ *
+ * Each stream runs on its own virtual thread, so slow model responses don't tie up request threads,
+ * and holds an AiCallGuard slot until the model completes or fails. A client that goes away does
+ * not free the slot early: the Gemini request keeps running (TokenStream can't be cancelled), and
+ * it is bounded by the streaming model's timeout, which AiConfig sets to the stream timeout.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AiStreamingService {
+
+    static final String TOKEN = "token";
+    static final String DONE = "done";
+    static final String ERROR = "error";
+
+    private final EventAgent eventAgent;
+    private final MetadataService metadataService;
+    private final AiContextService aiContextService;
+    private final IntentRouter intentRouter;
+    private final AiResponseCache aiResponseCache;
+    private final AiCallGuard aiCallGuard;
+
+    private final ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${app.ai.stream.timeout-ms:60000}")
+    private long timeoutMs;
+
+    public SseEmitter stream(String message) {
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        EmitterSink sink = new EmitterSink(emitter);
+        emitter.onCompletion(sink::close);
+        emitter.onTimeout(sink::close);
+        emitter.onError(e -> sink.close());
+        executor.execute(() -> relay(message, sink));
+        return emitter;
+    }
+
+    @PreDestroy
+    void shutdown() {
+        executor.shutdownNow();
+    }
+
+    void relay(String message, Sink sink) {
+        AiCallGuard.Permit permit = null;
+        try {
+            log.info("AI Stream request: {}", message);
+
+            Optional<ChatResponse> routed = intentRouter.route(message);
+            if (routed.isPresent()) {
+                finish(sink, routed.get());
+                return;
+            }
+
+            long metadataVersion = metadataService.getSnapshot().version();
+            Optional<ChatResponse> cached = aiResponseCache.get(message, metadataVersion);
+            if (cached.isPresent()) {
+                finish(sink, cached.get());
+                return;
+            }
+
+            String metadata = aiContextService.buildContext(message);
+            AiCallGuard.Permit slot = aiCallGuard.acquire();
+            permit = slot;
+            TokenRelay relay = new TokenRelay(sink, response -> {
+                slot.success();
+                aiResponseCache.put(message, metadataVersion, response);
+            }, slot::failure);
+            eventAgent.chatStream(message, metadata)
+                    .onPartialResponse(relay::onToken)
+                    .onCompleteResponse(response -> relay.onComplete())
+                    .onError(relay::onError)
+                    .start();
+        } catch (ServiceUnavailableException e) {
+            log.warn("AI Stream unavailable: {}", e.getMessage());
+            sink.send(ERROR, AgentResponseParser.fallback());
+            sink.complete();
+        } catch (Exception e) {
+            log.error("AI Stream error: ", e);
+            if (permit != null) {
+                permit.failure();
+            }
+            sink.send(ERROR, AgentResponseParser.fallback());
+            sink.complete();
+        }
+    }
+
+    private static void finish(Sink sink, ChatResponse response) {
+        sink.send(DONE, response);
+        sink.complete();
+    }
+
+    /**
+     * Where stream events go; an SseEmitter in production, a list in tests
+     */
+    interface Sink {
+        void send(String event, Object data);
+
+        void complete();
+    }
+
+    /**
+     * Forwards model tokens to the sink, holding back JSON so NAVIGATE commands are never shown as text.
+     * A command is sent to the client as soon as it closes, but the outcome (onAnswer / onFailure,
+     * which free the AiCallGuard slot) is only reported once the model stream itself ends.
+     */
+    static final class TokenRelay {
+
+        private final Sink sink;
+        private final Consumer<ChatResponse> onAnswer;
+        private final Runnable onFailure;
+        private final StringBuilder text = new StringBuilder();
+        private boolean passthrough;
+        // The client has its "done"; later tokens are dropped
+        private ChatResponse answered;
+        // The model stream completed or failed
+        private boolean finished;
+
+        // Not synchronized: the sink writes to the client socket, which would pin a virtual thread on JDK 21
+        private final ReentrantLock lock = new ReentrantLock();
+
+        TokenRelay(Sink sink, Consumer<ChatResponse> onAnswer, Runnable onFailure) {
+            this.sink = sink;
+            this.onAnswer = onAnswer;
+            this.onFailure = onFailure;
+        }
+
+        void onToken(String token) {
+            lock.lock();
+            try {
+                relayToken(token);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void onComplete() {
+            lock.lock();
+            try {
+                relayComplete();
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        void onError(Throwable error) {
+            lock.lock();
+            try {
+                relayError(error);
+            } finally {
+                lock.unlock();
+            }
+        }
+
+        private void relayToken(String token) {
+            if (finished || answered != null || token == null) {
+                return;
+            }
+            text.append(token);
+            if (passthrough) {
+                sink.send(TOKEN, Map.of("text", token));
+                return;
+            }
+
+            String head = text.toString().stripLeading();
+            if (head.isEmpty()) {
+                return;
+            }
+            if (head.charAt(0) == '{') {
+                int end = closingBrace(head);
+                if (end < 0) {
+                    return; // wait for the rest of the object
+                }
+                ChatResponse parsed = AgentResponseParser.parse(head.substring(0, end + 1));
+                if (parsed.isCommand()) {
+                    // Whatever the model adds after the command is dropped, as /api/ai/chat would
+                    answer(parsed);
+                    return;
+                }
+            }
+            passthrough = true;
+            sink.send(TOKEN, Map.of("text", text.toString()));
+        }
+
+        private void relayComplete() {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            if (answered == null) {
+                String full = text.toString();
+                if (!passthrough && !full.isBlank()) {
+                    // Held back as possible JSON but never became a command
+                    sink.send(TOKEN, Map.of("text", full));
+                }
+                answer(AgentResponseParser.parse(full));
+            }
+            onAnswer.accept(answered);
+        }
+
+        private void relayError(Throwable error) {
+            if (finished) {
+                return;
+            }
+            finished = true;
+            log.error("AI Stream error: ", error);
+            onFailure.run();
+            if (answered == null) {
+                sink.send(ERROR, AgentResponseParser.fallback());
+                sink.complete();
+            }
+        }
+
+        private void answer(ChatResponse response) {
+            answered = response;
+            finish(sink, response);
+        }
+
+        // Index of the brace closing the object that starts at 0, or -1 while it is still open
+        static int closingBrace(String json) {
+            int depth = 0;
+            boolean inString = false;
+            for (int i = 0; i < json.length(); i++) {
+                char c = json.charAt(i);
+                if (inString) {
+                    if (c == '\\') {
+                        i++;
+                    } else if (c == '"') {
+                        inString = false;
+                    }
+                } else if (c == '"') {
+                    inString = true;
+                } else if (c == '{') {
+                    depth++;
+                } else if (c == '}' && --depth == 0) {
+                    return i;
+                }
+            }
+            return -1;
+        }
+    }
+
+    private static final class EmitterSink implements Sink {
+
+        private final SseEmitter emitter;
+        private volatile boolean closed;
+
+        EmitterSink(SseEmitter emitter) {
+            this.emitter = emitter;
+        }
+
+        @Override
+        public void send(String event, Object data) {
+            if (closed) {
+                return;
+            }
+            try {
+                emitter.send(SseEmitter.event().name(event).data(data, MediaType.APPLICATION_JSON));
+            } catch (IOException | IllegalStateException e) {
+                // Client went away; let the model finish but stop writing
+                log.debug("AI Stream closed by client: {}", e.getMessage());
+                closed = true;
+            }
+        }
+
+        @Override
+        public void complete() {
+            if (!closed) {
+                closed = true;
+                emitter.complete();
+            }
+        }
+
+        void close() {
+            closed = true;
+        }
+    }
+}
@@ -0,0 +1,244 @@
+package org.eventmate.server.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.dto.AnalyticsResponse;
+import org.eventmate.server.entity.Booking;
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.entity.EventDailyStats;
+import org.eventmate.server.entity.Role;
+import org.eventmate.server.repository.BookingRepository;
+import org.eventmate.server.repository.EventDailyStatsRepository;
+import org.eventmate.server.repository.EventRepository;
+import org.eventmate.server.repository.TransactionRepository;
+import org.eventmate.server.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static org.eventmate.server.service.TransactionHooks.afterCommit;
+
+/**
+ * AnalyticsService - Admin dashboard numbers served from memory instead of counting tables.
+ *
+ * Totals (events by status, users by role, bookings, revenue) are loaded once with grouped count
+ * queries and then moved by the write paths after each commit. Per-event daily bookings and
+ * cancellations are buffered and added to event_daily_stats every flush-interval-ms; daily revenue
+ * for the last revenue-refresh-days is recomputed there on every reconcile, which also brings the
+ * totals back to what the database says in case a write bypassed the hooks.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class AnalyticsService {
+
+    private final EventRepository eventRepository;
+    private final UserRepository userRepository;
+    private final BookingRepository bookingRepository;
+    private final TransactionRepository transactionRepository;
+    private final EventDailyStatsRepository eventDailyStatsRepository;
+
+    private final Map<Event.EventStatus, AtomicLong> eventsByStatus = counters(Event.EventStatus.class);
+    private final Map<Role, AtomicLong> usersByRole = counters(Role.class);
+    private final AtomicLong totalBookings = new AtomicLong();
+    private volatile BigDecimal totalRevenue = BigDecimal.ZERO;
+
+    // Daily deltas not yet written to event_daily_stats
+    private final Map<DayKey, Counts> pendingDaily = new ConcurrentHashMap<>();
+
+    @Value("${app.analytics.revenue-refresh-days:2}")
+    private int revenueRefreshDays;
+
+    @EventListener(ApplicationReadyEvent.class)
+    @Transactional
+    public void onApplicationReady() {
+        reconcile();
+    }
+
+    public AnalyticsResponse getAnalytics() {
+        long totalEvents = eventsByStatus.values().stream().mapToLong(AtomicLong::get).sum();
+        return new AnalyticsResponse(
+                totalEvents,
+                usersByRole.get(Role.USER).get(),
+                usersByRole.get(Role.ORGANIZATION).get(),
+                totalBookings.get(),
+                totalRevenue,
+                eventsByStatus.get(Event.EventStatus.ACTIVE).get(),
+                eventsByStatus.get(Event.EventStatus.COMPLETED).get());
+    }
+
+    /**
+     * Users with the role (all users when role is null), from the counters rather than a COUNT query
+     */
+    public long countUsers(Role role) {
+        if (role != null) {
+            return usersByRole.get(role).get();
+        }
+        return usersByRole.values().stream().mapToLong(AtomicLong::get).sum();
+    }
+
+    /**
+     * Daily bookings, cancellations and revenue of one event, oldest first; days without activity
+     * are absent. Bookings made in the last flush-interval-ms may not be included yet.
+     */
+    public List<EventDailyStats> getDailySeries(Long eventId, LocalDate from, LocalDate to) {
+        return eventDailyStatsRepository.findByEventIdAndStatDateBetweenOrderByStatDateAsc(eventId, from, to);
+    }
+
+    // ========== Write hooks ==========
+
+    /**
+     * An event was saved; previousStatus is null for a new event
+     */
+    public void eventSaved(Event.EventStatus previousStatus, Event.EventStatus status) {
+        if (previousStatus == status) {
+            return;
+        }
+        afterCommit(() -> {
+            if (previousStatus != null) {
+                eventsByStatus.get(previousStatus).decrementAndGet();
+            }
+            eventsByStatus.get(status).incrementAndGet();
+        });
+    }
+
+    public void eventDeleted(Event.EventStatus status) {
+        afterCommit(() -> eventsByStatus.get(status).decrementAndGet());
+    }
+
+    public void userCreated(Role role) {
+        afterCommit(() -> usersByRole.get(role).incrementAndGet());
+    }
+
+    public void userDeleted(Role role) {
+        afterCommit(() -> usersByRole.get(role).decrementAndGet());
+    }
+
+    public void bookingCreated(Booking booking) {
+        DayKey key = new DayKey(booking.getEventId(), LocalDate.now());
+        afterCommit(() -> {
+            totalBookings.incrementAndGet();
+            pendingDaily.merge(key, new Counts(1, 0), Counts::plus);
+        });
+    }
+
+    public void bookingCancelled(Booking booking) {
+        DayKey key = new DayKey(booking.getEventId(), LocalDate.now());
+        afterCommit(() -> pendingDaily.merge(key, new Counts(0, 1), Counts::plus));
+    }
+
+    // ========== Background jobs ==========
+
+    @Scheduled(fixedDelayString = "${app.analytics.flush-interval-ms:5000}", initialDelay = 5000)
+    @Transactional
+    public void flushDailyCounts() {
+        List<Map.Entry<DayKey, Counts>> drained = new ArrayList<>();
+        for (DayKey key : pendingDaily.keySet()) {
+            Counts counts = pendingDaily.remove(key);
+            if (counts != null) {
+                drained.add(Map.entry(key, counts));
+            }
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+        try {
+            for (Map.Entry<DayKey, Counts> entry : drained) {
+                DayKey key = entry.getKey();
+                Counts counts = entry.getValue();
+                eventDailyStatsRepository.addCounts(key.eventId(), key.day(), counts.bookings(),
+                        counts.cancellations());
+            }
+        } catch (RuntimeException e) {
+            // The transaction rolls back; put the deltas back for the next run
+            drained.forEach(entry -> pendingDaily.merge(entry.getKey(), entry.getValue(), Counts::plus));
+            throw e;
+        }
+        log.debug("Flushed daily analytics for {} event-days", drained.size());
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.reconcile-interval-ms:900000}", initialDelay = 900000)
+    @Transactional
+    public void reconcile() {
+        // Write hooks keep running while the counts are read; their deltas must survive the reset
+        Map<Event.EventStatus, Long> eventsBefore = values(eventsByStatus);
+        Map<Role, Long> usersBefore = values(usersByRole);
+        long bookingsBefore = totalBookings.get();
+
+        Map<Event.EventStatus, Long> events = grouped(eventRepository.countGroupedByStatus(), Event.EventStatus.class);
+        Map<Role, Long> users = grouped(userRepository.countGroupedByRole(), Role.class);
+        long bookings = bookingRepository.count();
+        BigDecimal revenue = transactionRepository.getTotalRevenue();
+
+        events.forEach((status, count) -> rebase(eventsByStatus.get(status), eventsBefore.get(status), count));
+        users.forEach((role, count) -> rebase(usersByRole.get(role), usersBefore.get(role), count));
+        rebase(totalBookings, bookingsBefore, bookings);
+        totalRevenue = revenue != null ? revenue : BigDecimal.ZERO;
+
+        int rows = eventDailyStatsRepository.refreshRevenueSince(
+                LocalDate.now().minusDays(revenueRefreshDays - 1L).atStartOfDay());
+        log.info("Analytics reconciled: {} events, {} bookings, {} daily revenue rows",
+                events.values().stream().mapToLong(Long::longValue).sum(), bookings, rows);
+    }
+
+    private static <E extends Enum<E>> Map<E, AtomicLong> counters(Class<E> type) {
+        Map<E, AtomicLong> counters = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counters.put(value, new AtomicLong());
+        }
+        return counters;
+    }
+
+    private static <E extends Enum<E>> Map<E, Long> values(Map<E, AtomicLong> counters) {
+        Map<E, Long> values = new HashMap<>();
+        counters.forEach((key, counter) -> values.put(key, counter.get()));
+        return values;
+    }
+
+    /**
+     * Moves the counter from what it was before the counts were read to the database count, in one
+     * atomic add, so deltas applied in between are kept rather than overwritten by a set(). A write
+     * that committed before the count was read but whose hook ran after the snapshot is counted
+     * twice until the next reconcile.
+     */
+    private static void rebase(AtomicLong counter, long before, long count) {
+        counter.addAndGet(count - before);
+    }
+
+    // Every constant gets a value so a status that no longer has rows is reset to 0
+    private static <E extends Enum<E>> Map<E, Long> grouped(List<Object[]> rows, Class<E> type) {
+        Map<E, Long> counts = new EnumMap<>(type);
+        for (E value : type.getEnumConstants()) {
+            counts.put(value, 0L);
+        }
+        for (Object[] row : rows) {
+            if (row[0] != null) {
+                counts.put(type.cast(row[0]), ((Number) row[1]).longValue());
+            }
+        }
+        return counts;
+    }
+
+
+    private record DayKey(Long eventId, LocalDate day) {
+    }
+
+    private record Counts(long bookings, long cancellations) {
+        Counts plus(Counts other) {
+            return new Counts(bookings + other.bookings, cancellations + other.cancellations);
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.eventmate.server.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eventmate.server.dto.*;
@@ -22,6 +23,7 @@ import org.springframework.transaction.annotation.Transactional;
  * @since 1.0
  */
 @Service
+@Timed("eventmate.service")
 @RequiredArgsConstructor
 @Slf4j
 public class AuthService {
@@ -31,6 +33,7 @@ public class AuthService {
     private final JwtUtil jwtUtil;
     private final AuthenticationManager authenticationManager;
     private final EmailService emailService;
+    private final AnalyticsService analyticsService;
 
     /**
      * Registers a new user in the system.
@@ -54,6 +57,7 @@ public class AuthService {
         // Save user to database
         @SuppressWarnings("null")
         User savedUser = userRepository.save(user);
+        analyticsService.userCreated(savedUser.getRole());
         log.info("User registered successfully with ID: {}", savedUser.getUserId());
         
         // Generate JWT token
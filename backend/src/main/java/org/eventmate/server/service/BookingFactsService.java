@@ -0,0 +1,341 @@
+package org.eventmate.server.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.dto.BookingBreakdown;
+import org.eventmate.server.entity.Booking;
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.exception.custom.ResourceNotFoundException;
+import org.eventmate.server.exception.custom.UnauthorizedException;
+import org.eventmate.server.repository.BookingRepository;
+import org.eventmate.server.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CompletionException;
+
+import static org.eventmate.server.service.TransactionHooks.afterCommit;
+
+/**
+ * BookingFactsService - Organizer dashboard breakdowns from an in-memory columnar copy of bookings.
+ *
+ * Each event's bookings are kept as parallel primitive arrays (booking day, status, type) plus
+ * codes from the event's own dictionaries for the free-text dietary, accessibility and company
+ * fields (at most max-distinct-values each, the rest counted as "Other"), so a breakdown is
+ * one pass over a few arrays with no database access. An event's columns are built with one slim
+ * query the first time it is asked about, then kept current by the booking write paths after each
+ * commit, and dropped after idle-minutes without queries.
+ *
+ * Columns are per node, like the check-in indexes; a booking written on another node shows up
+ * once this node's copy of the event is evicted and rebuilt.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class BookingFactsService {
+
+    private static final Booking.BookingStatus[] STATUSES = Booking.BookingStatus.values();
+    private static final Booking.BookingType[] TYPES = Booking.BookingType.values();
+
+    private final BookingRepository bookingRepository;
+    private final EventRepository eventRepository;
+
+    private final Map<Long, EventFacts> facts = new ConcurrentHashMap<>();
+
+    @Value("${app.analytics.facts.idle-minutes:60}")
+    private long idleMinutes;
+
+    @Value("${app.analytics.facts.max-distinct-values:1000}")
+    private int maxDistinctValues;
+
+    /**
+     * Bookings of one event matching the filters (all optional), counted by status, type, day and
+     * the top values of the free-text fields
+     */
+    public BookingBreakdown getBreakdown(Long eventId, Long userId, boolean admin, LocalDate from, LocalDate to,
+            Booking.BookingStatus status, Booking.BookingType type, int top) {
+        EventFacts event = authorizedFacts(eventId, userId, admin);
+        Filter filter = new Filter(
+                from != null ? (int) from.toEpochDay() : Integer.MIN_VALUE,
+                to != null ? (int) to.toEpochDay() : Integer.MAX_VALUE,
+                status != null ? status.ordinal() : -1,
+                type != null ? type.ordinal() : -1);
+        return event.aggregate(eventId, filter, Math.max(1, top));
+    }
+
+    /**
+     * A booking was created or changed status; applied after commit to events whose columns are in memory
+     */
+    public void bookingSaved(Booking booking) {
+        bookingsSaved(List.of(booking));
+    }
+
+    public void bookingsSaved(Collection<Booking> bookings) {
+        // Copy now: the entities can still change before the transaction commits
+        List<Map.Entry<Long, Row>> rows = new ArrayList<>(bookings.size());
+        for (Booking booking : bookings) {
+            rows.add(Map.entry(booking.getEventId(), row(booking.getBookingId(), booking.getBookingDate(),
+                    booking.getStatus(), booking.getBookingType(), booking.getDietaryRestrictions(),
+                    booking.getAccessibilityNeeds(), booking.getCompanyName())));
+        }
+        afterCommit(() -> rows.forEach(entry -> {
+            EventFacts event = facts.get(entry.getKey());
+            if (event != null) {
+                event.upsert(entry.getValue(), true);
+            }
+        }));
+    }
+
+    @Scheduled(fixedDelayString = "${app.analytics.facts.evict-interval-ms:600000}", initialDelay = 600000)
+    public void evictIdle() {
+        long cutoff = System.currentTimeMillis() - idleMinutes * 60_000;
+        facts.entrySet().removeIf(entry -> entry.getValue().lastQueried < cutoff && entry.getValue().ready.isDone());
+    }
+
+    private EventFacts authorizedFacts(Long eventId, Long userId, boolean admin) {
+        EventFacts event = facts.get(eventId);
+        if (event == null) {
+            // Only the event's organizer (or an admin) gets its bookings loaded into memory
+            if (!admin && !eventRepository.findOrganizerIdById(eventId).filter(userId::equals).isPresent()) {
+                throw new UnauthorizedException("Unauthorized to view analytics for this event");
+            }
+            EventFacts created = new EventFacts();
+            event = facts.putIfAbsent(eventId, created);
+            if (event == null) {
+                event = created;
+                load(eventId, created);
+            }
+        }
+        try {
+            event.ready.join();
+        } catch (CompletionException e) {
+            throw e.getCause() instanceof RuntimeException cause ? cause : e;
+        }
+        if (!admin && !Objects.equals(event.organizerId, userId)) {
+            throw new UnauthorizedException("Unauthorized to view analytics for this event");
+        }
+        event.lastQueried = System.currentTimeMillis();
+        return event;
+    }
+
+    // The columns are registered before the query runs, so bookings committed meanwhile land in them
+    private void load(Long eventId, EventFacts event) {
+        try {
+            Event entity = eventRepository.findById(eventId)
+                    .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+            List<Object[]> rows = bookingRepository.findFactsByEventId(eventId);
+            event.organizerId = entity.getOrganizerId();
+            for (Object[] r : rows) {
+                event.upsert(row((Long) r[0], (LocalDateTime) r[1], (Booking.BookingStatus) r[2],
+                        (Booking.BookingType) r[3], (String) r[4], (String) r[5], (String) r[6]), false);
+            }
+            event.ready.complete(null);
+            log.debug("Built booking facts for event {}: {} rows", eventId, rows.size());
+        } catch (RuntimeException e) {
+            facts.remove(eventId, event);
+            event.ready.completeExceptionally(e);
+        }
+    }
+
+    private static Row row(Long bookingId, LocalDateTime bookingDate, Booking.BookingStatus status,
+            Booking.BookingType type, String dietaryRestrictions, String accessibilityNeeds, String companyName) {
+        LocalDate day = bookingDate != null ? bookingDate.toLocalDate() : LocalDate.now();
+        return new Row(bookingId, (int) day.toEpochDay(),
+                (byte) (status != null ? status.ordinal() : Booking.BookingStatus.CONFIRMED.ordinal()),
+                (byte) (type != null ? type.ordinal() : -1),
+                dietaryRestrictions, accessibilityNeeds, companyName);
+    }
+
+
+    private record Row(long bookingId, int day, byte status, byte type, String dietary, String accessibility,
+            String company) {
+    }
+
+    private record Filter(int fromDay, int toDay, int status, int type) {
+    }
+
+    /**
+     * One event's bookings as columns; row i of every array is the same booking
+     */
+    private final class EventFacts {
+
+        private final CompletableFuture<Void> ready = new CompletableFuture<>();
+        private final Map<Long, Integer> rowOfBooking = new HashMap<>();
+        private final Dictionary dietary = new Dictionary(maxDistinctValues);
+        private final Dictionary accessibility = new Dictionary(maxDistinctValues);
+        private final Dictionary companies = new Dictionary(maxDistinctValues);
+        private volatile Long organizerId;
+        private volatile long lastQueried = System.currentTimeMillis();
+
+        private int size;
+        private int minDay = Integer.MAX_VALUE;
+        private int maxDay = Integer.MIN_VALUE;
+        private long[] bookingIds = new long[16];
+        private int[] days = new int[16];
+        private byte[] statuses = new byte[16];
+        private byte[] types = new byte[16];
+        private int[] dietaryCodes = new int[16];
+        private int[] accessibilityCodes = new int[16];
+        private int[] companyCodes = new int[16];
+
+        // A row written by a commit hook is never overwritten by the (possibly older) initial load
+        synchronized void upsert(Row row, boolean fromHook) {
+            Integer i = rowOfBooking.get(row.bookingId());
+            if (i == null) {
+                grow();
+                i = size++;
+                rowOfBooking.put(row.bookingId(), i);
+            } else if (!fromHook) {
+                return;
+            }
+            bookingIds[i] = row.bookingId();
+            days[i] = row.day();
+            minDay = Math.min(minDay, row.day());
+            maxDay = Math.max(maxDay, row.day());
+            statuses[i] = row.status();
+            types[i] = row.type();
+            dietaryCodes[i] = dietary.encode(row.dietary());
+            accessibilityCodes[i] = accessibility.encode(row.accessibility());
+            companyCodes[i] = companies.encode(row.company());
+        }
+
+        private void grow() {
+            if (size < bookingIds.length) {
+                return;
+            }
+            int capacity = bookingIds.length * 2;
+            bookingIds = Arrays.copyOf(bookingIds, capacity);
+            days = Arrays.copyOf(days, capacity);
+            statuses = Arrays.copyOf(statuses, capacity);
+            types = Arrays.copyOf(types, capacity);
+            dietaryCodes = Arrays.copyOf(dietaryCodes, capacity);
+            accessibilityCodes = Arrays.copyOf(accessibilityCodes, capacity);
+            companyCodes = Arrays.copyOf(companyCodes, capacity);
+        }
+
+        synchronized BookingBreakdown aggregate(Long eventId, Filter filter, int top) {
+            long[] byStatus = new long[STATUSES.length];
+            long[] byType = new long[TYPES.length];
+            long[] byDietary = new long[dietary.size()];
+            long[] byAccessibility = new long[accessibility.size()];
+            long[] byCompany = new long[companies.size()];
+            long[] byDay = new long[size > 0 ? maxDay - minDay + 1 : 0];
+            long matched = 0;
+
+            for (int i = 0; i < size; i++) {
+                if (days[i] < filter.fromDay() || days[i] > filter.toDay()
+                        || (filter.status() >= 0 && statuses[i] != filter.status())
+                        || (filter.type() >= 0 && types[i] != filter.type())) {
+                    continue;
+                }
+                matched++;
+                byStatus[statuses[i]]++;
+                if (types[i] >= 0) {
+                    byType[types[i]]++;
+                }
+                byDietary[dietaryCodes[i]]++;
+                byAccessibility[accessibilityCodes[i]]++;
+                byCompany[companyCodes[i]]++;
+                byDay[days[i] - minDay]++;
+            }
+
+            Map<Booking.BookingStatus, Long> statusCounts = new EnumMap<>(Booking.BookingStatus.class);
+            for (int s = 0; s < byStatus.length; s++) {
+                if (byStatus[s] > 0) {
+                    statusCounts.put(STATUSES[s], byStatus[s]);
+                }
+            }
+            Map<Booking.BookingType, Long> typeCounts = new EnumMap<>(Booking.BookingType.class);
+            for (int t = 0; t < byType.length; t++) {
+                if (byType[t] > 0) {
+                    typeCounts.put(TYPES[t], byType[t]);
+                }
+            }
+            Map<LocalDate, Long> dayCounts = new LinkedHashMap<>();
+            for (int d = 0; d < byDay.length; d++) {
+                if (byDay[d] > 0) {
+                    dayCounts.put(LocalDate.ofEpochDay(minDay + d), byDay[d]);
+                }
+            }
+
+            return new BookingBreakdown(eventId, matched, statusCounts, typeCounts, dayCounts,
+                    dietary.top(byDietary, top), accessibility.top(byAccessibility, top),
+                    companies.top(byCompany, top));
+        }
+    }
+
+    /**
+     * Free-text values mapped to small int codes; code 0 means "not given". Values are matched
+     * ignoring case and surrounding whitespace and reported with the first spelling seen. Once
+     * maxValues distinct values are known, new ones share code 1, reported as "Other".
+     */
+    static final class Dictionary {
+
+        static final int OTHER = 1;
+
+        private final Map<String, Integer> codes = new HashMap<>();
+        private final List<String> values = new ArrayList<>(List.of("", "Other"));
+        private final int maxValues;
+
+        Dictionary(int maxValues) {
+            this.maxValues = maxValues;
+        }
+
+        synchronized int encode(String value) {
+            if (value == null || value.isBlank()) {
+                return 0;
+            }
+            String display = value.trim().replaceAll("\\s+", " ");
+            String key = display.toLowerCase(Locale.ROOT);
+            Integer code = codes.get(key);
+            if (code != null) {
+                return code;
+            }
+            if (codes.size() >= maxValues) {
+                return OTHER;
+            }
+            values.add(display);
+            codes.put(key, values.size() - 1);
+            return values.size() - 1;
+        }
+
+        synchronized int size() {
+            return values.size();
+        }
+
+        synchronized String decode(int code) {
+            return values.get(code);
+        }
+
+        // Largest counts first, "not given" left out
+        Map<String, Long> top(long[] counts, int limit) {
+            List<Integer> order = new ArrayList<>();
+            for (int code = 1; code < counts.length; code++) {
+                if (counts[code] > 0) {
+                    order.add(code);
+                }
+            }
+            order.sort((a, b) -> Long.compare(counts[b], counts[a]));
+            Map<String, Long> result = new LinkedHashMap<>();
+            for (int code : order.subList(0, Math.min(limit, order.size()))) {
+                result.put(decode(code), counts[code]);
+            }
+            return result;
+        }
+    }
+}
@@ -1,5 +1,6 @@
 package org.eventmate.server.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eventmate.server.entity.*;
@@ -12,7 +13,10 @@ import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import java.util.List;
 
+import static org.eventmate.server.service.TransactionHooks.afterCommit;
+
 @Service
+@Timed("eventmate.service")
 @RequiredArgsConstructor
 @Slf4j
 public class BookingService {
@@ -23,22 +27,42 @@ public class BookingService {
     private final TicketTypeRepository ticketTypeRepository; // Kept for legacy, but we use logic for check
     private final UserRepository userRepository;
     private final EmailService emailService;
+    private final WaitlistService waitlistService;
+    private final TicketInventoryService ticketInventoryService;
+    private final CheckInService checkInService;
+    private final TicketCodeService ticketCodeService;
+    private final AnalyticsService analyticsService;
+    private final BookingFactsService bookingFactsService;
 
+    /**
+     * Enrollments into the same event are serialized by the event row lock taken first; different
+     * events enroll in parallel. Confirmation emails go out after commit, outside the lock.
+     */
     @Transactional(isolation = Isolation.SERIALIZABLE)
-    public synchronized Booking enrollEvent(BookingRequest request, Long userId) {
+    public Booking enrollEvent(BookingRequest request, Long userId) {
         log.info("Attempting enrollment for User: {}, Event: {}", userId, request.getEventId());
 
-        // 1. Check if already enrolled (with lock to prevent race conditions)
+        // 1. Fetch Event (locked, so concurrent enrollments and waitlist promotion can't race us)
+        Event event = eventRepository.findByIdForUpdate(request.getEventId())
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+
+        // 2. Check if already enrolled (under the event lock, so a double submit can't slip through)
         if (bookingRepository.findByUserIdAndEventId(userId, request.getEventId()).isPresent()) {
             throw new DuplicateResourceException("Already enrolled in this event");
         }
 
-        // 2. Fetch Event
-        Event event = eventRepository.findById(request.getEventId())
-                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+        // 3. Check Capacity - a full event either rejects or queues on the waitlist
+        Long currentBookings = bookingRepository.countConfirmedBookings(request.getEventId());
+        boolean waitlisted = false;
+        if (currentBookings >= event.getTotalCapacity()) {
+            if (!Boolean.TRUE.equals(request.getJoinWaitlist())) {
+                throw new ValidationException("Event is full");
+            }
+            waitlisted = true;
+        }
 
-        // ONSITE Seat Validation
-        if (event.getEventFormat() == Event.EventFormat.ONSITE) {
+        // ONSITE Seat Validation (waitlisted bookings don't hold a seat)
+        if (event.getEventFormat() == Event.EventFormat.ONSITE && !waitlisted) {
             if (request.getSeatNumber() == null) {
                 throw new ValidationException("Seat number is required for Onsite events");
             }
@@ -51,10 +75,9 @@ public class BookingService {
             }
         }
 
-        // 3. Check Capacity
-        Long currentBookings = bookingRepository.countConfirmedBookings(request.getEventId());
-        if (currentBookings >= event.getTotalCapacity()) {
-            throw new ValidationException("Event is full");
+        // Per-tier inventory (waitlisted bookings reserve when they are promoted)
+        if (!waitlisted) {
+            ticketInventoryService.reserve(request.getEventId(), request.getTicketTierId(), request.getTicketTypeId());
         }
 
         // 4. Handle Group Logic
@@ -62,21 +85,24 @@ public class BookingService {
         if ("GROUP".equalsIgnoreCase(request.getBookingType()) || (groupCode != null && !groupCode.isEmpty())) {
             if (groupCode == null || groupCode.isEmpty()) {
                 // Create new Group Code
-                groupCode = "GRP-" + java.util.UUID.randomUUID().toString().substring(0, 8).toUpperCase();
+                groupCode = ticketCodeService.newGroupCode();
             }
             // If joining existing, we could validate it, but for now we just link it.
         }
 
         // 5. Generate Ticket Code
-        String ticketCode = "EVT-" + event.getEventId() + "-"
-                + java.util.UUID.randomUUID().toString().substring(0, 6).toUpperCase();
+        String ticketCode = ticketCodeService.newTicketCode(event.getEventId());
 
         // 6. Create Booking
         Booking booking = new Booking();
         booking.setEventId(request.getEventId());
         booking.setUserId(userId);
         booking.setTicketTypeId(request.getTicketTypeId());
-        booking.setSeatNumber(request.getSeatNumber());
+        booking.setTicketTierId(request.getTicketTierId());
+        booking.setSeatNumber(waitlisted ? null : request.getSeatNumber());
+        if (waitlisted) {
+            booking.setStatus(Booking.BookingStatus.WAITLISTED);
+        }
 
         // New Fields
         booking.setAttendeeName(request.getAttendeeName());
@@ -96,6 +122,13 @@ public class BookingService {
         // 7. Save
         log.info("Duplicate check passed. Creating booking for User: {} Event: {}", userId, request.getEventId());
         Booking savedBooking = bookingRepository.save(booking);
+        analyticsService.bookingCreated(savedBooking);
+        bookingFactsService.bookingSaved(savedBooking);
+        if (waitlisted) {
+            // The ticket email and a seat come with promotion (WaitlistService); invites are not kept
+            log.info("Event {} is full. User {} added to waitlist", request.getEventId(), userId);
+            return savedBooking;
+        }
         log.info("User {} enrolled in event {}. Ticket: {}", userId, request.getEventId(), ticketCode);
 
         // 8. Handle Invited Users (Group Booking)
@@ -108,11 +141,17 @@ public class BookingService {
                         log.warn("User {} is already enrolled", invitedEmail);
                         return;
                     }
+                    if (!ticketInventoryService.tryReserve(request.getEventId(), request.getTicketTierId(),
+                            request.getTicketTypeId())) {
+                        log.warn("Ticket sold out, skipping invite for {}", invitedEmail);
+                        return;
+                    }
 
                     Booking invitedBooking = new Booking();
                     invitedBooking.setEventId(request.getEventId());
                     invitedBooking.setUserId(invitedUser.getUserId());
                     invitedBooking.setTicketTypeId(request.getTicketTypeId()); // Same ticket type
+                    invitedBooking.setTicketTierId(request.getTicketTierId());
                     // Seat logic is tricky for group, assumming generic 'GROUP' booking for now or
                     // needing multiple seat inputs
                     // For now, assuming seat selection is only for the primary user or handled
@@ -124,10 +163,11 @@ public class BookingService {
 
                     invitedBooking.setBookingType(Booking.BookingType.GROUP);
                     invitedBooking.setGroupCode(savedBooking.getGroupCode());
-                    invitedBooking.setTicketCode("EVT-" + event.getEventId() + "-"
-                            + java.util.UUID.randomUUID().toString().substring(0, 6).toUpperCase());
+                    invitedBooking.setTicketCode(ticketCodeService.newTicketCode(event.getEventId()));
 
-                    bookingRepository.save(invitedBooking);
+                    Booking savedInvite = bookingRepository.save(invitedBooking);
+                    analyticsService.bookingCreated(savedInvite);
+                    bookingFactsService.bookingSaved(savedInvite);
 
                     // Send Email to Invited User
                     java.util.Map<String, Object> inviteModel = new java.util.HashMap<>();
@@ -138,13 +178,13 @@ public class BookingService {
                     inviteModel.put("acceptLink", "http://localhost:5173/events/" + event.getEventId() + "/accept?code="
                             + savedBooking.getGroupCode());
 
-                    emailService.sendTicketConfirmation(invitedEmail, "You're Invited to " + event.getTitle(),
-                            inviteModel); // Using confirm template for now, ideally dedicated invite template
+                    afterCommit(() -> emailService.sendTicketConfirmation(invitedEmail,
+                            "You're Invited to " + event.getTitle(), inviteModel)); // Confirm template for now
                 });
             }
         }
 
-        // 9. Send Email (Async typically, but sync here for simplicity)
+        // 9. Send Email once the booking is committed
         User user = userRepository.findById(userId).orElse(null);
         if (user != null && user.getEmail() != null) {
             java.util.Map<String, Object> model = new java.util.HashMap<>();
@@ -161,7 +201,10 @@ public class BookingService {
                 model.put("inviteLink", "http://localhost:5173/events/" + event.getEventId() + "?group=" + groupCode);
             }
 
-            emailService.sendTicketConfirmation(user.getEmail(), "Ticket Confirmed: " + event.getTitle(), model);
+            String email = user.getEmail();
+            String subject = "Ticket Confirmed: " + event.getTitle();
+            // Sent after commit, so no SMTP round trip while the event row is locked
+            afterCommit(() -> emailService.sendTicketConfirmation(email, subject, model));
         }
 
         return savedBooking;
@@ -207,7 +250,12 @@ public class BookingService {
 
     @Transactional(isolation = Isolation.READ_COMMITTED)
     public void cancelBooking(Long bookingId, Long userId) {
-        Booking booking = bookingRepository.findById(bookingId)
+        Long eventId = bookingRepository.findEventIdById(bookingId)
+                .orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
+        // Event lock first, as in enroll and promotion; then the booking, read fresh under its lock so
+        // a double submit sees the first cancellation and releases the seat only once
+        eventRepository.findByIdForUpdate(eventId);
+        Booking booking = bookingRepository.findByIdForUpdate(bookingId)
                 .orElseThrow(() -> new ResourceNotFoundException("Booking not found"));
 
         // Allow user OR admin/organizer (logic for checking organizer ownership needed
@@ -216,10 +264,23 @@ public class BookingService {
             // Ideally check if userId is the organizer of the event
             throw new UnauthorizedException("Unauthorized to cancel this booking");
         }
+        if (booking.getStatus() == Booking.BookingStatus.CANCELLED) {
+            log.info("Booking {} already cancelled", bookingId);
+            return;
+        }
 
+        boolean freesCapacity = booking.getStatus() == Booking.BookingStatus.CONFIRMED;
         booking.setStatus(Booking.BookingStatus.CANCELLED);
         bookingRepository.save(booking);
+        analyticsService.bookingCancelled(booking);
+        bookingFactsService.bookingSaved(booking);
         log.info("Booking {} cancelled by user {}", bookingId, userId);
+
+        checkInService.evict(booking.getEventId(), booking.getTicketCode());
+        if (freesCapacity) {
+            ticketInventoryService.release(booking);
+            waitlistService.promoteWaitlisted(booking.getEventId());
+        }
     }
 
     public List<Integer> getBookedSeats(Long eventId) {
@@ -0,0 +1,79 @@
+package org.eventmate.server.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.exception.custom.ServiceUnavailableException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Supplier;
+
+/**
+ * BookingWriteGuard - Bulkhead around the booking write transactions (enroll, cancel).
+ *
+ * With virtual threads nothing else limits how many of them run at once. Each one takes a pooled
+ * connection at begin and then queues on the event row lock, while the lock holder may still need
+ * a second connection (pooled ids, code blocks); with every connection held by a waiter the pool
+ * starves. At most max-concurrent writes run, kept below the pool size so the holder always finds
+ * a free connection. Others wait max-wait-ms for a slot without holding a connection, then get a
+ * ServiceUnavailableException.
+ *
+ * The slot must be taken before the @Transactional method is entered, so callers wrap the service
+ * call rather than the service guarding itself.
+ */
+@Service
+@Slf4j
+public class BookingWriteGuard {
+
+    private Semaphore slots;
+
+    @Value("${app.booking.write.max-concurrent:6}")
+    private int maxConcurrent;
+
+    @Value("${app.booking.write.max-wait-ms:5000}")
+    private long maxWaitMs;
+
+    @Value("${spring.datasource.hikari.maximum-pool-size:10}")
+    private int poolSize;
+
+    @PostConstruct
+    void initSlots() {
+        if (maxConcurrent < 1 || maxConcurrent >= poolSize) {
+            throw new IllegalStateException("app.booking.write.max-concurrent (" + maxConcurrent
+                    + ") must be between 1 and the connection pool size (" + poolSize + ") minus one");
+        }
+        slots = new Semaphore(maxConcurrent, true);
+    }
+
+    /**
+     * Runs a booking write once a slot is free, or throws ServiceUnavailableException if none frees
+     * up within max-wait-ms
+     */
+    public <T> T call(Supplier<T> write) {
+        boolean acquired;
+        try {
+            acquired = slots.tryAcquire(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new ServiceUnavailableException("Interrupted while waiting to book", 1);
+        }
+        if (!acquired) {
+            log.warn("Booking write rejected: {} writes in progress for over {} ms", maxConcurrent, maxWaitMs);
+            throw new ServiceUnavailableException("Too many bookings in progress, please retry", 1);
+        }
+        try {
+            return write.get();
+        } finally {
+            slots.release();
+        }
+    }
+
+    public void run(Runnable write) {
+        call(() -> {
+            write.run();
+            return null;
+        });
+    }
+}
@@ -0,0 +1,267 @@
+package org.eventmate.server.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.dto.CheckInRequest;
+import org.eventmate.server.dto.CheckInResult;
+import org.eventmate.server.entity.Booking;
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.exception.custom.ResourceNotFoundException;
+import org.eventmate.server.exception.custom.UnauthorizedException;
+import org.eventmate.server.exception.custom.ValidationException;
+import org.eventmate.server.repository.BookingRepository;
+import org.eventmate.server.repository.EventRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Queue;
+import java.util.Set;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.atomic.AtomicReference;
+
+/**
+ * CheckInService - Door scanning against an in-memory ticketCode -> booking index per event.
+ *
+ * Indexes are preloaded for events starting within preload-lead-hours (and built on first scan
+ * otherwise, once the caller is known to own the event), so a scan is a hash lookup plus a
+ * compare-and-set; the first scan of a ticket wins and every later one reports
+ * ALREADY_CHECKED_IN. Check-in times are written back to the bookings table in batches by flush().
+ *
+ * Indexes are per node: all scanners of one event should talk to the same instance.
+ */
+@Service
+@Timed("eventmate.service")
+@RequiredArgsConstructor
+@Slf4j
+public class CheckInService {
+
+    private static final int FLUSH_CHUNK_SIZE = 500;
+
+    private final BookingRepository bookingRepository;
+    private final EventRepository eventRepository;
+
+    private final Map<Long, EventIndex> indexes = new ConcurrentHashMap<>();
+    // Events whose index preloadUpcoming built; indexes built on first scan are not in here
+    private final Set<Long> preloaded = ConcurrentHashMap.newKeySet();
+    private final Queue<PendingCheckIn> pending = new ConcurrentLinkedQueue<>();
+
+    @Value("${app.checkin.preload-lead-hours:6}")
+    private int preloadLeadHours;
+
+    @Value("${app.checkin.max-batch-size:1000}")
+    private int maxBatchSize;
+
+    public CheckInResult checkIn(Long eventId, Long staffUserId, boolean admin, CheckInRequest request) {
+        EventIndex index = authorizedIndex(eventId, staffUserId, admin);
+        return scan(eventId, index, request, LocalDateTime.now());
+    }
+
+    /**
+     * Sync scans collected by an offline scanner. Each scan gets its own result; one bad code
+     * doesn't fail the batch.
+     */
+    public List<CheckInResult> checkInBatch(Long eventId, Long staffUserId, boolean admin,
+            List<CheckInRequest> scans) {
+        if (scans.size() > maxBatchSize) {
+            throw new ValidationException("At most " + maxBatchSize + " scans can be uploaded at once");
+        }
+        EventIndex index = authorizedIndex(eventId, staffUserId, admin);
+        LocalDateTime now = LocalDateTime.now();
+        List<CheckInResult> results = new ArrayList<>(scans.size());
+        for (CheckInRequest scan : scans) {
+            results.add(scan(eventId, index, scan, now));
+        }
+        return results;
+    }
+
+    /**
+     * Live door counts: confirmed tickets vs. checked in
+     */
+    public Map<String, Long> getStats(Long eventId, Long staffUserId, boolean admin) {
+        EventIndex index = authorizedIndex(eventId, staffUserId, admin);
+        long checkedIn = index.tickets.values().stream()
+                .filter(ticket -> ticket.checkedInAt.get() != null)
+                .count();
+        return Map.of("expected", (long) index.tickets.size(), "checkedIn", checkedIn);
+    }
+
+    /**
+     * Drop a cancelled ticket from the index so it can no longer be scanned in
+     */
+    public void evict(Long eventId, String ticketCode) {
+        EventIndex index = indexes.get(eventId);
+        if (index != null && ticketCode != null) {
+            index.tickets.remove(ticketCode);
+        }
+    }
+
+    /**
+     * Builds (or refreshes) indexes for events whose doors open soon and drops the preloaded ones
+     * that have finished. Indexes built on first scan are dropped only after preload-lead-hours
+     * without a scan.
+     */
+    @Scheduled(fixedDelayString = "${app.checkin.preload-interval-ms:300000}", initialDelay = 30000)
+    public void preloadUpcoming() {
+        LocalDateTime now = LocalDateTime.now();
+        List<Long> eventIds = eventRepository.findEventIdsOpenForCheckIn(now, now.plusHours(preloadLeadHours));
+        for (Long eventId : eventIds) {
+            indexes.put(eventId, loadIndex(eventId, indexes.get(eventId)));
+        }
+        Set<Long> upcoming = new HashSet<>(eventIds);
+        long idleSince = System.currentTimeMillis() - TimeUnit.HOURS.toMillis(preloadLeadHours);
+        indexes.entrySet().removeIf(entry -> !upcoming.contains(entry.getKey())
+                && (preloaded.contains(entry.getKey()) || entry.getValue().lastUsed().get() < idleSince));
+        preloaded.retainAll(upcoming);
+        preloaded.addAll(upcoming);
+        if (!eventIds.isEmpty()) {
+            log.info("Check-in indexes loaded for {} events", eventIds.size());
+        }
+    }
+
+    /**
+     * Writes pending check-ins back to the bookings table, one UPDATE per distinct second
+     */
+    @Scheduled(fixedDelayString = "${app.checkin.flush-interval-ms:2000}")
+    @Transactional
+    public void flush() {
+        List<PendingCheckIn> drained = new ArrayList<>();
+        PendingCheckIn next;
+        while ((next = pending.poll()) != null) {
+            drained.add(next);
+        }
+        if (drained.isEmpty()) {
+            return;
+        }
+
+        Map<LocalDateTime, List<Long>> bySecond = new TreeMap<>();
+        for (PendingCheckIn checkIn : drained) {
+            bySecond.computeIfAbsent(checkIn.checkinTime, time -> new ArrayList<>()).add(checkIn.bookingId);
+        }
+        try {
+            for (Map.Entry<LocalDateTime, List<Long>> entry : bySecond.entrySet()) {
+                List<Long> ids = entry.getValue();
+                for (int from = 0; from < ids.size(); from += FLUSH_CHUNK_SIZE) {
+                    bookingRepository.markCheckedIn(ids.subList(from, Math.min(ids.size(), from + FLUSH_CHUNK_SIZE)),
+                            entry.getKey());
+                }
+            }
+            log.debug("Flushed {} check-ins", drained.size());
+        } catch (RuntimeException e) {
+            // Keep them for the next run; the transaction rolls back everything written above
+            pending.addAll(drained);
+            throw e;
+        }
+    }
+
+    private CheckInResult scan(Long eventId, EventIndex index, CheckInRequest request, LocalDateTime now) {
+        String code = request.getTicketCode() == null ? "" : request.getTicketCode().trim().toUpperCase();
+        Ticket ticket = code.isEmpty() ? null : index.tickets.get(code);
+        if (ticket == null && !code.isEmpty()) {
+            ticket = lookupMissing(eventId, index, code);
+        }
+        if (ticket == null) {
+            return new CheckInResult(code, CheckInResult.Outcome.INVALID, null, null, null, null);
+        }
+
+        LocalDateTime scannedAt = request.getScannedAt() != null && request.getScannedAt().isBefore(now)
+                ? request.getScannedAt()
+                : now;
+        scannedAt = scannedAt.truncatedTo(ChronoUnit.SECONDS);
+
+        if (ticket.checkedInAt.compareAndSet(null, scannedAt)) {
+            pending.add(new PendingCheckIn(ticket.bookingId, scannedAt));
+            return ticket.result(code, CheckInResult.Outcome.CHECKED_IN);
+        }
+        return ticket.result(code, CheckInResult.Outcome.ALREADY_CHECKED_IN);
+    }
+
+    // Booked (or promoted from the waitlist) after the index was built
+    private Ticket lookupMissing(Long eventId, EventIndex index, String code) {
+        if (TicketCodeService.hasBadCheckCharacter(code)) {
+            return null;
+        }
+        return bookingRepository.findFirstByEventIdAndTicketCode(eventId, code)
+                .filter(booking -> booking.getStatus() == Booking.BookingStatus.CONFIRMED)
+                .map(booking -> index.tickets.computeIfAbsent(code, c -> new Ticket(booking)))
+                .orElse(null);
+    }
+
+    private EventIndex authorizedIndex(Long eventId, Long staffUserId, boolean admin) {
+        EventIndex index = indexes.get(eventId);
+        if (index == null) {
+            // Only the event's organizer (or an admin) gets its bookings loaded into memory
+            if (!admin && !eventRepository.findOrganizerIdById(eventId).filter(staffUserId::equals).isPresent()) {
+                throw new UnauthorizedException("Unauthorized to check in attendees for this event");
+            }
+            EventIndex loaded = loadIndex(eventId, null);
+            index = indexes.putIfAbsent(eventId, loaded);
+            if (index == null) {
+                index = loaded;
+            }
+        }
+        if (!admin && !index.organizerId.equals(staffUserId)) {
+            throw new UnauthorizedException("Unauthorized to check in attendees for this event");
+        }
+        index.lastUsed().set(System.currentTimeMillis());
+        return index;
+    }
+
+    // Reuses the Ticket objects of a previous index so check-ins made during a refresh aren't lost
+    private EventIndex loadIndex(Long eventId, EventIndex previous) {
+        Event event = eventRepository.findById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+
+        List<Booking> confirmed = bookingRepository.findByEventIdAndStatus(eventId, Booking.BookingStatus.CONFIRMED);
+        Map<String, Ticket> tickets = new ConcurrentHashMap<>(Math.max(16, confirmed.size() * 4 / 3 + 1));
+        for (Booking booking : confirmed) {
+            if (booking.getTicketCode() == null) {
+                continue;
+            }
+            Ticket ticket = previous != null ? previous.tickets.get(booking.getTicketCode()) : null;
+            if (ticket == null || !ticket.bookingId.equals(booking.getBookingId())) {
+                ticket = new Ticket(booking);
+            }
+            tickets.put(booking.getTicketCode(), ticket);
+        }
+        return new EventIndex(event.getOrganizerId(), tickets, new AtomicLong(System.currentTimeMillis()));
+    }
+
+    private record EventIndex(Long organizerId, Map<String, Ticket> tickets, AtomicLong lastUsed) {
+    }
+
+    private record PendingCheckIn(Long bookingId, LocalDateTime checkinTime) {
+    }
+
+    private static final class Ticket {
+        private final Long bookingId;
+        private final String attendeeName;
+        private final Integer seatNumber;
+        private final AtomicReference<LocalDateTime> checkedInAt = new AtomicReference<>();
+
+        private Ticket(Booking booking) {
+            this.bookingId = booking.getBookingId();
+            this.attendeeName = booking.getAttendeeName();
+            this.seatNumber = booking.getSeatNumber();
+            if (Boolean.TRUE.equals(booking.getCheckinStatus())) {
+                checkedInAt.set(booking.getCheckinTime() != null ? booking.getCheckinTime() : LocalDateTime.now());
+            }
+        }
+
+        private CheckInResult result(String code, CheckInResult.Outcome outcome) {
+            return new CheckInResult(code, outcome, bookingId, attendeeName, seatNumber, checkedInAt.get());
+        }
+    }
+}
@@ -0,0 +1,157 @@
+package org.eventmate.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.ObjectWriter;
+import com.fasterxml.jackson.databind.ser.FilterProvider;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * CompressedResponseCache - Hot JSON responses (event detail, featured events, AI metadata) kept
+ * as bytes, plain and gzipped, so a hit is written without serializing or compressing again.
+ *
+ * Keys include the metadata snapshot version, which every event and venue change bumps, and entries
+ * expire after ttl-ms so enrolled counts and ratings stay close to live. Bodies under
+ * server.compression.min-response-size are kept plain only; everything else the server compresses
+ * on the fly (server.compression.*).
+ */
+@Service
+@RequiredArgsConstructor
+public class CompressedResponseCache {
+
+    private final ObjectMapper objectMapper;
+    private final MetadataService metadataService;
+    private final MeterRegistry meterRegistry;
+
+    private Map<String, Payload> entries;
+
+    @Value("${app.response-cache.enabled:true}")
+    private boolean enabled;
+
+    @Value("${app.response-cache.max-entries:500}")
+    private int maxEntries;
+
+    @Value("${app.response-cache.ttl-ms:5000}")
+    private long ttlMs;
+
+    @Value("${server.compression.min-response-size:2KB}")
+    private DataSize minCompressSize;
+
+    @PostConstruct
+    void initCache() {
+        entries = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Payload> eldest) {
+                return size() > maxEntries;
+            }
+        });
+    }
+
+    /**
+     * body() serialized with the given Jackson filters (null for none), from the cache when fresh
+     */
+    public Payload json(String key, Supplier<?> body, FilterProvider filters) {
+        return get(key, () -> {
+            ObjectWriter writer = filters != null ? objectMapper.writer(filters) : objectMapper.writer();
+            try {
+                return writer.writeValueAsBytes(body.get());
+            } catch (JsonProcessingException e) {
+                throw new IllegalStateException("Failed to serialize " + key, e);
+            }
+        });
+    }
+
+    /**
+     * A body that is already JSON text
+     */
+    public Payload rawJson(String key, Supplier<String> json) {
+        return get(key, () -> json.get().getBytes(StandardCharsets.UTF_8));
+    }
+
+    private Payload get(String key, Supplier<byte[]> load) {
+        String versionedKey = key + "@" + metadataService.getSnapshot().version();
+        long now = System.currentTimeMillis();
+        Payload payload = enabled ? entries.get(versionedKey) : null;
+        if (payload != null && payload.expiresAt > now) {
+            meterRegistry.counter("eventmate.response.cache", "result", "hit").increment();
+            return payload;
+        }
+        meterRegistry.counter("eventmate.response.cache", "result", "miss").increment();
+
+        byte[] plain = load.get();
+        payload = new Payload(plain, plain.length >= minCompressSize.toBytes() ? gzip(plain) : null, now + ttlMs);
+        if (enabled) {
+            entries.put(versionedKey, payload);
+        }
+        return payload;
+    }
+
+    private static byte[] gzip(byte[] plain) {
+        ByteArrayOutputStream out = new ByteArrayOutputStream(plain.length / 4);
+        try (GZIPOutputStream gzip = new GZIPOutputStream(out)) {
+            gzip.write(plain);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return out.toByteArray();
+    }
+
+    public static final class Payload {
+
+        private final byte[] plain;
+        private final byte[] gzipped;
+        private final long expiresAt;
+
+        Payload(byte[] plain, byte[] gzipped, long expiresAt) {
+            this.plain = plain;
+            this.gzipped = gzipped;
+            this.expiresAt = expiresAt;
+        }
+
+        /**
+         * The gzipped bytes when the client accepts gzip and there are any, the plain ones otherwise
+         */
+        public ResponseEntity<byte[]> toResponse(String acceptEncoding) {
+            ResponseEntity.BodyBuilder response = ResponseEntity.ok()
+                    .contentType(MediaType.APPLICATION_JSON)
+                    .header(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+            if (gzipped != null && acceptsGzip(acceptEncoding)) {
+                return response.header(HttpHeaders.CONTENT_ENCODING, "gzip").body(gzipped);
+            }
+            return response.body(plain);
+        }
+
+        // "gzip, deflate, br" and "gzip;q=0.8" accept it, "gzip;q=0" doesn't
+        private static boolean acceptsGzip(String acceptEncoding) {
+            if (acceptEncoding == null) {
+                return false;
+            }
+            for (String coding : acceptEncoding.toLowerCase(Locale.ROOT).split(",")) {
+                String[] parts = coding.split(";");
+                if (parts[0].trim().equals("gzip")) {
+                    return parts.length == 1 || !parts[1].replace(" ", "").matches("q=0(\\.0*)?");
+                }
+            }
+            return false;
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package org.eventmate.server.service;
 
 import jakarta.mail.MessagingException;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.mail.internet.MimeMessage;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
@@ -19,6 +21,7 @@ public class EmailService {
 
     private final JavaMailSender mailSender;
     private final TemplateEngine templateEngine;
+    private final MeterRegistry meterRegistry;
 
     public void sendTicketConfirmation(String to, String subject, Map<String, Object> templateModel) {
         try {
@@ -37,7 +40,7 @@ public class EmailService {
             // helper.setFrom("EventMate <noreply@eventmate.com>"); // Optional if
             // configured in properties
 
-            mailSender.send(message);
+            send(message, "ticket-confirmation");
             log.info("Ticket confirmation email sent to {}", to);
         } catch (MessagingException e) {
             log.error("Failed to send email to {}", to, e);
@@ -63,7 +66,7 @@ public class EmailService {
             helper.setSubject("Your OTP for EventMate");
             helper.setText(htmlContent, true);
 
-            mailSender.send(message);
+            send(message, "otp-email");
             log.info("OTP email sent to {}", to);
         } catch (MessagingException e) {
             log.error("Failed to send OTP email to {}", to, e);
@@ -88,10 +91,23 @@ public class EmailService {
             helper.setSubject("Reminder: " + event.getTitle() + " is coming up!");
             helper.setText(htmlContent, true);
 
-            mailSender.send(message);
+            send(message, "event-reminder");
             log.info("Reminder email sent to {}", to);
         } catch (MessagingException e) {
             log.error("Failed to send reminder email to {}", to, e);
         }
     }
-}
\ No newline at end of file
+
+    // SMTP round trip as eventmate.external.calls{system=smtp}, tagged by template and outcome
+    private void send(MimeMessage message, String template) {
+        Timer.Sample sample = Timer.start(meterRegistry);
+        String outcome = "error";
+        try {
+            mailSender.send(message);
+            outcome = "success";
+        } finally {
+            sample.stop(meterRegistry.timer("eventmate.external.calls", "system", "smtp", "operation", template,
+                    "outcome", outcome));
+        }
+    }
+}
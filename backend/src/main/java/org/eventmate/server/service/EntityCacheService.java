@@ -0,0 +1,110 @@
+package org.eventmate.server.service;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.entity.CacheRegions;
+import org.hibernate.Cache;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Service;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.ToLongFunction;
+
+/**
+ * EntityCacheService - Hit ratios of the second-level cache regions (see CacheRegions), published
+ * as eventmate.entity.cache{region,result} counters and an eventmate.entity.cache.hit.ratio gauge,
+ * plus explicit eviction for rows changed in the database behind Hibernate's back.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class EntityCacheService {
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    void registerMetrics() {
+        Statistics statistics = statistics();
+        for (String region : CacheRegions.ALL) {
+            counter(region, "hit", statistics, CacheRegionStatistics::getHitCount);
+            counter(region, "miss", statistics, CacheRegionStatistics::getMissCount);
+            Gauge.builder("eventmate.entity.cache.hit.ratio", statistics, stats -> hitRatio(stats, region))
+                    .tag("region", region)
+                    .register(meterRegistry);
+        }
+    }
+
+    /**
+     * Hits, misses, puts and hit ratio per region since startup
+     */
+    public Map<String, Object> getStats() {
+        Statistics statistics = statistics();
+        Map<String, Object> regions = new LinkedHashMap<>();
+        for (String region : CacheRegions.ALL) {
+            CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+            if (stats != null) {
+                regions.put(region, Map.of(
+                        "hits", stats.getHitCount(),
+                        "misses", stats.getMissCount(),
+                        "puts", stats.getPutCount(),
+                        "hitRate", hitRatio(statistics, region)));
+            }
+        }
+        return regions;
+    }
+
+    /**
+     * Drops one cached entity after a native UPDATE changed its row. Evicted again once the
+     * transaction ends, since another transaction may have cached the old row in the meantime.
+     */
+    public void evictAfterWrite(Class<?> entityClass, Object id) {
+        Cache cache = sessionFactory().getCache();
+        cache.evict(entityClass, id);
+        TransactionHooks.afterCompletion(() -> cache.evict(entityClass, id));
+    }
+
+    /**
+     * Empties every region, for data fixed directly in the database
+     */
+    public void evictAll() {
+        sessionFactory().getCache().evictAllRegions();
+        log.info("Second-level cache cleared");
+    }
+
+    private void counter(String region, String result, Statistics statistics,
+            ToLongFunction<CacheRegionStatistics> count) {
+        FunctionCounter.builder("eventmate.entity.cache", statistics, stats -> {
+                    CacheRegionStatistics regionStats = stats.getCacheRegionStatistics(region);
+                    return regionStats != null ? count.applyAsLong(regionStats) : 0;
+                })
+                .tag("region", region)
+                .tag("result", result)
+                .register(meterRegistry);
+    }
+
+    private static double hitRatio(Statistics statistics, String region) {
+        CacheRegionStatistics stats = statistics.getCacheRegionStatistics(region);
+        if (stats == null) {
+            return 0.0;
+        }
+        long total = stats.getHitCount() + stats.getMissCount();
+        return total == 0 ? 0.0 : (double) stats.getHitCount() / total;
+    }
+
+    private Statistics statistics() {
+        return sessionFactory().getStatistics();
+    }
+
+    private SessionFactory sessionFactory() {
+        return entityManagerFactory.unwrap(SessionFactory.class);
+    }
+}
@@ -1,20 +1,25 @@
 package org.eventmate.server.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eventmate.server.dto.*;
 import org.eventmate.server.entity.*;
 import org.eventmate.server.exception.custom.*;
 import org.eventmate.server.repository.*;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Isolation;
 import org.springframework.transaction.annotation.Transactional;
 import java.time.LocalDateTime;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.stream.Collectors;
 import org.hibernate.Hibernate;
 
 @Service
+@Timed("eventmate.service")
 @RequiredArgsConstructor
 @Slf4j
 public class EventService {
@@ -23,6 +28,8 @@ public class EventService {
     private final VenueRepository venueRepository;
     private final BookingRepository bookingRepository;
     private final FeedbackRepository feedbackRepository;
+    private final MetadataService metadataService;
+    private final AnalyticsService analyticsService;
 
     @Transactional(isolation = Isolation.READ_COMMITTED)
     public Event createEvent(EventRequest request, Long organizerId) {
@@ -115,6 +122,8 @@ public class EventService {
         }
 
         Event savedEvent = eventRepository.save(event);
+        metadataService.eventChanged(savedEvent);
+        analyticsService.eventSaved(null, savedEvent.getStatus());
         log.info("Event created successfully with ID: {}", savedEvent.getEventId());
         return savedEvent;
     }
@@ -127,6 +136,7 @@ public class EventService {
 
         Event event = eventRepository.findById(eventId)
                 .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+        Event.EventStatus previousStatus = event.getStatus();
 
         if (!event.getOrganizerId().equals(organizerId)) {
             throw new UnauthorizedException("Unauthorized to update this event");
@@ -186,17 +196,25 @@ public class EventService {
             });
         }
 
-        // Clear existing and add new tiers
+        // Update tiers in place (matched by name) so sold counts and booking references survive edits
         if (request.getTicketTiers() != null) {
-            event.getTicketTiers().clear();
+            java.util.Map<String, TicketTier> existingTiers = event.getTicketTiers().stream()
+                    .collect(Collectors.toMap(TicketTier::getName, tier -> tier, (a, b) -> a));
+            // Identity set: Lombok equals/hashCode on TicketTier walks back into the event
+            java.util.Set<TicketTier> keptTiers = java.util.Collections.newSetFromMap(new java.util.IdentityHashMap<>());
             request.getTicketTiers().forEach(tierDto -> {
-                TicketTier tier = new TicketTier();
-                tier.setName(tierDto.getName());
+                TicketTier tier = existingTiers.get(tierDto.getName());
+                if (tier == null || keptTiers.contains(tier)) {
+                    tier = new TicketTier();
+                    tier.setName(tierDto.getName());
+                    event.addTicketTier(tier);
+                }
                 tier.setPrice(tierDto.getPrice());
                 tier.setCapacity(tierDto.getCapacity());
                 tier.setDescription(tierDto.getDescription());
-                event.addTicketTier(tier);
+                keptTiers.add(tier);
             });
+            event.getTicketTiers().removeIf(tier -> !keptTiers.contains(tier));
         }
 
         if (request.getStatus() != null) {
@@ -214,7 +232,10 @@ public class EventService {
             event.setVenue(venue);
         }
 
-        return eventRepository.save(event);
+        Event savedEvent = eventRepository.save(event);
+        metadataService.eventChanged(savedEvent);
+        analyticsService.eventSaved(previousStatus, savedEvent.getStatus());
+        return savedEvent;
     }
 
     @Transactional(isolation = Isolation.READ_COMMITTED)
@@ -227,6 +248,8 @@ public class EventService {
         }
 
         eventRepository.delete(event);
+        metadataService.eventRemoved(eventId);
+        analyticsService.eventDeleted(event.getStatus());
     }
 
     @Transactional(readOnly = true)
@@ -244,6 +267,16 @@ public class EventService {
                 .collect(Collectors.toList());
     }
 
+    /**
+     * Only the requested fields; reads EventCard rows when they cover them
+     */
+    @Transactional(readOnly = true)
+    public List<EventResponse> getAllEvents(EventFields fields) {
+        return fields.isProjected()
+                ? toCardResponses(eventRepository.findAllCards(), fields)
+                : getAllEvents();
+    }
+
     @Transactional(readOnly = true)
     public List<EventResponse> getEventsByOrganizer(Long organizerId) {
 
@@ -258,6 +291,13 @@ public class EventService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<EventResponse> getEventsByOrganizer(Long organizerId, EventFields fields) {
+        return fields.isProjected()
+                ? toCardResponses(eventRepository.findCardsByOrganizerId(organizerId), fields)
+                : getEventsByOrganizer(organizerId);
+    }
+
     @Transactional(readOnly = true)
     public EventResponse getEventById(Long eventId) {
 
@@ -270,18 +310,48 @@ public class EventService {
         return toEventResponse(event);
     }
 
+    @Transactional(readOnly = true)
     public List<EventResponse> searchEvents(String keyword) {
-        return eventRepository.searchEvents(keyword).stream()
+        List<Event> events = eventRepository.searchEvents(keyword);
+
+        events.forEach(event -> {
+            Hibernate.initialize(event.getTicketTiers());
+            Hibernate.initialize(event.getGuests());
+        });
+
+        return events.stream()
                 .map(this::toEventResponse)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<EventResponse> searchEvents(String keyword, EventFields fields) {
+        return fields.isProjected()
+                ? toCardResponses(eventRepository.searchCards(keyword), fields)
+                : searchEvents(keyword);
+    }
+
+    @Transactional(readOnly = true)
     public List<EventResponse> filterEventsByType(Event.EventType eventType) {
-        return eventRepository.findByEventType(eventType).stream()
+        List<Event> events = eventRepository.findByEventType(eventType);
+
+        events.forEach(event -> {
+            Hibernate.initialize(event.getTicketTiers());
+            Hibernate.initialize(event.getGuests());
+        });
+
+        return events.stream()
                 .map(this::toEventResponse)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<EventResponse> filterEventsByType(Event.EventType eventType, EventFields fields) {
+        return fields.isProjected()
+                ? toCardResponses(eventRepository.findCardsByEventType(eventType), fields)
+                : filterEventsByType(eventType);
+    }
+
     @Transactional(readOnly = true)
     public List<EventResponse> getUpcomingEvents() {
 
@@ -298,6 +368,18 @@ public class EventService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<EventResponse> getUpcomingEvents(EventFields fields) {
+        if (!fields.isProjected()) {
+            return getUpcomingEvents();
+        }
+        List<EventCard> planned = eventRepository.findLiveCards().stream()
+                .filter(card -> statusByDates(card.getStartDate(), card.getEndDate(), card.getStatus())
+                        == Event.EventStatus.PLANNED)
+                .toList();
+        return toCardResponses(planned, fields);
+    }
+
     @Transactional(readOnly = true)
     public List<EventResponse> getAllEventsForAttendee() {
 
@@ -313,12 +395,45 @@ public class EventService {
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<EventResponse> getAllEventsForAttendee(EventFields fields) {
+        return fields.isProjected()
+                ? toCardResponses(eventRepository.findLiveCards(), fields)
+                : getAllEventsForAttendee();
+    }
+
+    /**
+     * Featured events that are live by their dates; one that has ended drops out of the carousel
+     * even before refreshEventStatuses marks it COMPLETED. Tiers and guests are fetched with the
+     * events, since the response is serialized after the transaction.
+     */
+    @Transactional(readOnly = true)
     public List<EventResponse> getFeaturedEvents() {
-        return eventRepository.findByIsFeaturedTrueAndDeletedAtIsNullAndStatus(Event.EventStatus.ACTIVE).stream()
+        List<Event> events = eventRepository.findFeaturedWithTicketTiers(Event.EventStatus.ACTIVE).stream()
+                .filter(event -> statusByDates(event.getStartDate(), event.getEndDate(), event.getStatus())
+                        == Event.EventStatus.ACTIVE)
+                .toList();
+        if (!events.isEmpty()) {
+            eventRepository.fetchGuests(events.stream().map(Event::getEventId).toList());
+        }
+
+        return events.stream()
                 .map(this::toEventResponse)
                 .collect(Collectors.toList());
     }
 
+    @Transactional(readOnly = true)
+    public List<EventResponse> getFeaturedEvents(EventFields fields) {
+        if (!fields.isProjected()) {
+            return getFeaturedEvents();
+        }
+        List<EventCard> live = eventRepository.findFeaturedCards(Event.EventStatus.ACTIVE).stream()
+                .filter(card -> statusByDates(card.getStartDate(), card.getEndDate(), card.getStatus())
+                        == Event.EventStatus.ACTIVE)
+                .toList();
+        return toCardResponses(live, fields);
+    }
+
     @Transactional(readOnly = true)
     public List<EventResponse> getActiveEventsForAttendee() {
         return eventRepository.findByDeletedAtIsNullOrderByCreatedAtDesc()
@@ -336,8 +451,6 @@ public class EventService {
 
     private EventResponse toEventResponse(Event event) {
 
-        updateEventStatusIfNeeded(event);
-
         Long enrolledCount = bookingRepository.countConfirmedBookings(event.getEventId());
         Double avgRating = feedbackRepository.getAverageRating(event.getEventId());
 
@@ -347,7 +460,7 @@ public class EventService {
                 event.getDescription(),
                 event.getEventType(),
                 event.getEventFormat(),
-                event.getStatus(),
+                statusByDates(event.getStartDate(), event.getEndDate(), event.getStatus()),
                 event.getStartDate(),
                 event.getEndDate(),
                 event.getTargetAudience(),
@@ -381,6 +494,57 @@ public class EventService {
                 event.getIsFeatured());
     }
 
+    // One query per requested count for the whole list instead of two per event. The status is
+    // worked out from the dates like toEventResponse does, but not saved.
+    private List<EventResponse> toCardResponses(List<EventCard> cards, EventFields fields) {
+        List<Long> eventIds = cards.stream().map(EventCard::getEventId).toList();
+        Map<Long, Number> enrolled = fields.includes("enrolledCount") && !eventIds.isEmpty()
+                ? byEventId(bookingRepository.countConfirmedBookingsByEventIds(eventIds))
+                : Map.of();
+        Map<Long, Number> ratings = fields.includes("averageRating") && !eventIds.isEmpty()
+                ? byEventId(feedbackRepository.getAverageRatingsByEventIds(eventIds))
+                : Map.of();
+
+        return cards.stream().map(card -> {
+            EventResponse response = new EventResponse();
+            response.setEventId(card.getEventId());
+            response.setTitle(card.getTitle());
+            response.setTagline(card.getTagline());
+            response.setEventType(card.getEventType());
+            response.setEventFormat(card.getEventFormat());
+            response.setStatus(statusByDates(card.getStartDate(), card.getEndDate(), card.getStatus()));
+            response.setStartDate(card.getStartDate());
+            response.setEndDate(card.getEndDate());
+            response.setRegistrationOpenDate(card.getRegistrationOpenDate());
+            response.setRegistrationCloseDate(card.getRegistrationCloseDate());
+            response.setTotalCapacity(card.getTotalCapacity());
+            response.setBannerImageId(card.getBannerImageId());
+            response.setTicketType(card.getTicketType());
+            response.setTicketPrice(card.getTicketPrice());
+            response.setIsFeatured(card.getIsFeatured());
+            if (card.getVenueId() != null) {
+                Venue venue = new Venue();
+                venue.setVenueId(card.getVenueId());
+                venue.setName(card.getVenueName());
+                venue.setCity(card.getVenueCity());
+                response.setVenue(venue);
+            }
+            Number count = enrolled.get(card.getEventId());
+            response.setEnrolledCount(count != null ? count.longValue() : 0L);
+            Number rating = ratings.get(card.getEventId());
+            response.setAverageRating(rating != null ? rating.doubleValue() : null);
+            return response;
+        }).collect(Collectors.toList());
+    }
+
+    private static Map<Long, Number> byEventId(List<Object[]> rows) {
+        Map<Long, Number> values = new HashMap<>();
+        for (Object[] row : rows) {
+            values.put((Long) row[0], (Number) row[1]);
+        }
+        return values;
+    }
+
     private void validateEventDates(LocalDateTime startDate, LocalDateTime endDate) {
         if (startDate == null || endDate == null)
             return; // Allow nulls for Planned/Drafts
@@ -418,26 +582,44 @@ public class EventService {
         }
     }
 
-    private void updateEventStatusIfNeeded(Event event) {
+    /**
+     * Moves PLANNED and ACTIVE events along by their dates and commits it. Responses already show
+     * the date-based status; this is where the stored status, the AI metadata snapshot and the
+     * counters kept from it follow.
+     */
+    @Scheduled(fixedDelayString = "${app.events.status-refresh-interval-ms:60000}", initialDelay = 60000)
+    @Transactional(isolation = Isolation.READ_COMMITTED)
+    public void refreshEventStatuses() {
+        int changed = 0;
+        for (Event event : eventRepository.findByDeletedAtIsNullAndStatusIn(
+                List.of(Event.EventStatus.PLANNED, Event.EventStatus.ACTIVE))) {
+            Event.EventStatus previousStatus = event.getStatus();
+            Event.EventStatus newStatus = statusByDates(event.getStartDate(), event.getEndDate(), previousStatus);
+            if (newStatus != previousStatus) {
+                event.setStatus(newStatus);
+                metadataService.eventChanged(event);
+                analyticsService.eventSaved(previousStatus, newStatus);
+                changed++;
+            }
+        }
+        if (changed > 0) {
+            log.info("Moved {} events to their date-based status", changed);
+        }
+    }
 
+    // PLANNED before the start, COMPLETED after the end, ACTIVE in between; undated events keep their status
+    private static Event.EventStatus statusByDates(LocalDateTime startDate, LocalDateTime endDate,
+            Event.EventStatus status) {
+        if (startDate == null || endDate == null) {
+            return status;
+        }
         LocalDateTime now = LocalDateTime.now();
-
-        if (event.getStartDate() == null || event.getEndDate() == null)
-            return;
-
-        Event.EventStatus newStatus;
-
-        if (now.isBefore(event.getStartDate())) {
-            newStatus = Event.EventStatus.PLANNED;
-        } else if (now.isAfter(event.getEndDate())) {
-            newStatus = Event.EventStatus.COMPLETED;
-        } else {
-            newStatus = Event.EventStatus.ACTIVE;
+        if (now.isBefore(startDate)) {
+            return Event.EventStatus.PLANNED;
         }
-
-        if (event.getStatus() != newStatus) {
-            event.setStatus(newStatus);
-            eventRepository.save(event);
+        if (now.isAfter(endDate)) {
+            return Event.EventStatus.COMPLETED;
         }
+        return Event.EventStatus.ACTIVE;
     }
 }
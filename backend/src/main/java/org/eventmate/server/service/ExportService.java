@@ -0,0 +1,250 @@
+package org.eventmate.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.entity.Booking;
+import org.eventmate.server.entity.Role;
+import org.eventmate.server.entity.Transaction;
+import org.eventmate.server.entity.User;
+import org.eventmate.server.exception.custom.ResourceNotFoundException;
+import org.eventmate.server.exception.custom.UnauthorizedException;
+import org.eventmate.server.exception.custom.ValidationException;
+import org.eventmate.server.repository.BookingRepository;
+import org.eventmate.server.repository.EventRepository;
+import org.eventmate.server.repository.TransactionRepository;
+import org.eventmate.server.repository.UserRepository;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+import java.util.zip.GZIPOutputStream;
+
+/**
+ * ExportService - Streams transactions, users and event bookings to the client as CSV or NDJSON.
+ *
+ * Rows come from a Spring Data Stream over a MySQL streaming result set and are written as they
+ * are read, inside a read-only transaction; the persistence context is cleared every batch so
+ * memory stays flat however many rows there are. Date ranges are inclusive days. With gzip the
+ * download is a .gz file.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class ExportService {
+
+    private static final int CLEAR_EVERY = 500;
+
+    public enum Format {
+        CSV("csv", "text/csv"),
+        NDJSON("ndjson", "application/x-ndjson");
+
+        private final String extension;
+        private final String contentType;
+
+        Format(String extension, String contentType) {
+            this.extension = extension;
+            this.contentType = contentType;
+        }
+
+        public static Format from(String value) {
+            try {
+                return value == null ? CSV : valueOf(value.trim().toUpperCase(Locale.ROOT));
+            } catch (IllegalArgumentException e) {
+                throw new ValidationException("Unsupported export format: " + value + " (use csv or ndjson)");
+            }
+        }
+    }
+
+    private record Column<T>(String name, Function<T, Object> value) {
+    }
+
+    private static final List<Column<Transaction>> TRANSACTION_COLUMNS = List.of(
+            new Column<>("transactionId", Transaction::getTransactionId),
+            new Column<>("bookingId", Transaction::getBookingId),
+            new Column<>("amount", Transaction::getAmount),
+            new Column<>("paymentMethod", Transaction::getPaymentMethod),
+            new Column<>("transactionStatus", Transaction::getTransactionStatus),
+            new Column<>("paymentDate", Transaction::getPaymentDate),
+            new Column<>("invoiceId", Transaction::getInvoiceId));
+
+    // No password hash or OTP, ever
+    private static final List<Column<User>> USER_COLUMNS = List.of(
+            new Column<>("userId", User::getUserId),
+            new Column<>("fullName", User::getFullName),
+            new Column<>("email", User::getEmail),
+            new Column<>("role", User::getRole),
+            new Column<>("phoneNumber", User::getPhoneNumber),
+            new Column<>("companyName", User::getCompanyName),
+            new Column<>("isActive", User::getIsActive),
+            new Column<>("createdAt", User::getCreatedAt));
+
+    private static final List<Column<Object[]>> BOOKING_COLUMNS = List.of(
+            new Column<>("bookingId", row -> booking(row).getBookingId()),
+            new Column<>("eventId", row -> booking(row).getEventId()),
+            new Column<>("userId", row -> booking(row).getUserId()),
+            new Column<>("userName", row -> row[1]),
+            new Column<>("userEmail", row -> row[2]),
+            new Column<>("attendeeName", row -> booking(row).getAttendeeName()),
+            new Column<>("contactNumber", row -> booking(row).getContactNumber()),
+            new Column<>("ticketCode", row -> booking(row).getTicketCode()),
+            new Column<>("groupCode", row -> booking(row).getGroupCode()),
+            new Column<>("bookingType", row -> booking(row).getBookingType()),
+            new Column<>("status", row -> booking(row).getStatus()),
+            new Column<>("seatNumber", row -> booking(row).getSeatNumber()),
+            new Column<>("bookingDate", row -> booking(row).getBookingDate()),
+            new Column<>("checkinStatus", row -> booking(row).getCheckinStatus()),
+            new Column<>("checkinTime", row -> booking(row).getCheckinTime()));
+
+    private final TransactionRepository transactionRepository;
+    private final UserRepository userRepository;
+    private final BookingRepository bookingRepository;
+    private final EventRepository eventRepository;
+    private final EntityManager entityManager;
+    private final PlatformTransactionManager transactionManager;
+    private final ObjectMapper objectMapper;
+
+    public ResponseEntity<StreamingResponseBody> exportTransactions(Format format, LocalDate from, LocalDate to,
+            boolean gzip) {
+        return download("transactions", format, gzip, TRANSACTION_COLUMNS,
+                () -> transactionRepository.streamByPaymentDate(startOf(from), endOf(to)));
+    }
+
+    public ResponseEntity<StreamingResponseBody> exportUsers(Format format, Role role, LocalDate from, LocalDate to,
+            boolean gzip) {
+        return download("users", format, gzip, USER_COLUMNS,
+                () -> userRepository.streamForExport(role, startOf(from), endOf(to)));
+    }
+
+    /**
+     * Attendee list of one event, for its organizer or an admin. Checked before the response is
+     * committed, since once streaming starts an error can no longer change the status.
+     */
+    public ResponseEntity<StreamingResponseBody> exportEventBookings(Long eventId, Long userId, boolean admin,
+            Format format, LocalDate from, LocalDate to, boolean gzip) {
+        Long organizerId = eventRepository.findOrganizerIdById(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+        if (!admin && !organizerId.equals(userId)) {
+            throw new UnauthorizedException("Unauthorized to export bookings for this event");
+        }
+        return download("event-" + eventId + "-bookings", format, gzip, BOOKING_COLUMNS,
+                () -> bookingRepository.streamForExport(eventId, startOf(from), endOf(to)));
+    }
+
+    private <T> ResponseEntity<StreamingResponseBody> download(String name, Format format, boolean gzip,
+            List<Column<T>> columns, Supplier<Stream<T>> query) {
+        String filename = name + "-" + LocalDate.now() + "." + format.extension + (gzip ? ".gz" : "");
+        MediaType contentType = gzip
+                ? MediaType.parseMediaType("application/gzip")
+                : MediaType.parseMediaType(format.contentType + ";charset=UTF-8");
+        return ResponseEntity.ok()
+                .contentType(contentType)
+                .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(filename).build()
+                        .toString())
+                .body(out -> write(out, format, gzip, columns, query));
+    }
+
+    <T> void write(OutputStream out, Format format, boolean gzip, List<Column<T>> columns,
+            Supplier<Stream<T>> query) throws IOException {
+        GZIPOutputStream compressed = gzip ? new GZIPOutputStream(out, 8192) : null;
+        Writer writer = new BufferedWriter(new OutputStreamWriter(compressed != null ? compressed : out,
+                StandardCharsets.UTF_8), 65536);
+        if (format == Format.CSV) {
+            writeCsvRow(writer, columns.stream().map(Column::name).toList());
+        }
+
+        TransactionTemplate readOnly = new TransactionTemplate(transactionManager);
+        readOnly.setReadOnly(true);
+        long rows = readOnly.execute(status -> {
+            long count = 0;
+            try (Stream<T> stream = query.get()) {
+                for (T row : (Iterable<T>) stream::iterator) {
+                    if (format == Format.CSV) {
+                        writeCsvRow(writer, columns.stream().map(column -> column.value().apply(row)).toList());
+                    } else {
+                        Map<String, Object> record = new LinkedHashMap<>();
+                        columns.forEach(column -> record.put(column.name(), column.value().apply(row)));
+                        writer.write(objectMapper.writeValueAsString(record));
+                        writer.write('\n');
+                    }
+                    if (++count % CLEAR_EVERY == 0) {
+                        entityManager.clear();
+                    }
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+            return count;
+        });
+
+        writer.flush();
+        if (compressed != null) {
+            compressed.finish();
+        }
+        log.info("Exported {} rows as {}{}", rows, format, gzip ? " (gzip)" : "");
+    }
+
+    private static void writeCsvRow(Writer writer, List<?> values) {
+        try {
+            for (int i = 0; i < values.size(); i++) {
+                if (i > 0) {
+                    writer.write(',');
+                }
+                writer.write(csvCell(values.get(i)));
+            }
+            writer.write("\r\n");
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    // RFC 4180 quoting; text starting like a formula is prefixed with ' so spreadsheets don't run it
+    static String csvCell(Object value) {
+        if (value == null) {
+            return "";
+        }
+        String text = value.toString();
+        if (value instanceof String && !text.isEmpty() && "=+-@\t\r".indexOf(text.charAt(0)) >= 0) {
+            text = "'" + text;
+        }
+        if (text.indexOf(',') >= 0 || text.indexOf('"') >= 0 || text.indexOf('\n') >= 0 || text.indexOf('\r') >= 0) {
+            return '"' + text.replace("\"", "\"\"") + '"';
+        }
+        return text;
+    }
+
+    private static Booking booking(Object[] row) {
+        return (Booking) row[0];
+    }
+
+    private static LocalDateTime startOf(LocalDate day) {
+        return day != null ? day.atStartOfDay() : null;
+    }
+
+    // Exclusive upper bound, so "to" includes the whole day
+    private static LocalDateTime endOf(LocalDate day) {
+        return day != null ? day.plusDays(1).atStartOfDay() : null;
+    }
+}
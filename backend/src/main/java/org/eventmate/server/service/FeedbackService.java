@@ -1,5 +1,6 @@
 package org.eventmate.server.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eventmate.server.dto.FeedbackRequest;
@@ -20,6 +21,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("eventmate.service")
 @RequiredArgsConstructor
 @Slf4j
 public class FeedbackService {
@@ -1,5 +1,6 @@
 package org.eventmate.server.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.mongodb.core.MongoTemplate;
 import org.springframework.data.mongodb.core.query.Criteria;
@@ -10,6 +11,7 @@ import java.security.NoSuchAlgorithmException;
 import java.util.Base64;
 
 @Service
+@Timed("eventmate.service")
 @RequiredArgsConstructor
 public class FileStorageService {
 
@@ -45,7 +47,7 @@ public class FileStorageService {
         }
     }
 
-    private String calculateHash(byte[] content) throws NoSuchAlgorithmException {
+    static String calculateHash(byte[] content) throws NoSuchAlgorithmException {
         MessageDigest digest = MessageDigest.getInstance("SHA-256");
         byte[] hash = digest.digest(content);
         return Base64.getEncoder().encodeToString(hash);
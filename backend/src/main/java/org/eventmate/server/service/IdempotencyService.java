@@ -0,0 +1,165 @@
+package org.eventmate.server.service;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.entity.IdempotencyRecord;
+import org.eventmate.server.exception.custom.DuplicateResourceException;
+import org.eventmate.server.exception.custom.ValidationException;
+import org.eventmate.server.repository.IdempotencyRecordRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.LocalDateTime;
+import java.util.Collections;
+import java.util.HexFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+
+/**
+ * IdempotencyService - Replays the stored response for retried POSTs carrying an Idempotency-Key.
+ *
+ * Lookups hit a bounded in-memory LRU first and the idempotency_records table second, so a retry
+ * after a network blip returns the original result without re-running the booking transaction.
+ * Only successful responses are stored; a failed attempt can simply be retried.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class IdempotencyService {
+
+    private static final int MAX_KEY_LENGTH = 100;
+
+    private final IdempotencyRecordRepository idempotencyRecordRepository;
+    private final ObjectMapper objectMapper;
+
+    private final Set<String> inFlight = ConcurrentHashMap.newKeySet();
+    private Map<String, IdempotencyRecord> recent;
+
+    @Value("${app.idempotency.cache-size:10000}")
+    private int cacheSize;
+
+    @Value("${app.idempotency.ttl-hours:24}")
+    private int ttlHours;
+
+    @PostConstruct
+    void initCache() {
+        recent = Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, IdempotencyRecord> eldest) {
+                return size() > cacheSize;
+            }
+        });
+    }
+
+    /**
+     * Run {@code action} once per (scope, user, key); later calls with the same key get the first result.
+     *
+     * @param key the client's Idempotency-Key header, or null to just run the action
+     */
+    public <T> T execute(String scope, Long userId, String key, Object request, Class<T> responseType,
+            Supplier<T> action) {
+        if (key == null || key.isBlank()) {
+            return action.get();
+        }
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new ValidationException("Idempotency-Key must be at most " + MAX_KEY_LENGTH + " characters");
+        }
+
+        String recordKey = scope + ":" + userId + ":" + key;
+        String requestHash = hash(request);
+
+        IdempotencyRecord stored = lookup(recordKey);
+        if (stored != null) {
+            return replay(stored, requestHash, responseType);
+        }
+
+        if (!inFlight.add(recordKey)) {
+            throw new DuplicateResourceException("A request with this Idempotency-Key is still being processed");
+        }
+        try {
+            // Re-check: the first attempt may have finished between lookup() and inFlight.add()
+            stored = lookup(recordKey);
+            if (stored != null) {
+                return replay(stored, requestHash, responseType);
+            }
+
+            T response = action.get();
+            store(recordKey, requestHash, response);
+            return response;
+        } finally {
+            inFlight.remove(recordKey);
+        }
+    }
+
+    @Scheduled(cron = "0 30 * * * *") // Hourly
+    @Transactional
+    public void purgeExpired() {
+        int removed = idempotencyRecordRepository.deleteOlderThan(LocalDateTime.now().minusHours(ttlHours));
+        if (removed > 0) {
+            log.info("Purged {} expired idempotency records", removed);
+        }
+    }
+
+    private IdempotencyRecord lookup(String recordKey) {
+        IdempotencyRecord record = recent.get(recordKey);
+        if (record == null) {
+            record = idempotencyRecordRepository.findById(recordKey).orElse(null);
+            if (record != null) {
+                recent.put(recordKey, record);
+            }
+        }
+        if (record != null && record.getCreatedAt() != null
+                && record.getCreatedAt().isBefore(LocalDateTime.now().minusHours(ttlHours))) {
+            return null;
+        }
+        return record;
+    }
+
+    private <T> T replay(IdempotencyRecord record, String requestHash, Class<T> responseType) {
+        if (!record.getRequestHash().equals(requestHash)) {
+            throw new ValidationException("Idempotency-Key was already used with a different request");
+        }
+        try {
+            log.debug("Replaying stored response for {}", record.getRecordKey());
+            return objectMapper.readValue(record.getResponseBody(), responseType);
+        } catch (JsonProcessingException e) {
+            throw new IllegalStateException("Stored idempotent response is unreadable", e);
+        }
+    }
+
+    private void store(String recordKey, String requestHash, Object response) {
+        IdempotencyRecord record = new IdempotencyRecord();
+        record.setRecordKey(recordKey);
+        record.setRequestHash(requestHash);
+        record.setCreatedAt(LocalDateTime.now());
+        try {
+            record.setResponseBody(objectMapper.writeValueAsString(response));
+            recent.put(recordKey, record);
+            idempotencyRecordRepository.save(record);
+        } catch (Exception e) {
+            // The work is already committed; losing the record only means a retry gets the old behaviour
+            log.warn("Failed to persist idempotency record {}: {}", recordKey, e.getMessage());
+        }
+    }
+
+    private String hash(Object request) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            byte[] json = objectMapper.writeValueAsString(request).getBytes(StandardCharsets.UTF_8);
+            return HexFormat.of().formatHex(digest.digest(json));
+        } catch (NoSuchAlgorithmException | JsonProcessingException e) {
+            throw new IllegalStateException("Failed to fingerprint request", e);
+        }
+    }
+}
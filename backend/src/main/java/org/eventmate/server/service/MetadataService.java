@@ -1,51 +1,79 @@
 package org.eventmate.server.service;
 
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.core.type.TypeReference;
 import com.fasterxml.jackson.databind.ObjectMapper;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.entity.Venue;
 import org.eventmate.server.repository.EventRepository;
 import org.eventmate.server.repository.VenueRepository;
 import org.springframework.boot.context.event.ApplicationReadyEvent;
 import org.springframework.context.event.EventListener;
 import org.springframework.scheduling.annotation.Async;
+import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 
-import java.io.File;
 import java.io.IOException;
+import java.nio.file.AtomicMoveNotSupportedException;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.concurrent.atomic.AtomicReference;
+import java.util.concurrent.locks.ReentrantLock;
+import java.util.function.UnaryOperator;
+
+import static org.eventmate.server.service.TransactionHooks.afterCommit;
 
 /**
  * MetadataService - Caches event and venue data for fast AI context retrieval.
- * Uses the "Cache-Aside" pattern to avoid database queries on every AI request.
+ *
+ * The cache is an immutable, versioned snapshot held in memory and swapped atomically, so readers
+ * never see a half-applied change. Event/venue CRUD patches it record by record after the
+ * transaction commits; a full rebuild from the database only happens on startup and on demand, and
+ * patches committed while it runs are replayed onto the rebuilt snapshot.
+ * ai-context/metadata.json is written in the background (temp file + rename) and is only read at
+ * startup, as a warm start while the database rebuild runs.
  */
 @Service
 @RequiredArgsConstructor
 @Slf4j
 public class MetadataService {
 
-    private static final String METADATA_FILE = "ai-context/metadata.json";
+    private static final Path METADATA_FILE = Path.of("ai-context/metadata.json");
     private final ObjectMapper mapper = new ObjectMapper();
 
     private final VenueRepository venueRepository;
     private final EventRepository eventRepository;
 
+    private final AtomicReference<Snapshot> snapshot = new AtomicReference<>(Snapshot.EMPTY);
+    private volatile long persistedVersion;
+
+    // Writers take the lock, readers just read the reference. Patches applied while a rebuild reads
+    // the database are also logged here and replayed onto its result, so the swap doesn't drop them.
+    private final ReentrantLock writeLock = new ReentrantLock();
+    private final List<List<UnaryOperator<Snapshot>>> rebuildLogs = new ArrayList<>();
+
     /**
      * Automatically sync metadata when the application starts
      */
     @EventListener(ApplicationReadyEvent.class)
     public void onApplicationReady() {
+        loadWarmStartFile();
         log.info("Application started - syncing AI metadata cache...");
         syncMetadataSync(); // Call synchronous version on startup
     }
 
     /**
-     * Sync metadata to JSON file for fast AI access (Async version).
-     * Call this after any Event or Venue CRUD operation.
+     * Full rebuild from the database (Async version)
      */
     @Async
     public void syncMetadata() {
@@ -53,103 +81,126 @@ public class MetadataService {
     }
 
     /**
-     * Sync metadata synchronously - Used on startup
+     * Full rebuild synchronously - Used on startup
      */
     public void syncMetadataSync() {
         doSyncMetadata();
     }
 
-    /**
-     * Core sync logic - shared by async and sync methods
-     */
     private void doSyncMetadata() {
+        List<UnaryOperator<Snapshot>> applied = new ArrayList<>();
+        writeLock.lock();
+        try {
+            rebuildLogs.add(applied);
+        } finally {
+            writeLock.unlock();
+        }
         try {
             log.info("Syncing AI metadata cache...");
 
-            // 1. Fetch Key Data from Database
-            List<Map<String, Object>> venues = venueRepository.findAll().stream()
-                    .map(v -> {
-                        Map<String, Object> m = new HashMap<>();
-                        m.put("id", v.getVenueId());
-                        m.put("name", v.getName());
-                        m.put("location", v.getAddress() + ", " + v.getCity() + ", " + v.getState());
-                        m.put("capacity", v.getCapacity());
-                        return m;
-                    }).toList();
-
-            List<Map<String, Object>> events = eventRepository.findAll().stream()
-                    .filter(e -> e.getStatus() != null && e.getStatus().name().equals("ACTIVE"))
-                    .map(e -> {
-                        Map<String, Object> m = new HashMap<>();
-                        m.put("id", e.getEventId());
-                        m.put("title", e.getTitle());
-                        m.put("description",
-                                e.getDescription() != null
-                                        ? e.getDescription().substring(0, Math.min(200, e.getDescription().length()))
-                                        : null);
-                        m.put("type", e.getEventType() != null ? e.getEventType().name() : "GENERAL");
-                        m.put("format", e.getEventFormat() != null ? e.getEventFormat().name() : "HYBRID");
-                        m.put("startDate", e.getStartDate() != null ? e.getStartDate().toString() : null);
-                        m.put("endDate", e.getEndDate() != null ? e.getEndDate().toString() : null);
-                        m.put("ticketType", e.getTicketType() != null ? e.getTicketType().name() : "FREE");
-                        m.put("price", e.getTicketPrice());
-                        m.put("capacity", e.getTotalCapacity());
-                        m.put("venue", e.getVenue() != null ? e.getVenue().getName() : null);
-                        m.put("meetingUrl", e.getMeetingUrl() != null ? "Online" : null);
-                        return m;
-                    }).toList();
-
-            // 2. Build Cache Object
-            Map<String, Object> context = new HashMap<>();
-            context.put("venues", venues);
-            context.put("events", events);
-            context.put("totalVenues", venues.size());
-            context.put("totalEvents", events.size());
-            context.put("lastUpdated", LocalDateTime.now().toString());
-
-            // 3. Write to JSON File
-            File file = new File(METADATA_FILE);
-            file.getParentFile().mkdirs(); // Create directory if missing
-            mapper.writerWithDefaultPrettyPrinter().writeValue(file, context);
+            Map<Long, Map<String, Object>> venues = new LinkedHashMap<>();
+            for (Venue venue : venueRepository.findAll()) {
+                venues.put(venue.getVenueId(), toRecord(venue));
+            }
+            Map<Long, Map<String, Object>> events = new LinkedHashMap<>();
+            for (Event event : eventRepository.findByStatus(Event.EventStatus.ACTIVE)) {
+                if (event.getDeletedAt() == null) {
+                    events.put(event.getEventId(), toRecord(event));
+                }
+            }
 
-            log.info("AI metadata cache synced successfully. {} venues, {} events", venues.size(), events.size());
+            writeLock.lock();
+            try {
+                Snapshot rebuilt = snapshot.get().next(events, venues);
+                for (UnaryOperator<Snapshot> patch : applied) {
+                    rebuilt = patch.apply(rebuilt);
+                }
+                snapshot.set(rebuilt);
+            } finally {
+                writeLock.unlock();
+            }
+            log.info("AI metadata cache synced successfully. {} venues, {} events, {} patches replayed",
+                    venues.size(), events.size(), applied.size());
 
-        } catch (IOException e) {
-            log.error("CRITICAL: Failed to sync AI metadata cache. AI will use fallback.", e);
+        } catch (RuntimeException e) {
+            log.error("CRITICAL: Failed to sync AI metadata cache. AI will use the previous snapshot.", e);
+        } finally {
+            writeLock.lock();
+            try {
+                rebuildLogs.removeIf(pending -> pending == applied);
+            } finally {
+                writeLock.unlock();
+            }
         }
     }
 
     /**
-     * Read cached metadata for AI context (0ms latency vs DB query latency)
+     * Current snapshot; cheap, never touches the database or the file system
+     */
+    public Snapshot getSnapshot() {
+        return snapshot.get();
+    }
+
+    /**
+     * Cached metadata as JSON for AI context (serialized once per snapshot version)
      */
     public String readMetadata() {
-        try {
-            Path path = Path.of(METADATA_FILE);
-            if (Files.exists(path)) {
-                return Files.readString(path);
+        return snapshot.get().json(mapper);
+    }
+
+    /**
+     * Patch one event after the surrounding transaction commits. Events that aren't ACTIVE (or
+     * are soft-deleted) are removed from the cache.
+     */
+    public void eventChanged(Event event) {
+        Long eventId = event.getEventId();
+        Map<String, Object> record = event.getStatus() == Event.EventStatus.ACTIVE && event.getDeletedAt() == null
+                ? toRecord(event)
+                : null;
+        afterCommit(() -> patchEvents(events -> {
+            if (record == null) {
+                events.remove(eventId);
             } else {
-                // File doesn't exist, trigger sync and return empty
-                syncMetadata();
-                return getEmptyContext();
+                events.put(eventId, record);
             }
-        } catch (IOException e) {
-            log.warn("Failed to read AI metadata cache, returning empty context", e);
-            return getEmptyContext();
-        }
+            return events;
+        }));
+    }
+
+    public void eventRemoved(Long eventId) {
+        afterCommit(() -> patchEvents(events -> {
+            events.remove(eventId);
+            return events;
+        }));
     }
 
     /**
-     * Emergency fallback when cache is unavailable
+     * Patch one venue; events held at that venue pick up the new name
      */
-    private String getEmptyContext() {
-        return """
-                {
-                    "venues": [],
-                    "events": [],
-                    "note": "Cache unavailable. Please ask user for specific details.",
-                    "lastUpdated": null
+    public void venueChanged(Venue venue) {
+        Map<String, Object> record = toRecord(venue);
+        afterCommit(() -> apply(current -> {
+            Map<Long, Map<String, Object>> venues = new LinkedHashMap<>(current.venues());
+            venues.put(venue.getVenueId(), record);
+            Map<Long, Map<String, Object>> events = new LinkedHashMap<>(current.events());
+            events.replaceAll((id, event) -> {
+                if (!venue.getVenueId().equals(event.get("venueId"))) {
+                    return event;
                 }
-                """;
+                Map<String, Object> renamed = new HashMap<>(event);
+                renamed.put("venue", venue.getName());
+                return renamed;
+            });
+            return current.next(events, venues);
+        }));
+    }
+
+    public void venueRemoved(Long venueId) {
+        afterCommit(() -> apply(current -> {
+            Map<Long, Map<String, Object>> venues = new LinkedHashMap<>(current.venues());
+            venues.remove(venueId);
+            return current.next(current.events(), venues);
+        }));
     }
 
     /**
@@ -158,4 +209,178 @@ public class MetadataService {
     public void forceRefresh() {
         syncMetadata();
     }
+
+    /**
+     * Writes the snapshot to disk when it changed since the last write. Temp file + atomic rename,
+     * so a crash mid-write never leaves a truncated warm-start file behind.
+     */
+    @Scheduled(fixedDelayString = "${app.ai.metadata.persist-interval-ms:10000}", initialDelay = 10000)
+    public void persistSnapshot() {
+        Snapshot current = snapshot.get();
+        if (current.version() == persistedVersion) {
+            return;
+        }
+        try {
+            Files.createDirectories(METADATA_FILE.getParent());
+            Path temp = Files.createTempFile(METADATA_FILE.getParent(), "metadata", ".json.tmp");
+            try {
+                Files.writeString(temp, current.json(mapper));
+                try {
+                    Files.move(temp, METADATA_FILE, StandardCopyOption.REPLACE_EXISTING,
+                            StandardCopyOption.ATOMIC_MOVE);
+                } catch (AtomicMoveNotSupportedException e) {
+                    Files.move(temp, METADATA_FILE, StandardCopyOption.REPLACE_EXISTING);
+                }
+            } finally {
+                Files.deleteIfExists(temp);
+            }
+            persistedVersion = current.version();
+            log.debug("AI metadata snapshot v{} written to {}", current.version(), METADATA_FILE);
+        } catch (IOException e) {
+            log.warn("Failed to persist AI metadata snapshot: {}", e.getMessage());
+        }
+    }
+
+    private void loadWarmStartFile() {
+        if (!Files.exists(METADATA_FILE)) {
+            return;
+        }
+        try {
+            Map<String, Object> stored = mapper.readValue(METADATA_FILE.toFile(), new TypeReference<>() {
+            });
+            Map<Long, Map<String, Object>> events = byId(stored.get("events"));
+            Map<Long, Map<String, Object>> venues = byId(stored.get("venues"));
+            apply(current -> current.version() == 0 ? current.next(events, venues) : current);
+            log.info("AI metadata warm-started from {} ({} events, {} venues)", METADATA_FILE, events.size(),
+                    venues.size());
+        } catch (IOException | RuntimeException e) {
+            log.warn("Ignoring unreadable AI metadata file: {}", e.getMessage());
+        }
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, Map<String, Object>> byId(Object records) {
+        Map<Long, Map<String, Object>> byId = new LinkedHashMap<>();
+        if (records instanceof List<?> list) {
+            for (Object item : list) {
+                Map<String, Object> record = (Map<String, Object>) item;
+                if (record.get("id") instanceof Number id) {
+                    byId.put(id.longValue(), record);
+                }
+            }
+        }
+        return byId;
+    }
+
+    private void patchEvents(UnaryOperator<Map<Long, Map<String, Object>>> change) {
+        apply(current -> current.next(change.apply(new LinkedHashMap<>(current.events())), current.venues()));
+    }
+
+    private void apply(UnaryOperator<Snapshot> patch) {
+        writeLock.lock();
+        try {
+            snapshot.set(patch.apply(snapshot.get()));
+            rebuildLogs.forEach(pending -> pending.add(patch));
+        } finally {
+            writeLock.unlock();
+        }
+    }
+
+
+    private static Map<String, Object> toRecord(Venue v) {
+        Map<String, Object> m = new HashMap<>();
+        m.put("id", v.getVenueId());
+        m.put("name", v.getName());
+        m.put("location", v.getAddress() + ", " + v.getCity() + ", " + v.getState());
+        m.put("capacity", v.getCapacity());
+        return m;
+    }
+
+    private static Map<String, Object> toRecord(Event e) {
+        Map<String, Object> m = new HashMap<>();
+        m.put("id", e.getEventId());
+        m.put("title", e.getTitle());
+        m.put("description",
+                e.getDescription() != null
+                        ? e.getDescription().substring(0, Math.min(200, e.getDescription().length()))
+                        : null);
+        m.put("type", e.getEventType() != null ? e.getEventType().name() : "GENERAL");
+        m.put("format", e.getEventFormat() != null ? e.getEventFormat().name() : "HYBRID");
+        m.put("startDate", e.getStartDate() != null ? e.getStartDate().toString() : null);
+        m.put("endDate", e.getEndDate() != null ? e.getEndDate().toString() : null);
+        m.put("ticketType", e.getTicketType() != null ? e.getTicketType().name() : "FREE");
+        m.put("price", e.getTicketPrice());
+        m.put("capacity", e.getTotalCapacity());
+        m.put("venueId", e.getVenue() != null ? e.getVenue().getVenueId() : null);
+        m.put("venue", e.getVenue() != null ? e.getVenue().getName() : null);
+        m.put("meetingUrl", e.getMeetingUrl() != null ? "Online" : null);
+        return m;
+    }
+
+    /**
+     * Immutable view of the cache. Every change produces a new snapshot with version + 1.
+     */
+    public static final class Snapshot {
+
+        static final Snapshot EMPTY = new Snapshot(0, Map.of(), Map.of(), null);
+
+        private final long version;
+        private final Map<Long, Map<String, Object>> events;
+        private final Map<Long, Map<String, Object>> venues;
+        private final LocalDateTime lastUpdated;
+        private volatile String json;
+
+        Snapshot(long version, Map<Long, Map<String, Object>> events, Map<Long, Map<String, Object>> venues,
+                LocalDateTime lastUpdated) {
+            this.version = version;
+            this.events = Collections.unmodifiableMap(events);
+            this.venues = Collections.unmodifiableMap(venues);
+            this.lastUpdated = lastUpdated;
+        }
+
+        Snapshot next(Map<Long, Map<String, Object>> events, Map<Long, Map<String, Object>> venues) {
+            return new Snapshot(version + 1, events, venues, LocalDateTime.now());
+        }
+
+        public long version() {
+            return version;
+        }
+
+        public Map<Long, Map<String, Object>> events() {
+            return events;
+        }
+
+        public Map<Long, Map<String, Object>> venues() {
+            return venues;
+        }
+
+        /**
+         * Same layout as the former metadata.json file
+         */
+        public Map<String, Object> toContextMap() {
+            Map<String, Object> context = new HashMap<>();
+            context.put("venues", new ArrayList<>(venues.values()));
+            context.put("events", new ArrayList<>(events.values()));
+            context.put("totalVenues", venues.size());
+            context.put("totalEvents", events.size());
+            context.put("lastUpdated", lastUpdated != null ? lastUpdated.toString() : null);
+            if (version == 0) {
+                context.put("note", "Cache unavailable. Please ask user for specific details.");
+            }
+            return context;
+        }
+
+        String json(ObjectMapper mapper) {
+            String cached = json;
+            if (cached == null) {
+                try {
+                    cached = mapper.writerWithDefaultPrettyPrinter().writeValueAsString(toContextMap());
+                } catch (JsonProcessingException e) {
+                    throw new IllegalStateException("Failed to serialize AI metadata", e);
+                }
+                json = cached;
+            }
+            return cached;
+        }
+    }
 }
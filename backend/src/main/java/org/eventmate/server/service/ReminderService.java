@@ -4,13 +4,16 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eventmate.server.entity.Booking;
 import org.eventmate.server.entity.Event;
+import org.eventmate.server.entity.Notification;
 import org.eventmate.server.entity.User;
 import org.eventmate.server.repository.BookingRepository;
 import org.eventmate.server.repository.EventRepository;
+import org.eventmate.server.repository.NotificationRepository;
 import org.eventmate.server.repository.UserRepository;
 import org.springframework.scheduling.annotation.Scheduled;
 import org.springframework.stereotype.Service;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 
 @Service
@@ -18,11 +21,13 @@ import java.util.List;
 @Slf4j
 public class ReminderService {
 
+    private static final int SAVE_CHUNK = 1000;
+
     private final EventRepository eventRepository;
     private final BookingRepository bookingRepository;
     private final UserRepository userRepository;
     private final EmailService emailService;
-    private final org.eventmate.server.repository.NotificationRepository notificationRepository;
+    private final NotificationRepository notificationRepository;
 
     @Scheduled(cron = "0 0 9 * * *") // Run daily at 9 AM
     public void sendEventReminders() {
@@ -44,39 +49,48 @@ public class ReminderService {
                 .toList();
 
         for (Event event : upcomingEvents) {
-            List<Booking> bookings = bookingRepository.findByEventId(event.getEventId());
-            for (Booking booking : bookings) {
-                if (booking.getStatus() == Booking.BookingStatus.CONFIRMED) {
-                    User user = userRepository.findById(booking.getUserId()).orElse(null);
-                    if (user != null) {
-                        sendReminder(user, event);
-                    }
-                }
+            List<Long> userIds = bookingRepository.findByEventId(event.getEventId()).stream()
+                    .filter(booking -> booking.getStatus() == Booking.BookingStatus.CONFIRMED)
+                    .map(Booking::getUserId)
+                    .toList();
+            List<Notification> notifications = new ArrayList<>();
+            for (User user : userRepository.findAllById(userIds)) {
+                sendReminder(user, event);
+                notifications.add(reminderNotification(user, event));
             }
+            saveNotifications(notifications);
         }
         log.info("Event reminders processed for {} events", upcomingEvents.size());
     }
 
     private void sendReminder(User user, Event event) {
-        // 1. Send Email
         try {
             log.info("Sending reminder to {} for event {}", user.getEmail(), event.getTitle());
             emailService.sendEventReminder(user.getEmail(), user.getFullName(), event);
         } catch (Exception e) {
             log.error("Failed to send reminder email to {}", user.getEmail(), e);
         }
+    }
 
-        // 2. Create In-App Notification
-        try {
-            org.eventmate.server.entity.Notification notification = new org.eventmate.server.entity.Notification();
-            notification.setUserId(user.getUserId());
-            notification.setEventId(event.getEventId());
-            notification.setMessage("Reminder: " + event.getTitle() + " starts in 2 days!");
-            notification.setRead(false);
-            notification.setCreatedAt(LocalDateTime.now());
-            notificationRepository.save(notification);
-        } catch (Exception e) {
-            log.error("Failed to create notification for user {}", user.getUserId(), e);
+    private static Notification reminderNotification(User user, Event event) {
+        Notification notification = new Notification();
+        notification.setUserId(user.getUserId());
+        notification.setEventId(event.getEventId());
+        notification.setMessage("Reminder: " + event.getTitle() + " starts in 2 days!");
+        notification.setRead(false);
+        notification.setCreatedAt(LocalDateTime.now());
+        return notification;
+    }
+
+    // In-app notifications go in as batched inserts, one transaction per chunk
+    private void saveNotifications(List<Notification> notifications) {
+        for (int from = 0; from < notifications.size(); from += SAVE_CHUNK) {
+            List<Notification> chunk = notifications.subList(from, Math.min(from + SAVE_CHUNK, notifications.size()));
+            try {
+                notificationRepository.saveAll(chunk);
+            } catch (Exception e) {
+                log.error("Failed to create {} reminder notifications", chunk.size(), e);
+            }
         }
     }
 }
@@ -0,0 +1,261 @@
+package org.eventmate.server.service;
+
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.entity.CodeSequence;
+import org.eventmate.server.repository.CodeSequenceRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.concurrent.Executor;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.concurrent.locks.ReentrantLock;
+
+/**
+ * TicketCodeService - Unique, short ticket and group codes without a uniqueness check per booking.
+ *
+ * Each node reserves a block of sequence numbers from the code_sequences table (one row-locked
+ * UPDATE per block-size codes) and hands them out from memory. The next block is fetched in the
+ * background once the current one is half used, so a booking transaction - which already holds a
+ * connection and the event row lock - does not wait on a second connection for it. A number is scrambled with a
+ * keyed bijection on 35 bits, so codes are unique but not sequential, then written as 7 Crockford
+ * base32 characters plus a Luhn mod 32 check character that catches single-character typos.
+ *
+ *   EVT-42-7QK3M9XA   GRP-0B5TZ2HR
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TicketCodeService {
+
+    static final String ALPHABET = "0123456789ABCDEFGHJKMNPQRSTVWXYZ"; // Crockford: no I, L, O, U
+    private static final int BASE = ALPHABET.length();
+    private static final int BODY_LENGTH = 7;
+    private static final int BITS = BODY_LENGTH * 5;
+    private static final long MASK = (1L << BITS) - 1;
+    private static final String SEQUENCE_NAME = "booking_codes";
+
+    private final CodeSequenceRepository codeSequenceRepository;
+    private final PlatformTransactionManager transactionManager;
+
+    private final ReentrantLock allocationLock = new ReentrantLock();
+    private final AtomicBoolean refilling = new AtomicBoolean();
+    private volatile Block block;
+    private volatile Block spare;
+    private long key;
+
+    Executor refillExecutor = Executors.newVirtualThreadPerTaskExecutor();
+
+    @Value("${app.codes.block-size:1000}")
+    private int blockSize;
+
+    @Value("${app.codes.secret}")
+    private String secret;
+
+    // Only read to make sure codes aren't scrambled with the JWT key
+    @Value("${app.jwt.secret}")
+    private String jwtSecret;
+
+    @PostConstruct
+    void initKey() {
+        if (secret == null || secret.isBlank() || secret.equals(jwtSecret)) {
+            throw new IllegalStateException("app.codes.secret must be set and differ from app.jwt.secret");
+        }
+        try {
+            byte[] digest = MessageDigest.getInstance("SHA-256").digest(secret.getBytes(StandardCharsets.UTF_8));
+            long k = 0;
+            for (int i = 0; i < 8; i++) {
+                k = (k << 8) | (digest[i] & 0xFF);
+            }
+            key = k & MASK;
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Fetch the first block and its spare before the first booking needs them
+     */
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            allocationLock.lock();
+            try {
+                if (block == null) {
+                    block = allocateBlock();
+                }
+            } finally {
+                allocationLock.unlock();
+            }
+            refillSpare();
+        } catch (RuntimeException e) {
+            log.warn("Could not prefetch ticket code blocks, first bookings will fetch them: {}", e.getMessage());
+        }
+    }
+
+    public String newTicketCode(Long eventId) {
+        return "EVT-" + eventId + "-" + encode(nextValue());
+    }
+
+    public String newGroupCode() {
+        return "GRP-" + encode(nextValue());
+    }
+
+    /**
+     * True if the code is in the generated format but its check character is wrong - a mistyped
+     * or misread code that can be rejected without a lookup. Codes issued before this generator
+     * (6 hex characters) are never reported as corrupt.
+     */
+    public static boolean hasBadCheckCharacter(String code) {
+        if (code == null) {
+            return false;
+        }
+        String body = code.substring(code.lastIndexOf('-') + 1);
+        if (body.length() != BODY_LENGTH + 1) {
+            return false;
+        }
+        int factor = 1;
+        int sum = 0;
+        for (int i = body.length() - 1; i >= 0; i--) {
+            int value = ALPHABET.indexOf(body.charAt(i));
+            if (value < 0) {
+                return false;
+            }
+            int addend = factor * value;
+            sum += addend / BASE + addend % BASE;
+            factor = factor == 2 ? 1 : 2;
+        }
+        return sum % BASE != 0;
+    }
+
+    String encode(long sequenceValue) {
+        long scrambled = scramble(sequenceValue);
+        char[] chars = new char[BODY_LENGTH + 1];
+        for (int i = BODY_LENGTH - 1; i >= 0; i--) {
+            chars[i] = ALPHABET.charAt((int) (scrambled & (BASE - 1)));
+            scrambled >>>= 5;
+        }
+        chars[BODY_LENGTH] = checkCharacter(chars);
+        return new String(chars);
+    }
+
+    // Luhn mod N over the body characters
+    private static char checkCharacter(char[] chars) {
+        int factor = 2;
+        int sum = 0;
+        for (int i = BODY_LENGTH - 1; i >= 0; i--) {
+            int addend = factor * ALPHABET.indexOf(chars[i]);
+            sum += addend / BASE + addend % BASE;
+            factor = factor == 2 ? 1 : 2;
+        }
+        return ALPHABET.charAt((BASE - sum % BASE) % BASE);
+    }
+
+    // xor-shift / odd-multiply steps are each invertible mod 2^35, so distinct inputs stay distinct
+    private long scramble(long value) {
+        long x = (value ^ key) & MASK;
+        x ^= x >>> 17;
+        x = (x * 0x1D6D8FB1L) & MASK;
+        x ^= x >>> 13;
+        x = (x * 0x2C1B3C6DL) & MASK;
+        x ^= x >>> 16;
+        return x;
+    }
+
+    private long nextValue() {
+        while (true) {
+            Block current = block;
+            if (current != null) {
+                long value = current.cursor.getAndIncrement();
+                if (value < current.end) {
+                    if (value == current.refillAt) {
+                        refillExecutor.execute(this::refillSpare);
+                    }
+                    return value;
+                }
+            }
+            allocationLock.lock();
+            try {
+                if (block == current) {
+                    Block next = spare;
+                    spare = null;
+                    // Only when the background refill has not finished (or failed) in time
+                    block = next != null ? next : allocateBlock();
+                }
+            } finally {
+                allocationLock.unlock();
+            }
+        }
+    }
+
+    private void refillSpare() {
+        if (spare != null || !refilling.compareAndSet(false, true)) {
+            return;
+        }
+        try {
+            Block next = allocateBlock();
+            allocationLock.lock();
+            try {
+                spare = next;
+            } finally {
+                allocationLock.unlock();
+            }
+        } catch (RuntimeException e) {
+            log.warn("Background ticket code block refill failed: {}", e.getMessage());
+        } finally {
+            refilling.set(false);
+        }
+    }
+
+    // Own transaction so the row lock is released right away, not at the end of a booking
+    private Block allocateBlock() {
+        TransactionTemplate tx = new TransactionTemplate(transactionManager);
+        tx.setPropagationBehavior(TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        for (int attempt = 0; ; attempt++) {
+            try {
+                long start = tx.execute(status -> {
+                    CodeSequence sequence = codeSequenceRepository.findByNameForUpdate(SEQUENCE_NAME)
+                            .orElseGet(() -> new CodeSequence(SEQUENCE_NAME, 1L));
+                    long first = sequence.getNextValue();
+                    sequence.setNextValue(first + blockSize);
+                    codeSequenceRepository.saveAndFlush(sequence);
+                    return first;
+                });
+                if (start + blockSize > MASK) {
+                    throw new IllegalStateException("Ticket code space exhausted");
+                }
+                log.debug("Allocated code block [{}, {})", start, start + blockSize);
+                return new Block(start, start + blockSize);
+            } catch (DataIntegrityViolationException e) {
+                // Another node created the sequence row at the same time; it exists now
+                if (attempt > 0) {
+                    throw e;
+                }
+            }
+        }
+    }
+
+    private static final class Block {
+        private final AtomicLong cursor;
+        private final long end;
+        private final long refillAt;
+
+        private Block(long start, long end) {
+            this.cursor = new AtomicLong(start);
+            this.end = end;
+            this.refillAt = start + (end - start) / 2;
+        }
+    }
+}
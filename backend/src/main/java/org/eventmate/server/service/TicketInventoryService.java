@@ -0,0 +1,100 @@
+package org.eventmate.server.service;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.entity.Booking;
+import org.eventmate.server.entity.TicketTier;
+import org.eventmate.server.exception.custom.ValidationException;
+import org.eventmate.server.repository.TicketTierRepository;
+import org.eventmate.server.repository.TicketTypeRepository;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+/**
+ * TicketInventoryService - Per-tier / per-ticket-type seat counters.
+ * Counters are moved with conditional UPDATEs, so a tier can never oversell even when
+ * enrollments for different events run in parallel. The bookings table stays the source of
+ * truth and a periodic job corrects any drift.
+ */
+@Service
+@RequiredArgsConstructor
+@Slf4j
+public class TicketInventoryService {
+
+    private final TicketTierRepository ticketTierRepository;
+    private final TicketTypeRepository ticketTypeRepository;
+    private final EntityCacheService entityCacheService;
+
+    /**
+     * Take one seat from the tier and/or ticket type, or throw if either is sold out
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void reserve(Long eventId, Long ticketTierId, Long ticketTypeId) {
+        if (!tryReserve(eventId, ticketTierId, ticketTypeId)) {
+            throw new ValidationException("Selected ticket is sold out");
+        }
+    }
+
+    /**
+     * Take one seat from the tier and/or ticket type.
+     *
+     * @return false (and nothing reserved) if either counter is exhausted
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryReserve(Long eventId, Long ticketTierId, Long ticketTypeId) {
+        if (ticketTierId != null) {
+            if (ticketTierRepository.reserveOne(ticketTierId, eventId) == 0) {
+                return false;
+            }
+            entityCacheService.evictAfterWrite(TicketTier.class, ticketTierId);
+        }
+        if (isTicketTypeOf(eventId, ticketTypeId) && ticketTypeRepository.reserveOne(ticketTypeId) == 0) {
+            if (ticketTierId != null) {
+                ticketTierRepository.releaseOne(ticketTierId);
+            }
+            return false;
+        }
+        return true;
+    }
+
+    @Transactional(propagation = Propagation.MANDATORY)
+    public boolean tryReserve(Booking booking) {
+        return tryReserve(booking.getEventId(), booking.getTicketTierId(), booking.getTicketTypeId());
+    }
+
+    /**
+     * Give back the seat held by a confirmed booking
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public void release(Booking booking) {
+        if (booking.getTicketTierId() != null) {
+            ticketTierRepository.releaseOne(booking.getTicketTierId());
+            entityCacheService.evictAfterWrite(TicketTier.class, booking.getTicketTierId());
+        }
+        if (isTicketTypeOf(booking.getEventId(), booking.getTicketTypeId())) {
+            ticketTypeRepository.releaseOne(booking.getTicketTypeId());
+        }
+    }
+
+    // Older clients send a tier id in ticketTypeId, so only count it if it is a ticket type of this event
+    private boolean isTicketTypeOf(Long eventId, Long ticketTypeId) {
+        return ticketTypeId != null && ticketTypeRepository.findById(ticketTypeId)
+                .filter(type -> eventId.equals(type.getEventId()))
+                .isPresent();
+    }
+
+    /**
+     * Re-derive counters from confirmed bookings (catches manual DB edits, partial failures)
+     */
+    @Scheduled(fixedDelayString = "${app.inventory.reconcile-interval-ms:900000}", initialDelay = 60000)
+    @Transactional
+    public void reconcile() {
+        int tiers = ticketTierRepository.reconcileQuantitySold();
+        int types = ticketTypeRepository.reconcileQuantitySold();
+        if (tiers > 0 || types > 0) {
+            log.warn("Ticket inventory drift corrected: {} tiers, {} ticket types", tiers, types);
+        }
+    }
+}
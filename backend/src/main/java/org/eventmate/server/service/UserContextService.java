@@ -21,6 +21,13 @@ public class UserContextService {
         throw new RuntimeException("User not authenticated");
     }
     
+    // Answered from the authentication's authorities, no database round trip
+    public boolean isCurrentUserAdmin() {
+        Authentication auth = SecurityContextHolder.getContext().getAuthentication();
+        return auth != null && auth.getAuthorities().stream()
+            .anyMatch(authority -> "ROLE_ADMIN".equals(authority.getAuthority()));
+    }
+    
     public User getCurrentUser() {
         return userRepository.findById(getCurrentUserId())
             .orElseThrow(() -> new RuntimeException("User not found"));
@@ -1,5 +1,6 @@
 package org.eventmate.server.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import org.eventmate.server.entity.SocialLink;
 import org.eventmate.server.entity.User;
@@ -12,6 +13,7 @@ import java.util.List;
 import java.util.stream.Collectors;
 
 @Service
+@Timed("eventmate.service")
 @RequiredArgsConstructor
 public class UserService {
 
@@ -1,5 +1,6 @@
 package org.eventmate.server.service;
 
+import io.micrometer.core.annotation.Timed;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.eventmate.server.dto.*;
@@ -16,12 +17,14 @@ import java.util.List;
 import java.util.Optional;
 
 @Service
+@Timed("eventmate.service")
 @RequiredArgsConstructor
 @Slf4j
 public class VenueService {
 
     private final VenueRepository venueRepository;
     private final VenueBookingRepository venueBookingRepository;
+    private final MetadataService metadataService;
 
     @Transactional(isolation = Isolation.READ_COMMITTED)
     public Venue createVenue(VenueRequest request, Long createdBy) {
@@ -47,7 +50,9 @@ public class VenueService {
         venue.setLongitude(request.getLongitude());
 
         log.info("Creating venue: {}", request.getName());
-        return venueRepository.save(venue);
+        Venue savedVenue = venueRepository.save(venue);
+        metadataService.venueChanged(savedVenue);
+        return savedVenue;
     }
 
     @Transactional(isolation = Isolation.READ_COMMITTED)
@@ -67,7 +72,9 @@ public class VenueService {
         venue.setLongitude(request.getLongitude());
 
         log.info("Updating venue: {}", venueId);
-        return venueRepository.save(venue);
+        Venue savedVenue = venueRepository.save(venue);
+        metadataService.venueChanged(savedVenue);
+        return savedVenue;
     }
 
     @Transactional(isolation = Isolation.READ_COMMITTED)
@@ -75,6 +82,7 @@ public class VenueService {
         Venue venue = venueRepository.findById(venueId)
                 .orElseThrow(() -> new ResourceNotFoundException("Venue not found"));
         venueRepository.delete(venue);
+        metadataService.venueRemoved(venueId);
         log.info("Deleted venue: {}", venueId);
     }
 
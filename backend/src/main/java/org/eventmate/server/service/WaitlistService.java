@@ -0,0 +1,166 @@
+package org.eventmate.server.service;
+
+import io.micrometer.core.annotation.Timed;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.eventmate.server.entity.Booking;
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.entity.Notification;
+import org.eventmate.server.entity.User;
+import org.eventmate.server.exception.custom.ResourceNotFoundException;
+import org.eventmate.server.repository.BookingRepository;
+import org.eventmate.server.repository.EventRepository;
+import org.eventmate.server.repository.NotificationRepository;
+import org.eventmate.server.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+import static org.eventmate.server.service.TransactionHooks.afterCommit;
+
+/**
+ * WaitlistService - Promotes WAITLISTED bookings (FIFO by booking id) when capacity frees up.
+ * Each promotion reserves its ticket tier through TicketInventoryService, takes the lowest free
+ * seat of an ONSITE event and sends the ticket email after commit. Group invites listed in a
+ * waitlisted request are not kept, so they are never sent; the booker has to invite again.
+ * Runs inside the caller's transaction and holds the event row lock, so concurrent
+ * cancellations promote one after another instead of handing out the same seat twice.
+ */
+@Service
+@Timed("eventmate.service")
+@RequiredArgsConstructor
+@Slf4j
+public class WaitlistService {
+
+    private final BookingRepository bookingRepository;
+    private final EventRepository eventRepository;
+    private final NotificationRepository notificationRepository;
+    private final TicketInventoryService ticketInventoryService;
+    private final BookingFactsService bookingFactsService;
+    private final UserRepository userRepository;
+    private final EmailService emailService;
+
+    @Value("${app.waitlist.promotion-batch-size:50}")
+    private int promotionBatchSize;
+
+    /**
+     * Fill freed capacity of an event from the head of its waitlist.
+     *
+     * @return number of bookings promoted to CONFIRMED
+     */
+    @Transactional(propagation = Propagation.MANDATORY)
+    public int promoteWaitlisted(Long eventId) {
+        Event event = eventRepository.findByIdForUpdate(eventId)
+                .orElseThrow(() -> new ResourceNotFoundException("Event not found"));
+        if (event.getTotalCapacity() == null) {
+            return 0;
+        }
+
+        long freeSlots = event.getTotalCapacity() - bookingRepository.countConfirmedBookings(eventId);
+        if (freeSlots <= 0) {
+            return 0;
+        }
+        int promoted = 0;
+        long afterId = 0;
+        Set<Integer> takenSeats = event.getEventFormat() == Event.EventFormat.ONSITE
+                ? new HashSet<>(bookingRepository.findBookedSeatsByEventId(eventId))
+                : null;
+
+        while (freeSlots > 0) {
+            int batchSize = (int) Math.min(freeSlots, promotionBatchSize);
+            List<Booking> batch = bookingRepository.findPromotableWaitlist(eventId, afterId,
+                    PageRequest.of(0, batchSize));
+            if (batch.isEmpty()) {
+                break;
+            }
+            // Bookings that can't be promoted now are passed over, not queried again
+            afterId = batch.get(batch.size() - 1).getBookingId();
+
+            List<Booking> confirmed = new ArrayList<>(batch.size());
+            List<Notification> notifications = new ArrayList<>(batch.size());
+            for (Booking booking : batch) {
+                // Two bookings in one batch may race for the last seat of a tier; the loser keeps waiting
+                if (!ticketInventoryService.tryReserve(booking)) {
+                    continue;
+                }
+                booking.setStatus(Booking.BookingStatus.CONFIRMED);
+                if (takenSeats != null) {
+                    booking.setSeatNumber(lowestFreeSeat(takenSeats, event.getTotalCapacity()));
+                }
+                confirmed.add(booking);
+                notifications.add(promotionNotification(booking, event));
+            }
+            if (confirmed.isEmpty()) {
+                continue;
+            }
+            bookingRepository.saveAll(confirmed);
+            bookingFactsService.bookingsSaved(confirmed);
+            notificationRepository.saveAll(notifications);
+            sendTicketEmails(confirmed, event);
+
+            promoted += confirmed.size();
+            freeSlots -= confirmed.size();
+        }
+
+        if (promoted > 0) {
+            log.info("Promoted {} waitlisted bookings for event {}", promoted, eventId);
+        }
+        return promoted;
+    }
+
+    // Capacity was freed, so a seat in 1..capacity is free; null if seat numbers were handed out past it
+    private static Integer lowestFreeSeat(Set<Integer> takenSeats, int capacity) {
+        for (int seat = 1; seat <= capacity; seat++) {
+            if (takenSeats.add(seat)) {
+                return seat;
+            }
+        }
+        return null;
+    }
+
+    private void sendTicketEmails(List<Booking> confirmed, Event event) {
+        Map<Long, User> users = userRepository.findAllById(confirmed.stream().map(Booking::getUserId).toList())
+                .stream()
+                .collect(Collectors.toMap(User::getUserId, Function.identity()));
+        String subject = "Ticket Confirmed: " + event.getTitle();
+        for (Booking booking : confirmed) {
+            User user = users.get(booking.getUserId());
+            if (user == null || user.getEmail() == null) {
+                continue;
+            }
+            Map<String, Object> model = new HashMap<>();
+            model.put("userName", booking.getAttendeeName() != null ? booking.getAttendeeName() : user.getFullName());
+            model.put("eventName", event.getTitle());
+            model.put("eventDate", event.getStartDate() != null ? event.getStartDate().toString() : "TBD");
+            model.put("venue",
+                    event.getEventFormat() == Event.EventFormat.REMOTE ? "Online"
+                            : (event.getVenue() != null ? "Venue: " + event.getVenue().getName() : "Venue TBD"));
+            model.put("ticketCode", booking.getTicketCode());
+            model.put("groupCode", booking.getGroupCode());
+            String email = user.getEmail();
+            afterCommit(() -> emailService.sendTicketConfirmation(email, subject, model));
+        }
+    }
+
+
+    private Notification promotionNotification(Booking booking, Event event) {
+        Notification notification = new Notification();
+        notification.setUserId(booking.getUserId());
+        notification.setEventId(event.getEventId());
+        notification.setMessage("A spot opened up for " + event.getTitle()
+                + "! Your waitlisted booking is now confirmed. Ticket: " + booking.getTicketCode());
+        notification.setRead(false);
+        return notification;
+    }
+}
@@ -0,0 +1,104 @@
+package org.eventmate.server.ai;
+
+import org.eventmate.server.dto.ChatResponse;
+import org.eventmate.server.service.MetadataService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IntentRouterTest {
+
+    @Mock
+    private MetadataService metadataService;
+
+    @Mock
+    private MetadataService.Snapshot snapshot;
+
+    @InjectMocks
+    private IntentRouter intentRouter;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(intentRouter, "enabled", true);
+        ReflectionTestUtils.setField(intentRouter, "minConfidence", 0.6);
+    }
+
+    private String target(String message) {
+        return intentRouter.route(message).map(ChatResponse::getTarget).orElse(null);
+    }
+
+    @Test
+    void route_NavigationRequests_AnsweredLocally() {
+        assertEquals("/org/events/create", target("Take me to create event page"));
+        assertEquals("/org/venues", target("Show me venues"));
+        assertEquals("/bookings", target("go to my bookings"));
+        assertEquals("/bookings", target("my tickets"));
+        assertEquals("/profile", target("open account settings please"));
+        assertEquals("/org/venues/create", target("I want to add a new venue"));
+
+        ChatResponse response = intentRouter.route("Take me to create event page").orElseThrow();
+        assertTrue(response.isCommand());
+        assertEquals("NAVIGATE", response.getAction());
+    }
+
+    @Test
+    void route_QuestionsAndRecommendations_FallThroughToModel() {
+        assertNull(target("What events are available?"));
+        assertNull(target("show me jazz events this weekend"));
+        assertNull(target("Which venue is best for a 300 person conference?"));
+        assertNull(target("I'm planning a wedding for two hundred guests in Chennai next spring"));
+    }
+
+    @Test
+    void route_EventId_ResolvedFromSnapshot() {
+        when(metadataService.getSnapshot()).thenReturn(snapshot);
+        when(snapshot.events()).thenReturn(Map.of(12L, Map.of("title", "Jazz Night")));
+
+        ChatResponse found = intentRouter.route("open event #12").orElseThrow();
+        assertEquals("/event/12", found.getTarget());
+        assertEquals("Opening Jazz Night", found.getMessage());
+
+        Optional<ChatResponse> missing = intentRouter.route("event id 99");
+        assertTrue(missing.isPresent());
+        assertFalse(missing.get().isCommand());
+    }
+
+    @Test
+    void route_NumberNextToEventButNotAnId_FallsThrough() {
+        assertNull(target("take me to the event 2025 schedule"));
+        assertNull(target("open event 3 days from now"));
+        verifyNoInteractions(metadataService);
+    }
+
+    @Test
+    void route_EventId_MatchedWhateverTheDefaultLocale() {
+        when(metadataService.getSnapshot()).thenReturn(snapshot);
+        when(snapshot.events()).thenReturn(Map.of(12L, Map.of("title", "Jazz Night")));
+        Locale previous = Locale.getDefault();
+        Locale.setDefault(Locale.forLanguageTag("tr"));
+        try {
+            assertEquals("/event/12", target("OPEN EVENT ID 12"));
+        } finally {
+            Locale.setDefault(previous);
+        }
+    }
+
+    @Test
+    void route_Disabled_AlwaysFallsThrough() {
+        ReflectionTestUtils.setField(intentRouter, "enabled", false);
+
+        assertNull(target("go to my bookings"));
+    }
+}
@@ -0,0 +1,181 @@
+package org.eventmate.server.config;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.persistence.EntityManagerFactory;
+import org.eventmate.server.entity.CacheRegions;
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.entity.Role;
+import org.eventmate.server.entity.TicketTier;
+import org.eventmate.server.entity.User;
+import org.eventmate.server.entity.Venue;
+import org.eventmate.server.repository.EventDailyStatsRepository;
+import org.eventmate.server.repository.EventRepository;
+import org.eventmate.server.repository.TicketTierRepository;
+import org.eventmate.server.repository.UserRepository;
+import org.eventmate.server.repository.VenueRepository;
+import org.eventmate.server.service.EntityCacheService;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+
+import java.time.LocalDate;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import static org.eventmate.server.metrics.QueryAssertions.assertMaxQueries;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Second-level cache on H2 in MySQL mode. Each step commits on its own, as requests do, since
+ * cache entries for new and changed rows are only written after commit.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:entitycache;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class EntityCacheRegionFactoryTest {
+
+    @Autowired
+    private PlatformTransactionManager transactionManager;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private TicketTierRepository ticketTierRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Autowired
+    private EventDailyStatsRepository eventDailyStatsRepository;
+
+    private <T> T inTransaction(Supplier<T> work) {
+        return new TransactionTemplate(transactionManager).execute(status -> work.get());
+    }
+
+    private Venue venue(String name) {
+        Venue venue = new Venue();
+        venue.setName(name);
+        venue.setAddress("1 Main Road");
+        venue.setCity("Pune");
+        venue.setState("MH");
+        venue.setCountry("India");
+        return inTransaction(() -> venueRepository.save(venue));
+    }
+
+    private Event eventWithTier() {
+        Event event = new Event();
+        event.setTitle("Cloud Summit");
+        event.setOrganizerId(1L);
+        TicketTier tier = new TicketTier();
+        tier.setName("General");
+        tier.setPrice(100.0);
+        tier.setCapacity(10);
+        event.addTicketTier(tier);
+        return inTransaction(() -> eventRepository.save(event));
+    }
+
+    @Test
+    void venueById_SecondLoadSkipsDatabase() {
+        Long venueId = venue("Hall A").getVenueId();
+        EntityCacheService stats = new EntityCacheService(entityManagerFactory, new SimpleMeterRegistry());
+
+        inTransaction(() -> venueRepository.findById(venueId));
+        Venue cached = assertMaxQueries(0, () -> inTransaction(() -> venueRepository.findById(venueId).orElseThrow()));
+
+        assertEquals("Hall A", cached.getName());
+        @SuppressWarnings("unchecked")
+        Map<String, Object> venues = (Map<String, Object>) stats.getStats().get(CacheRegions.VENUES);
+        assertTrue((Long) venues.get("hits") >= 1L);
+    }
+
+    @Test
+    void venueUpdate_CachedCopyFollowsCommit() {
+        Long venueId = venue("Hall B").getVenueId();
+        inTransaction(() -> venueRepository.findById(venueId));
+
+        inTransaction(() -> {
+            Venue venue = venueRepository.findById(venueId).orElseThrow();
+            venue.setName("Hall B2");
+            return venue;
+        });
+
+        Venue cached = assertMaxQueries(0, () -> inTransaction(() -> venueRepository.findById(venueId).orElseThrow()));
+        assertEquals("Hall B2", cached.getName());
+    }
+
+    @Test
+    void eventTiers_LoadedFromCacheAfterFirstRead() {
+        Long eventId = eventWithTier().getEventId();
+        inTransaction(() -> eventRepository.findById(eventId).orElseThrow().getTicketTiers().size());
+
+        // Only the event row itself; tier ids and tier rows come from the cache
+        String tierName = assertMaxQueries(1, () -> inTransaction(
+                () -> eventRepository.findById(eventId).orElseThrow().getTicketTiers().get(0).getName()));
+
+        assertEquals("General", tierName);
+    }
+
+    @Test
+    void tierCounterUpdate_EvictsOnlyThatTier() {
+        Event event = eventWithTier();
+        Long eventId = event.getEventId();
+        Long tierId = event.getTicketTiers().get(0).getId();
+        Long venueId = venue("Hall D").getVenueId();
+        EntityCacheService cacheService = new EntityCacheService(entityManagerFactory, new SimpleMeterRegistry());
+        inTransaction(() -> eventRepository.findById(eventId).orElseThrow().getTicketTiers().get(0).getName());
+        inTransaction(() -> venueRepository.findById(venueId));
+
+        inTransaction(() -> {
+            ticketTierRepository.reserveOne(tierId, eventId);
+            cacheService.evictAfterWrite(TicketTier.class, tierId);
+            return null;
+        });
+
+        // Event row and the changed tier row; the event's tier ids are still cached
+        Integer sold = assertMaxQueries(2, () -> inTransaction(
+                () -> eventRepository.findById(eventId).orElseThrow().getTicketTiers().get(0).getQuantitySold()));
+        assertEquals(1, sold);
+        assertMaxQueries(0, () -> inTransaction(() -> venueRepository.findById(venueId).orElseThrow()));
+    }
+
+    @Test
+    void nativeStatsWrite_LeavesOtherRegionsCached() {
+        Long venueId = venue("Hall C").getVenueId();
+        inTransaction(() -> venueRepository.findById(venueId));
+
+        inTransaction(() -> eventDailyStatsRepository.addCounts(1L, LocalDate.now(), 1, 0));
+
+        assertMaxQueries(0, () -> inTransaction(() -> venueRepository.findById(venueId).orElseThrow()));
+    }
+
+    @Test
+    void findByEmail_AlwaysReadsDatabase() {
+        User user = new User();
+        user.setEmail("asha@example.com");
+        user.setPasswordHash("hash");
+        user.setFullName("Asha");
+        user.setRole(Role.USER);
+        Long userId = inTransaction(() -> userRepository.save(user)).getUserId();
+        inTransaction(() -> userRepository.findByEmail("asha@example.com"));
+        inTransaction(() -> userRepository.findById(userId));
+
+        assertFalse(entityManagerFactory.getCache().contains(User.class, userId));
+    }
+}
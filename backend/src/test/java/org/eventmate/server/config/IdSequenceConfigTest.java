@@ -0,0 +1,92 @@
+package org.eventmate.server.config;
+
+import jakarta.persistence.EntityManagerFactory;
+import org.eventmate.server.entity.Guest;
+import org.eventmate.server.entity.Notification;
+import org.eventmate.server.repository.GuestRepository;
+import org.eventmate.server.repository.NotificationRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.IntStream;
+
+import static org.eventmate.server.metrics.QueryAssertions.assertMaxQueries;
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Table-generated ids on H2 in MySQL mode: seeded past existing rows, inserts batched
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:idsequences;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class IdSequenceConfigTest {
+
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
+    @Autowired
+    private EntityManagerFactory entityManagerFactory;
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private NotificationRepository notificationRepository;
+
+    @Autowired
+    private GuestRepository guestRepository;
+
+    private static Notification notification(long userId) {
+        Notification notification = new Notification();
+        notification.setUserId(userId);
+        notification.setMessage("Reminder " + userId);
+        notification.setCreatedAt(LocalDateTime.now());
+        return notification;
+    }
+
+    private static Guest guest(String name) {
+        Guest guest = new Guest();
+        guest.setName(name);
+        return guest;
+    }
+
+    // Not in the test transaction: the id_sequences row it updates is read by Hibernate on its own connection
+    @Test
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    void seed_ExistingRows_NewIdsStartAboveThem() {
+        // A row written by AUTO_INCREMENT before the switch
+        jdbcTemplate.update("INSERT INTO guests (guest_id, name) VALUES (120, 'Old')");
+
+        new IdSequenceConfig(jdbcTemplate, entityManagerFactory).seed("guests", "guest_id");
+        List<Guest> saved = guestRepository.saveAll(List.of(guest("Asha"), guest("Ravi")));
+
+        assertEquals(121L, saved.get(0).getId());
+        assertEquals(122L, saved.get(1).getId());
+    }
+
+    @Test
+    void saveAll_InsertsInBatches() {
+        List<Notification> notifications = IntStream.rangeClosed(1, 120).mapToObj(i -> notification(i)).toList();
+
+        // 120 rows at batch size 50: three executions of one prepared INSERT
+        assertMaxQueries(3, () -> {
+            notificationRepository.saveAll(notifications);
+            entityManager.flush();
+            return null;
+        });
+
+        assertEquals(120L, notificationRepository.count());
+    }
+}
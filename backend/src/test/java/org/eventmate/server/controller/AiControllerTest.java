@@ -0,0 +1,150 @@
+package org.eventmate.server.controller;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.service.AiServices;
+import org.eventmate.server.ai.EventAgent;
+import org.eventmate.server.ai.IntentRouter;
+import org.eventmate.server.dto.ChatRequest;
+import org.eventmate.server.dto.ChatResponse;
+import org.eventmate.server.service.AiCallGuard;
+import org.eventmate.server.service.AiContextService;
+import org.eventmate.server.service.AiResponseCache;
+import org.eventmate.server.service.AiStreamingService;
+import org.eventmate.server.service.CompressedResponseCache;
+import org.eventmate.server.service.MetadataService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AiControllerTest {
+
+    @Mock
+    private MetadataService metadataService;
+
+    @Mock
+    private MetadataService.Snapshot snapshot;
+
+    @Mock
+    private AiContextService aiContextService;
+
+    @Mock
+    private IntentRouter intentRouter;
+
+    @Mock
+    private AiStreamingService aiStreamingService;
+
+    @Mock
+    private CompressedResponseCache responseCache;
+
+    private final AtomicInteger modelCalls = new AtomicInteger();
+    private volatile long modelDelayMs;
+
+    private AiResponseCache aiResponseCache;
+    private AiController aiController;
+
+    // Stands in for Gemini: counts calls and answers with a fixed text
+    @Mock
+    private ChatLanguageModel stubModel;
+
+    @BeforeEach
+    void setUp() {
+        aiResponseCache = new AiResponseCache();
+        ReflectionTestUtils.setField(aiResponseCache, "enabled", true);
+        ReflectionTestUtils.setField(aiResponseCache, "maxEntries", 10);
+        ReflectionTestUtils.setField(aiResponseCache, "ttlMinutes", 10L);
+        ReflectionTestUtils.invokeMethod(aiResponseCache, "initCache");
+
+        AiCallGuard aiCallGuard = new AiCallGuard();
+        ReflectionTestUtils.setField(aiCallGuard, "maxConcurrent", 4);
+        ReflectionTestUtils.setField(aiCallGuard, "timeoutMs", 200L);
+        ReflectionTestUtils.setField(aiCallGuard, "failureThreshold", 5);
+        ReflectionTestUtils.invokeMethod(aiCallGuard, "initSlots");
+
+        lenient().when(stubModel.chat(any(dev.langchain4j.model.chat.request.ChatRequest.class)))
+                .thenAnswer(invocation -> {
+                    modelCalls.incrementAndGet();
+                    if (modelDelayMs > 0) {
+                        Thread.sleep(modelDelayMs);
+                    }
+                    return dev.langchain4j.model.chat.response.ChatResponse.builder()
+                            .aiMessage(AiMessage.from("We have a jazz night on Friday."))
+                            .build();
+                });
+        EventAgent eventAgent = AiServices.builder(EventAgent.class).chatLanguageModel(stubModel).build();
+        aiController = new AiController(eventAgent, metadataService, aiContextService, intentRouter, aiResponseCache,
+                aiStreamingService, aiCallGuard, responseCache);
+
+        when(intentRouter.route(anyString())).thenReturn(Optional.empty());
+        when(metadataService.getSnapshot()).thenReturn(snapshot);
+        lenient().when(aiContextService.buildContext(anyString())).thenReturn("{}");
+    }
+
+    private ChatResponse ask(String message) {
+        return aiController.chat(new ChatRequest(message, null)).getBody();
+    }
+
+    @Test
+    void chat_RepeatedQuestion_ServedFromCache() {
+        when(snapshot.version()).thenReturn(3L);
+
+        ChatResponse first = ask("What events are available this week?");
+        ChatResponse second = ask("what events are available this week");
+
+        assertEquals("We have a jazz night on Friday.", second.getResponse());
+        assertEquals(first.getResponse(), second.getResponse());
+        assertEquals(1, modelCalls.get());
+        Map<String, Object> stats = aiResponseCache.getStats();
+        assertEquals(1L, stats.get("hits"));
+        assertEquals(1L, stats.get("misses"));
+    }
+
+    @Test
+    void chat_MetadataChanged_AsksModelAgain() {
+        when(snapshot.version()).thenReturn(3L, 4L);
+
+        ask("What events are available this week?");
+        ask("What events are available this week?");
+
+        assertEquals(2, modelCalls.get());
+    }
+
+    @Test
+    void chat_SizeLimit_EvictsLeastRecentlyUsed() {
+        ReflectionTestUtils.setField(aiResponseCache, "maxEntries", 1);
+        ReflectionTestUtils.invokeMethod(aiResponseCache, "initCache");
+        when(snapshot.version()).thenReturn(3L);
+
+        ask("first question");
+        ask("second question");
+        ask("first question");
+
+        assertEquals(3, modelCalls.get());
+        assertEquals(2L, aiResponseCache.getStats().get("evictions"));
+    }
+
+    @Test
+    void chat_SlowModel_FallsBackAtDeadline() {
+        when(snapshot.version()).thenReturn(3L);
+        modelDelayMs = 5_000;
+
+        long start = System.currentTimeMillis();
+        ChatResponse response = ask("What events are available this week?");
+
+        assertTrue(System.currentTimeMillis() - start < 2_000);
+        assertTrue(response.getResponse().startsWith("I'm having trouble"));
+        assertEquals(0, aiResponseCache.getStats().get("size"));
+    }
+}
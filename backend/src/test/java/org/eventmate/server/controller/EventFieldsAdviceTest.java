@@ -0,0 +1,68 @@
+package org.eventmate.server.controller;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eventmate.server.config.JacksonConfig;
+import org.eventmate.server.dto.EventResponse;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+import org.springframework.http.converter.json.MappingJacksonValue;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class EventFieldsAdviceTest {
+
+    private final EventFieldsAdvice advice = new EventFieldsAdvice();
+
+    private ObjectMapper objectMapper;
+
+    @BeforeEach
+    void setUp() {
+        Jackson2ObjectMapperBuilder builder = new Jackson2ObjectMapperBuilder();
+        new JacksonConfig().unfilteredByDefault().customize(builder);
+        objectMapper = builder.build();
+    }
+
+    private static EventResponse event() {
+        EventResponse event = new EventResponse();
+        event.setEventId(1L);
+        event.setTitle("Cloud Summit");
+        event.setRulesAndGuidelines("No spam");
+        return event;
+    }
+
+    private JsonNode write(String fields) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/events");
+        if (fields != null) {
+            request.setParameter("fields", fields);
+        }
+        MappingJacksonValue body = new MappingJacksonValue(List.of(event()));
+        advice.beforeBodyWriteInternal(body, MediaType.APPLICATION_JSON, null, new ServletServerHttpRequest(request),
+                null);
+        // As the converter does: the mapper's own filters unless the advice set some
+        var writer = body.getFilters() != null ? objectMapper.writer(body.getFilters()) : objectMapper.writer();
+        return objectMapper.readTree(writer.writeValueAsString(body.getValue()));
+    }
+
+    @Test
+    void fields_WritesOnlyRequestedFields() throws Exception {
+        JsonNode event = write("eventId,title").get(0);
+
+        assertEquals(2, event.size());
+        assertEquals("Cloud Summit", event.get("title").asText());
+    }
+
+    @Test
+    void noFields_WritesEveryField() throws Exception {
+        JsonNode event = write(null).get(0);
+
+        assertEquals("No spam", event.get("rulesAndGuidelines").asText());
+        assertTrue(event.has("guests"));
+    }
+}
@@ -0,0 +1,55 @@
+package org.eventmate.server.metrics;
+
+import org.junit.jupiter.api.function.ThrowingSupplier;
+
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * QueryAssertions - Query-count guards for tests that run against a real (H2) database, e.g.
+ * {@code assertMaxQueries(5, () -> eventService.getEventById(id))}. Relies on QueryCounter being
+ * Hibernate's statement inspector, which application.properties sets up.
+ */
+public final class QueryAssertions {
+
+    private QueryAssertions() {
+    }
+
+    private record Recorded<T>(T result, QueryStats stats) {
+    }
+
+    /**
+     * Runs the action and fails if it issued more than max SQL statements
+     */
+    public static <T> T assertMaxQueries(int max, ThrowingSupplier<T> action) {
+        Recorded<T> recorded = record(action);
+        if (recorded.stats().total() > max) {
+            fail("Expected at most " + max + " SQL statements but got " + recorded.stats().describe());
+        }
+        return recorded.result();
+    }
+
+    /**
+     * Runs the action and fails if any statement shape ran more than maxRepeats times, which is
+     * what an N+1 looks like however small the test data is
+     */
+    public static <T> T assertNoRepeatedQueries(int maxRepeats, ThrowingSupplier<T> action) {
+        Recorded<T> recorded = record(action);
+        if (recorded.stats().mostRepeated() > maxRepeats) {
+            fail("Expected no statement to run more than " + maxRepeats + " times but got "
+                    + recorded.stats().describe());
+        }
+        return recorded.result();
+    }
+
+    private static <T> Recorded<T> record(ThrowingSupplier<T> action) {
+        QueryCounter.start();
+        T result;
+        try {
+            result = action.get();
+        } catch (Throwable e) {
+            QueryCounter.stop();
+            return fail("Action under query count threw", e);
+        }
+        return new Recorded<>(result, QueryCounter.stop());
+    }
+}
@@ -0,0 +1,99 @@
+package org.eventmate.server.metrics;
+
+import io.micrometer.core.instrument.DistributionSummary;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import jakarta.servlet.ServletException;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.web.servlet.HandlerMapping;
+
+import java.io.IOException;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class RequestMetricsFilterTest {
+
+    private final QueryCounter queryCounter = new QueryCounter();
+    private SimpleMeterRegistry meterRegistry;
+    private RequestMetricsFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        filter = new RequestMetricsFilter(meterRegistry);
+        ReflectionTestUtils.setField(filter, "nPlusOneThreshold", 3);
+        ReflectionTestUtils.setField(filter, "maxPerRequest", 5);
+        ReflectionTestUtils.setField(filter, "logIntervalMs", 60000L);
+    }
+
+    private void get(String pattern, String... statements) throws ServletException, IOException {
+        filter.doFilter(new MockHttpServletRequest("GET", "/"), new MockHttpServletResponse(), (req, res) -> {
+            for (String sql : statements) {
+                queryCounter.inspect(sql);
+            }
+            req.setAttribute(HandlerMapping.BEST_MATCHING_PATTERN_ATTRIBUTE, pattern);
+        });
+    }
+
+    private double alerts(String kind) {
+        var counter = meterRegistry.find("http.server.requests.query.alerts").tag("kind", kind).counter();
+        return counter != null ? counter.count() : 0;
+    }
+
+    @Test
+    void doFilter_RecordsStatementsUnderRouteTemplate() throws ServletException, IOException {
+        get("/api/events/{id}",
+                "select * from events where event_id=?",
+                "select * from ticket_tiers where event_id=?",
+                "select * from guests where event_id=?");
+
+        DistributionSummary queries = meterRegistry.get("http.server.requests.queries")
+                .tag("method", "GET")
+                .tag("uri", "/api/events/{id}")
+                .tag("status", "200")
+                .summary();
+        assertEquals(1, queries.count());
+        assertEquals(3.0, queries.totalAmount());
+        assertEquals(0, alerts("n-plus-one"));
+    }
+
+    @Test
+    void doFilter_RepeatedShape_FlaggedAsNPlusOne() throws ServletException, IOException {
+        get("/api/events/all",
+                "select * from events",
+                "select count(*) from bookings where event_id=1",
+                "select count(*) from bookings where event_id=2",
+                "select count(*) from bookings where event_id=3");
+
+        assertEquals(1, alerts("n-plus-one"));
+        assertEquals(0, alerts("budget"));
+    }
+
+    @Test
+    void doFilter_OverBudget_Flagged() throws ServletException, IOException {
+        get("/api/admin/dashboard", "select 1 from a", "select 1 from b", "select 1 from c", "select 1 from d",
+                "select 1 from e", "select 1 from f");
+
+        assertEquals(1, alerts("budget"));
+        assertEquals(0, alerts("n-plus-one"));
+    }
+
+    @Test
+    void shapeOf_FoldsLiteralsAndInLists() {
+        assertEquals("select * from users where email=? and user_id in (?)",
+                QueryStats.shapeOf("select *  from users\n where email='a''b@x.com' and user_id in (?, ?, ?)"));
+        assertEquals("select e1_0.event_id from events e1_0 where e1_0.event_id=?",
+                QueryStats.shapeOf("select e1_0.event_id from events e1_0 where e1_0.event_id=42"));
+    }
+
+    @Test
+    void inspect_OutsideRecording_NotCountedAndSqlUnchanged() {
+        String sql = "select 1";
+
+        assertSame(sql, queryCounter.inspect(sql));
+        assertEquals(0, QueryCounter.stop().total());
+    }
+}
@@ -1,10 +1,14 @@
 package org.eventmate.server.service;
 
+import org.eventmate.server.dto.AdminEventSummary;
+import org.eventmate.server.dto.AdminUserSummary;
 import org.eventmate.server.dto.AnalyticsResponse;
+import org.eventmate.server.dto.PagedResponse;
 import org.eventmate.server.entity.Event;
 import org.eventmate.server.entity.Role;
 import org.eventmate.server.entity.Transaction;
 import org.eventmate.server.entity.User;
+import org.eventmate.server.exception.custom.ValidationException;
 import org.eventmate.server.repository.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -12,6 +16,9 @@ import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.domain.Sort;
 
 import java.math.BigDecimal;
 import java.util.Arrays;
@@ -36,6 +43,12 @@ class AdminServiceTest {
     
     @Mock
     private TransactionRepository transactionRepository;
+
+    @Mock
+    private MetadataService metadataService;
+
+    @Mock
+    private AnalyticsService analyticsService;
     
     @InjectMocks
     private AdminService adminService;
@@ -58,13 +71,8 @@ class AdminServiceTest {
 
     @Test
     void getAnalytics_Success() {
-        when(eventRepository.count()).thenReturn(10L);
-        when(userRepository.countByRole(Role.USER)).thenReturn(100L);
-        when(userRepository.countByRole(Role.ORGANIZATION)).thenReturn(10L);
-        when(bookingRepository.count()).thenReturn(500L);
-        when(transactionRepository.getTotalRevenue()).thenReturn(new BigDecimal("50000.00"));
-        when(eventRepository.findByStatus(Event.EventStatus.ACTIVE)).thenReturn(Arrays.asList());
-        when(eventRepository.findByStatus(Event.EventStatus.COMPLETED)).thenReturn(Arrays.asList());
+        when(analyticsService.getAnalytics()).thenReturn(new AnalyticsResponse(
+                10L, 100L, 10L, 500L, new BigDecimal("50000.00"), 0L, 0L));
 
         AnalyticsResponse response = adminService.getAnalytics();
 
@@ -72,6 +80,7 @@ class AdminServiceTest {
         assertEquals(10L, response.getTotalEvents());
         assertEquals(100L, response.getTotalUsers());
         assertEquals(new BigDecimal("50000.00"), response.getTotalRevenue());
+        verifyNoInteractions(eventRepository, bookingRepository);
     }
 
     @Test
@@ -124,4 +133,62 @@ class AdminServiceTest {
         verify(userRepository).save(any(User.class));
         assertFalse(testUser.getIsActive());
     }
+
+    private static AdminUserSummary userRow(long id) {
+        return new AdminUserSummary(id, "User " + id, "user" + id + "@example.com", Role.USER, null, null, true, null);
+    }
+
+    @Test
+    void getUsersPage_Unfiltered_TotalFromCountersNotCountQuery() {
+        Pageable expected = PageRequest.of(1, 2, Sort.by(Sort.Direction.ASC, "fullName")
+                .and(Sort.by(Sort.Direction.ASC, "userId")));
+        when(userRepository.findAdminPage(Role.USER, null, null, expected)).thenReturn(List.of(userRow(3), userRow(4)));
+        when(analyticsService.countUsers(Role.USER)).thenReturn(57L);
+
+        PagedResponse<AdminUserSummary> page = adminService.getUsersPage(Role.USER, null, " ", 1, 2, "fullName", "asc");
+
+        assertEquals(2, page.getContent().size());
+        assertEquals(57L, page.getTotalElements());
+        assertEquals(29, page.getTotalPages());
+        verify(userRepository, never()).countAdminPage(any(), any(), any());
+        verify(userRepository, never()).findAll();
+    }
+
+    @Test
+    void getUsersPage_SearchOnShortFirstPage_SkipsCount() {
+        when(userRepository.findAdminPage(eq(null), eq(true), eq("%50\\%\\_off%"), any(Pageable.class)))
+                .thenReturn(List.of(userRow(1)));
+
+        PagedResponse<AdminUserSummary> page = adminService.getUsersPage(null, true, "50%_OFF", 0, 20, null, null);
+
+        assertEquals(1L, page.getTotalElements());
+        verify(userRepository, never()).countAdminPage(any(), any(), any());
+        verifyNoInteractions(analyticsService);
+    }
+
+    @Test
+    void getEventsPage_FullPage_UsesCountQuery() {
+        AdminEventSummary row = new AdminEventSummary(1L, 2L, "Hackathon", null, null, Event.EventStatus.ACTIVE,
+                null, null, false, null);
+        Pageable expected = PageRequest.of(0, 1, Sort.by(Sort.Direction.DESC, "createdAt")
+                .and(Sort.by(Sort.Direction.DESC, "eventId")));
+        when(eventRepository.findAdminPage(Event.EventStatus.ACTIVE, null, null, null, expected))
+                .thenReturn(List.of(row));
+        when(eventRepository.countAdminPage(Event.EventStatus.ACTIVE, null, null, null)).thenReturn(12L);
+
+        PagedResponse<AdminEventSummary> page = adminService.getEventsPage(Event.EventStatus.ACTIVE, null, null, null,
+                0, 1, null, "desc");
+
+        assertEquals(12L, page.getTotalElements());
+        assertEquals(12, page.getTotalPages());
+    }
+
+    @Test
+    void getEventsPage_InvalidSortOrSize_ThrowsValidation() {
+        assertThrows(ValidationException.class,
+                () -> adminService.getEventsPage(null, null, null, null, 0, 20, "description", "asc"));
+        assertThrows(ValidationException.class,
+                () -> adminService.getEventsPage(null, null, null, null, 0, 500, null, null));
+        verifyNoInteractions(eventRepository);
+    }
 }
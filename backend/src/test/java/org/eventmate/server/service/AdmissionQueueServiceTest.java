@@ -0,0 +1,111 @@
+package org.eventmate.server.service;
+
+import org.eventmate.server.dto.AdmissionTicket;
+import org.eventmate.server.exception.custom.TooManyRequestsException;
+import org.eventmate.server.exception.custom.ValidationException;
+import org.eventmate.server.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AdmissionQueueServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private AdmissionQueueService admissionQueueService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(admissionQueueService, "enabled", true);
+        ReflectionTestUtils.setField(admissionQueueService, "windowMinutes", 30);
+        ReflectionTestUtils.setField(admissionQueueService, "admitRatePerSecond", 2);
+        ReflectionTestUtils.setField(admissionQueueService, "maxQueueDepth", 3);
+        ReflectionTestUtils.setField(admissionQueueService, "tokenTtlMinutes", 15);
+        ReflectionTestUtils.setField(admissionQueueService, "secret", "test-secret-test-secret-test-secret");
+        ReflectionTestUtils.setField(admissionQueueService, "jwtSecret", "jwt-secret-jwt-secret-jwt-secret");
+        admissionQueueService.initSigner();
+    }
+
+    @Test
+    void admit_OutsideRegistrationWindow_PassesThrough() {
+        when(eventRepository.findRegistrationOpenDate(1L))
+                .thenReturn(Optional.of(LocalDateTime.now().minusDays(3)));
+
+        assertDoesNotThrow(() -> admissionQueueService.admit(1L, 10L, null));
+        assertNull(admissionQueueService.join(1L, 10L).getToken());
+    }
+
+    @Test
+    void join_ThenTick_AdmitsInOrderAtConfiguredRate() {
+        when(eventRepository.findRegistrationOpenDate(1L))
+                .thenReturn(Optional.of(LocalDateTime.now().minusMinutes(1)));
+
+        AdmissionTicket first = admissionQueueService.join(1L, 10L);
+        AdmissionTicket second = admissionQueueService.join(1L, 11L);
+        AdmissionTicket third = admissionQueueService.join(1L, 12L);
+        assertEquals(first.getToken(), admissionQueueService.join(1L, 10L).getToken());
+        assertFalse(first.isAdmitted());
+
+        admissionQueueService.tick();
+
+        assertDoesNotThrow(() -> admissionQueueService.admit(1L, 10L, first.getToken()));
+        assertDoesNotThrow(() -> admissionQueueService.admit(1L, 11L, second.getToken()));
+        assertThrows(TooManyRequestsException.class, () -> admissionQueueService.admit(1L, 12L, third.getToken()));
+        assertEquals(1L, admissionQueueService.status(1L, 12L, third.getToken()).getPeopleAhead());
+    }
+
+    @Test
+    void join_QueueFull_Rejected() {
+        when(eventRepository.findRegistrationOpenDate(1L))
+                .thenReturn(Optional.of(LocalDateTime.now().minusMinutes(1)));
+
+        admissionQueueService.join(1L, 10L);
+        admissionQueueService.join(1L, 11L);
+        admissionQueueService.join(1L, 12L);
+
+        assertThrows(TooManyRequestsException.class, () -> admissionQueueService.join(1L, 13L));
+        assertEquals(1L, admissionQueueService.getStats().get(0).getRejectedTotal());
+    }
+
+    @Test
+    void admit_WithoutToken_UsesLeftoverBudgetOnlyWhenNobodyWaits() {
+        when(eventRepository.findRegistrationOpenDate(1L))
+                .thenReturn(Optional.of(LocalDateTime.now().minusMinutes(1)));
+
+        assertDoesNotThrow(() -> admissionQueueService.admit(1L, 10L, null));
+        assertDoesNotThrow(() -> admissionQueueService.admit(1L, 11L, null));
+        assertThrows(TooManyRequestsException.class, () -> admissionQueueService.admit(1L, 12L, null));
+    }
+
+    @Test
+    void admit_TokenOfAnotherUser_Rejected() {
+        when(eventRepository.findRegistrationOpenDate(1L))
+                .thenReturn(Optional.of(LocalDateTime.now().minusMinutes(1)));
+
+        AdmissionTicket ticket = admissionQueueService.join(1L, 10L);
+        admissionQueueService.tick();
+
+        assertThrows(ValidationException.class, () -> admissionQueueService.admit(1L, 99L, ticket.getToken()));
+        assertThrows(ValidationException.class, () -> admissionQueueService.admit(1L, 10L, "garbage"));
+    }
+
+    @Test
+    void initSigner_SameKeyAsJwt_Refused() {
+        ReflectionTestUtils.setField(admissionQueueService, "secret", "jwt-secret-jwt-secret-jwt-secret");
+
+        assertThrows(IllegalStateException.class, () -> admissionQueueService.initSigner());
+    }
+}
@@ -0,0 +1,121 @@
+package org.eventmate.server.service;
+
+import org.eventmate.server.exception.custom.ServiceUnavailableException;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+class AiCallGuardTest {
+
+    static AiCallGuard guard(int maxConcurrent, int maxQueued, long timeoutMs, int failureThreshold) {
+        AiCallGuard guard = new AiCallGuard();
+        ReflectionTestUtils.setField(guard, "maxConcurrent", maxConcurrent);
+        ReflectionTestUtils.setField(guard, "maxQueued", maxQueued);
+        ReflectionTestUtils.setField(guard, "maxWaitMs", 50L);
+        ReflectionTestUtils.setField(guard, "timeoutMs", timeoutMs);
+        ReflectionTestUtils.setField(guard, "failureThreshold", failureThreshold);
+        ReflectionTestUtils.setField(guard, "openMs", 60_000L);
+        ReflectionTestUtils.invokeMethod(guard, "initSlots");
+        return guard;
+    }
+
+    // Stands in for a model that hangs until the test lets it go
+    private static String slowModel(CountDownLatch release) {
+        try {
+            release.await(5, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            // cancelled by the deadline; keep "running" like an HTTP call that ignores interrupts
+            try {
+                release.await(5, TimeUnit.SECONDS);
+            } catch (InterruptedException ignored) {
+                Thread.currentThread().interrupt();
+            }
+        }
+        return "late answer";
+    }
+
+    private static void awaitIdle(AiCallGuard guard) throws InterruptedException {
+        for (int i = 0; i < 100 && !Integer.valueOf(0).equals(guard.getStats().get("active")); i++) {
+            Thread.sleep(10);
+        }
+    }
+
+    @Test
+    void call_SlowModel_DeadlineHitButSlotHeldUntilModelReturns() throws Exception {
+        AiCallGuard guard = guard(1, 0, 100, 5);
+        CountDownLatch release = new CountDownLatch(1);
+
+        long start = System.nanoTime();
+        assertThrows(ServiceUnavailableException.class, () -> guard.call(() -> slowModel(release)));
+        assertTrue(TimeUnit.NANOSECONDS.toMillis(System.nanoTime() - start) < 1000);
+
+        // The hung call still occupies the only slot, so the next caller is turned away at once
+        assertThrows(ServiceUnavailableException.class, () -> guard.call(() -> "fast"));
+        assertEquals(1L, guard.getStats().get("timeouts"));
+        assertEquals(1L, guard.getStats().get("rejected"));
+
+        release.countDown();
+        awaitIdle(guard);
+        assertEquals("fast", guard.call(() -> "fast"));
+    }
+
+    @Test
+    void call_ConsecutiveFailures_OpenCircuitAndFailFast() {
+        AiCallGuard guard = guard(2, 0, 1000, 2);
+        AtomicInteger modelCalls = new AtomicInteger();
+
+        for (int i = 0; i < 2; i++) {
+            assertThrows(IllegalStateException.class, () -> guard.call(() -> {
+                modelCalls.incrementAndGet();
+                throw new IllegalStateException("503 from upstream");
+            }));
+        }
+        assertEquals(AiCallGuard.State.OPEN, guard.state());
+
+        ServiceUnavailableException e = assertThrows(ServiceUnavailableException.class,
+                () -> guard.call(() -> "never called"));
+        assertTrue(e.getRetryAfterSeconds() > 1);
+        assertEquals(2, modelCalls.get());
+        assertEquals(1L, guard.getStats().get("shortCircuited"));
+    }
+
+    @Test
+    void call_AfterOpenPeriod_TrialDecidesState() throws Exception {
+        AiCallGuard guard = guard(2, 0, 1000, 1);
+        ReflectionTestUtils.setField(guard, "openMs", 30L);
+
+        assertThrows(IllegalStateException.class, () -> guard.call(() -> {
+            throw new IllegalStateException("boom");
+        }));
+        Thread.sleep(50);
+        assertThrows(IllegalStateException.class, () -> guard.call(() -> {
+            throw new IllegalStateException("still broken");
+        }));
+        assertEquals(AiCallGuard.State.OPEN, guard.state());
+
+        Thread.sleep(50);
+        assertEquals("ok", guard.call(() -> "ok"));
+        assertEquals(AiCallGuard.State.CLOSED, guard.state());
+    }
+
+    @Test
+    void acquire_HalfOpen_OnlyOneTrialAtATime() throws Exception {
+        AiCallGuard guard = guard(2, 0, 1000, 1);
+        ReflectionTestUtils.setField(guard, "openMs", 30L);
+        guard.acquire().failure();
+        Thread.sleep(50);
+
+        AiCallGuard.Permit trial = guard.acquire();
+        assertThrows(ServiceUnavailableException.class, guard::acquire);
+
+        // Client went away mid-trial: no verdict, the next caller gets to try
+        trial.release();
+        guard.acquire().success();
+        assertEquals(AiCallGuard.State.CLOSED, guard.state());
+    }
+}
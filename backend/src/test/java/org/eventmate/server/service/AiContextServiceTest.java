@@ -0,0 +1,118 @@
+package org.eventmate.server.service;
+
+import com.fasterxml.jackson.core.type.TypeReference;
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AiContextServiceTest {
+
+    @Mock
+    private MetadataService metadataService;
+
+    @InjectMocks
+    private AiContextService aiContextService;
+
+    private final ObjectMapper mapper = new ObjectMapper();
+
+    private static final String METADATA = """
+            {
+              "events": [
+                {"id": 1, "title": "Spring Jazz Night", "description": "Live jazz and blues", "type": "CONCERT",
+                 "format": "ONSITE", "startDate": "%1$s", "venue": "Blue Hall"},
+                {"id": 2, "title": "AI Hackathon", "description": "48 hour machine learning hackathon",
+                 "type": "HACKATHON", "format": "HYBRID", "startDate": "%2$s", "venue": null},
+                {"id": 3, "title": "Startup Pitch Day", "description": "Founders pitch to investors",
+                 "type": "CONFERENCE", "format": "ONSITE", "startDate": "%3$s", "venue": "Grand Center"}
+              ],
+              "venues": [
+                {"id": 10, "name": "Blue Hall", "location": "1 Main St, Chennai, TN", "capacity": 500},
+                {"id": 11, "name": "Grand Center", "location": "9 Park Rd, Bengaluru, KA", "capacity": 2000}
+              ],
+              "totalEvents": 3,
+              "totalVenues": 2
+            }
+            """.formatted(LocalDateTime.now().plusDays(3).withNano(0), LocalDateTime.now().plusDays(1).withNano(0),
+            LocalDateTime.now().plusDays(2).withNano(0));
+
+    private MetadataService.Snapshot snapshot;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        Map<String, Object> metadata = mapper.readValue(METADATA, new TypeReference<>() {
+        });
+        snapshot = new MetadataService.Snapshot(1, byId(metadata.get("events")), byId(metadata.get("venues")),
+                LocalDateTime.now());
+
+        ReflectionTestUtils.setField(aiContextService, "topK", 2);
+        ReflectionTestUtils.setField(aiContextService, "maxContextTokens", 1500);
+    }
+
+    @SuppressWarnings("unchecked")
+    private static Map<Long, Map<String, Object>> byId(Object records) {
+        Map<Long, Map<String, Object>> byId = new LinkedHashMap<>();
+        for (Object record : (List<Object>) records) {
+            Map<String, Object> map = (Map<String, Object>) record;
+            byId.put(((Number) map.get("id")).longValue(), map);
+        }
+        return byId;
+    }
+
+    @Test
+    void buildContext_RanksMatchingRecordsFirst() throws Exception {
+        when(metadataService.getSnapshot()).thenReturn(snapshot);
+
+        JsonNode context = mapper.readTree(aiContextService.buildContext("Any jazz concerts coming up?"));
+
+        assertEquals(3, context.get("totalEvents").asInt());
+        assertEquals(1, context.get("events").get(0).get("id").asInt());
+        assertFalse(context.get("events").get(0).has("kind"));
+    }
+
+    @Test
+    void buildContext_VenueQuery_ReturnsVenues() throws Exception {
+        when(metadataService.getSnapshot()).thenReturn(snapshot);
+
+        JsonNode context = mapper.readTree(aiContextService.buildContext("venues in Bengaluru"));
+
+        assertEquals(1, context.get("venues").size());
+        assertEquals(11, context.get("venues").get(0).get("id").asInt());
+        assertEquals(0, context.get("events").size());
+    }
+
+    @Test
+    void buildContext_NoMatch_FallsBackToNextUpcomingEvents() throws Exception {
+        when(metadataService.getSnapshot()).thenReturn(snapshot);
+
+        JsonNode context = mapper.readTree(aiContextService.buildContext("what's on?"));
+
+        assertEquals(2, context.get("events").size());
+        assertEquals(2, context.get("events").get(0).get("id").asInt());
+        assertEquals(3, context.get("events").get(1).get("id").asInt());
+    }
+
+    @Test
+    void buildContext_RespectsTokenBudget() throws Exception {
+        ReflectionTestUtils.setField(aiContextService, "maxContextTokens", 10);
+        when(metadataService.getSnapshot()).thenReturn(snapshot);
+
+        JsonNode context = mapper.readTree(aiContextService.buildContext("hall center hackathon"));
+
+        assertEquals(1, context.get("events").size() + context.get("venues").size());
+    }
+}
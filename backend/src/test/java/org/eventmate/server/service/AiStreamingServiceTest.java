@@ -0,0 +1,237 @@
+package org.eventmate.server.service;
+
+import dev.langchain4j.data.message.AiMessage;
+import dev.langchain4j.model.chat.ChatLanguageModel;
+import dev.langchain4j.model.chat.StreamingChatLanguageModel;
+import dev.langchain4j.model.chat.request.ChatRequest;
+import dev.langchain4j.model.chat.response.StreamingChatResponseHandler;
+import dev.langchain4j.service.AiServices;
+import org.eventmate.server.ai.EventAgent;
+import org.eventmate.server.ai.IntentRouter;
+import org.eventmate.server.dto.ChatResponse;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.function.BiConsumer;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AiStreamingServiceTest {
+
+    @Mock
+    private MetadataService metadataService;
+
+    @Mock
+    private MetadataService.Snapshot snapshot;
+
+    @Mock
+    private AiContextService aiContextService;
+
+    @Mock
+    private IntentRouter intentRouter;
+
+    @Mock
+    private AiResponseCache aiResponseCache;
+
+    private final AiCallGuard aiCallGuard = AiCallGuardTest.guard(2, 0, 1000, 5);
+
+    private final AtomicInteger tokensEmitted = new AtomicInteger();
+    private final RecordingSink sink = new RecordingSink();
+
+    private record Sent(String event, Object data, int tokensEmittedSoFar) {
+    }
+
+    private class RecordingSink implements AiStreamingService.Sink {
+        final List<Sent> events = new ArrayList<>();
+        boolean completed;
+
+        @Override
+        public void send(String event, Object data) {
+            events.add(new Sent(event, data, tokensEmitted.get()));
+        }
+
+        @Override
+        public void complete() {
+            completed = true;
+        }
+    }
+
+    // Stands in for Gemini's streaming model; only chat(ChatRequest, handler), which AiServices calls, is stubbed
+    private StreamingChatLanguageModel streamingModel(BiConsumer<ChatRequest, StreamingChatResponseHandler> reply) {
+        StreamingChatLanguageModel model = mock(StreamingChatLanguageModel.class);
+        lenient().doAnswer(invocation -> {
+            reply.accept(invocation.getArgument(0), invocation.getArgument(1));
+            return null;
+        }).when(model).chat(any(ChatRequest.class), any(StreamingChatResponseHandler.class));
+        return model;
+    }
+
+    private static dev.langchain4j.model.chat.response.ChatResponse completed(String text) {
+        return dev.langchain4j.model.chat.response.ChatResponse.builder().aiMessage(AiMessage.from(text)).build();
+    }
+
+    // Plays back fixed chunks, optionally failing at the end
+    private StreamingChatLanguageModel fakeModel(boolean fail, String... tokens) {
+        return streamingModel((request, handler) -> {
+            for (String token : tokens) {
+                tokensEmitted.incrementAndGet();
+                handler.onPartialResponse(token);
+            }
+            if (fail) {
+                handler.onError(new RuntimeException("quota exceeded"));
+            } else {
+                handler.onCompleteResponse(completed(String.join("", tokens)));
+            }
+        });
+    }
+
+    private AiStreamingService service(StreamingChatLanguageModel model) {
+        // Never called: every answer here is streamed
+        ChatLanguageModel unused = mock(ChatLanguageModel.class);
+        EventAgent eventAgent = AiServices.builder(EventAgent.class)
+                .chatLanguageModel(unused)
+                .streamingChatLanguageModel(model)
+                .build();
+        return new AiStreamingService(eventAgent, metadataService, aiContextService, intentRouter, aiResponseCache,
+                aiCallGuard);
+    }
+
+    private void askModel(AiStreamingService service, String message) {
+        when(intentRouter.route(anyString())).thenReturn(Optional.empty());
+        when(metadataService.getSnapshot()).thenReturn(snapshot);
+        when(snapshot.version()).thenReturn(5L);
+        when(aiResponseCache.get(anyString(), anyLong())).thenReturn(Optional.empty());
+        when(aiContextService.buildContext(anyString())).thenReturn("{}");
+        service.relay(message, sink);
+    }
+
+    private List<String> eventNames() {
+        return sink.events.stream().map(Sent::event).toList();
+    }
+
+    @Test
+    void relay_TextAnswer_TokensForwardedAsTheyArrive() {
+        askModel(service(fakeModel(false, "We have", " a jazz", " night on Friday.")), "What's on?");
+
+        assertEquals(List.of("token", "token", "token", "done"), eventNames());
+        assertEquals(Map.of("text", " a jazz"), sink.events.get(1).data());
+        assertEquals(2, sink.events.get(1).tokensEmittedSoFar());
+        ChatResponse done = (ChatResponse) sink.events.get(3).data();
+        assertEquals("We have a jazz night on Friday.", done.getResponse());
+        assertFalse(done.isCommand());
+        assertTrue(sink.completed);
+        verify(aiResponseCache).put("What's on?", 5L, done);
+        assertEquals(1L, aiCallGuard.getStats().get("successes"));
+        assertEquals(0, aiCallGuard.getStats().get("active"));
+    }
+
+    @Test
+    void relay_NavigateCommand_SentAsSoonAsJsonCloses() {
+        askModel(service(fakeModel(false, " {\"action\": \"NAV", "IGATE\", \"target\": \"/bookings\"}",
+                "\nHere you go!")), "where are my tickets");
+
+        assertEquals(List.of("done"), eventNames());
+        assertEquals(2, sink.events.get(0).tokensEmittedSoFar());
+        ChatResponse done = (ChatResponse) sink.events.get(0).data();
+        assertTrue(done.isCommand());
+        assertEquals("/bookings", done.getTarget());
+    }
+
+    @Test
+    void relay_JsonThatIsNotACommand_StreamedAsText() {
+        askModel(service(fakeModel(false, "{\"note\": \"x\"}", " ok")), "hi");
+
+        assertEquals(List.of("token", "token", "done"), eventNames());
+        assertEquals(Map.of("text", "{\"note\": \"x\"}"), sink.events.get(0).data());
+        assertFalse(((ChatResponse) sink.events.get(2).data()).isCommand());
+    }
+
+    @Test
+    void relay_RoutedLocally_SkipsModel() {
+        ChatResponse routed = ChatResponse.builder().isCommand(true).action("NAVIGATE").target("/profile").build();
+        when(intentRouter.route("open my profile")).thenReturn(Optional.of(routed));
+
+        service(fakeModel(false, "unused")).relay("open my profile", sink);
+
+        assertEquals(List.of("done"), eventNames());
+        assertSame(routed, sink.events.get(0).data());
+        assertEquals(0, tokensEmitted.get());
+        verifyNoInteractions(aiResponseCache);
+    }
+
+    @Test
+    void relay_ModelFails_SendsFallbackAndDoesNotCache() {
+        askModel(service(fakeModel(true, "We have")), "What's on?");
+
+        assertEquals(List.of("token", "error"), eventNames());
+        assertTrue(sink.completed);
+        verify(aiResponseCache, never()).put(anyString(), anyLong(), any());
+        assertEquals(1L, aiCallGuard.getStats().get("failures"));
+        assertEquals(0, aiCallGuard.getStats().get("active"));
+    }
+
+    @Test
+    void relay_SlotHeldUntilModelFinishes() {
+        AtomicInteger activeWhileStreaming = new AtomicInteger(-1);
+        StreamingChatLanguageModel model = streamingModel((request, handler) -> {
+            handler.onPartialResponse("Hi");
+            activeWhileStreaming.set((Integer) aiCallGuard.getStats().get("active"));
+            handler.onCompleteResponse(completed("Hi"));
+        });
+
+        askModel(service(model), "hello");
+
+        assertEquals(1, activeWhileStreaming.get());
+        assertEquals(0, aiCallGuard.getStats().get("active"));
+    }
+
+    @Test
+    void relay_CommandSentEarly_SlotHeldUntilModelFinishes() {
+        AtomicInteger activeAfterCommand = new AtomicInteger(-1);
+        List<String> sentAfterCommand = new ArrayList<>();
+        StreamingChatLanguageModel model = streamingModel((request, handler) -> {
+            handler.onPartialResponse("{\"action\": \"NAVIGATE\", \"target\": \"/bookings\"}");
+            handler.onPartialResponse(" Here you go!");
+            sentAfterCommand.addAll(eventNames());
+            activeAfterCommand.set((Integer) aiCallGuard.getStats().get("active"));
+            handler.onCompleteResponse(completed("done"));
+        });
+
+        askModel(service(model), "where are my tickets");
+
+        assertEquals(List.of("done"), sentAfterCommand);
+        assertEquals(1, activeAfterCommand.get());
+        assertEquals(List.of("done"), eventNames());
+        assertEquals(1L, aiCallGuard.getStats().get("successes"));
+        assertEquals(0, aiCallGuard.getStats().get("active"));
+        verify(aiResponseCache).put(eq("where are my tickets"), eq(5L), any());
+    }
+
+    @Test
+    void relay_CommandSentEarly_LaterErrorRecordedAsFailure() {
+        askModel(service(fakeModel(true, "{\"action\": \"NAVIGATE\", \"target\": \"/bookings\"}")),
+                "where are my tickets");
+
+        assertEquals(List.of("done"), eventNames());
+        assertEquals(1L, aiCallGuard.getStats().get("failures"));
+        assertEquals(0, aiCallGuard.getStats().get("active"));
+        verify(aiResponseCache, never()).put(anyString(), anyLong(), any());
+    }
+
+    @Test
+    void closingBrace_IgnoresBracesInsideStrings() {
+        assertEquals(-1, AiStreamingService.TokenRelay.closingBrace("{\"message\": \"a } b"));
+        String closed = "{\"message\": \"a } b\"}";
+        assertEquals(closed.length() - 1, AiStreamingService.TokenRelay.closingBrace(closed));
+    }
+}
@@ -0,0 +1,160 @@
+package org.eventmate.server.service;
+
+import org.eventmate.server.dto.AnalyticsResponse;
+import org.eventmate.server.entity.Booking;
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.entity.Role;
+import org.eventmate.server.repository.*;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.math.BigDecimal;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class AnalyticsServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private EventDailyStatsRepository eventDailyStatsRepository;
+
+    @InjectMocks
+    private AnalyticsService analyticsService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(analyticsService, "revenueRefreshDays", 2);
+    }
+
+    private void loadTotals() {
+        when(eventRepository.countGroupedByStatus()).thenReturn(List.of(
+                new Object[] { Event.EventStatus.ACTIVE, 4L },
+                new Object[] { Event.EventStatus.COMPLETED, 2L },
+                new Object[] { Event.EventStatus.PLANNED, 1L }));
+        when(userRepository.countGroupedByRole()).thenReturn(List.of(
+                new Object[] { Role.USER, 100L },
+                new Object[] { Role.ORGANIZATION, 10L }));
+        when(bookingRepository.count()).thenReturn(500L);
+        when(transactionRepository.getTotalRevenue()).thenReturn(new BigDecimal("50000.00"));
+        analyticsService.reconcile();
+    }
+
+    private static Booking booking(Long eventId) {
+        Booking booking = new Booking();
+        booking.setEventId(eventId);
+        return booking;
+    }
+
+    @Test
+    void reconcile_LoadsTotalsFromGroupedCounts() {
+        loadTotals();
+
+        AnalyticsResponse response = analyticsService.getAnalytics();
+
+        assertEquals(7L, response.getTotalEvents());
+        assertEquals(100L, response.getTotalUsers());
+        assertEquals(10L, response.getTotalOrganizations());
+        assertEquals(500L, response.getTotalBookings());
+        assertEquals(new BigDecimal("50000.00"), response.getTotalRevenue());
+        assertEquals(4L, response.getActiveEvents());
+        assertEquals(2L, response.getCompletedEvents());
+        verify(eventRepository, never()).findByStatus(any());
+        verify(eventDailyStatsRepository).refreshRevenueSince(LocalDate.now().minusDays(1).atStartOfDay());
+    }
+
+    @Test
+    void reconcile_KeepsDeltasAppliedWhileCounting() {
+        loadTotals();
+        // Two bookings commit while the reconcile is reading, after its snapshot
+        when(bookingRepository.count()).thenAnswer(invocation -> {
+            analyticsService.bookingCreated(booking(1L));
+            analyticsService.bookingCreated(booking(1L));
+            return 500L;
+        });
+        when(eventRepository.countGroupedByStatus()).thenAnswer(invocation -> {
+            analyticsService.eventSaved(null, Event.EventStatus.ACTIVE);
+            return List.<Object[]>of(new Object[] { Event.EventStatus.ACTIVE, 4L });
+        });
+
+        analyticsService.reconcile();
+
+        AnalyticsResponse response = analyticsService.getAnalytics();
+        assertEquals(502L, response.getTotalBookings());
+        assertEquals(5L, response.getActiveEvents());
+        assertEquals(0L, response.getCompletedEvents());
+    }
+
+    @Test
+    void writeHooks_MoveCountersWithoutQueries() {
+        loadTotals();
+        clearInvocations(eventRepository, userRepository, bookingRepository, transactionRepository);
+
+        analyticsService.eventSaved(null, Event.EventStatus.PLANNED);
+        analyticsService.eventSaved(Event.EventStatus.ACTIVE, Event.EventStatus.COMPLETED);
+        analyticsService.eventDeleted(Event.EventStatus.PLANNED);
+        analyticsService.userCreated(Role.USER);
+        analyticsService.userDeleted(Role.ORGANIZATION);
+        analyticsService.bookingCreated(booking(1L));
+
+        AnalyticsResponse response = analyticsService.getAnalytics();
+
+        assertEquals(7L, response.getTotalEvents());
+        assertEquals(3L, response.getActiveEvents());
+        assertEquals(3L, response.getCompletedEvents());
+        assertEquals(101L, response.getTotalUsers());
+        assertEquals(9L, response.getTotalOrganizations());
+        assertEquals(501L, response.getTotalBookings());
+        verifyNoInteractions(eventRepository, userRepository, bookingRepository, transactionRepository);
+    }
+
+    @Test
+    void flushDailyCounts_WritesOneUpsertPerEventDay() {
+        analyticsService.bookingCreated(booking(1L));
+        analyticsService.bookingCreated(booking(1L));
+        analyticsService.bookingCancelled(booking(1L));
+        analyticsService.bookingCreated(booking(2L));
+
+        analyticsService.flushDailyCounts();
+        analyticsService.flushDailyCounts();
+
+        LocalDate today = LocalDate.now();
+        verify(eventDailyStatsRepository).addCounts(1L, today, 2, 1);
+        verify(eventDailyStatsRepository).addCounts(2L, today, 1, 0);
+        verifyNoMoreInteractions(eventDailyStatsRepository);
+    }
+
+    @Test
+    void flushDailyCounts_Failure_KeepsDeltasForNextRun() {
+        analyticsService.bookingCreated(booking(1L));
+        when(eventDailyStatsRepository.addCounts(anyLong(), any(), anyLong(), anyLong()))
+                .thenThrow(new IllegalStateException("deadlock"))
+                .thenReturn(1);
+
+        assertThrows(IllegalStateException.class, () -> analyticsService.flushDailyCounts());
+        analyticsService.bookingCreated(booking(1L));
+        analyticsService.flushDailyCounts();
+
+        verify(eventDailyStatsRepository).addCounts(1L, LocalDate.now(), 2, 0);
+    }
+}
@@ -39,6 +39,9 @@ class AuthServiceTest {
     
     @Mock
     private EmailService emailService;
+
+    @Mock
+    private AnalyticsService analyticsService;
     
     @InjectMocks
     private AuthService authService;
@@ -0,0 +1,143 @@
+package org.eventmate.server.service;
+
+import org.eventmate.server.dto.BookingBreakdown;
+import org.eventmate.server.entity.Booking;
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.exception.custom.UnauthorizedException;
+import org.eventmate.server.repository.BookingRepository;
+import org.eventmate.server.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class BookingFactsServiceTest {
+
+    private static final LocalDate DAY_ONE = LocalDate.of(2025, 5, 1);
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private BookingFactsService bookingFactsService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(bookingFactsService, "maxDistinctValues", 100);
+    }
+
+    private static Object[] fact(long id, LocalDate day, Booking.BookingStatus status, Booking.BookingType type,
+            String dietary, String company) {
+        return new Object[] { id, day.atTime(12, 0), status, type, dietary, null, company };
+    }
+
+    private void givenEvent(List<Object[]> facts) {
+        Event event = new Event();
+        event.setEventId(1L);
+        event.setOrganizerId(5L);
+        when(eventRepository.findOrganizerIdById(1L)).thenReturn(Optional.of(5L));
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(event));
+        when(bookingRepository.findFactsByEventId(1L)).thenReturn(new ArrayList<>(facts));
+    }
+
+    @Test
+    void getBreakdown_GroupsColumnsAndMergesFreeTextSpellings() {
+        givenEvent(List.of(
+                fact(1, DAY_ONE, Booking.BookingStatus.CONFIRMED, Booking.BookingType.SOLO, "Vegan", "Acme"),
+                fact(2, DAY_ONE, Booking.BookingStatus.CONFIRMED, Booking.BookingType.GROUP, " vegan ", "Acme"),
+                fact(3, DAY_ONE.plusDays(2), Booking.BookingStatus.CANCELLED, Booking.BookingType.SOLO, "Halal",
+                        "Globex"),
+                fact(4, DAY_ONE.plusDays(2), Booking.BookingStatus.WAITLISTED, Booking.BookingType.SOLO, "", null)));
+
+        BookingBreakdown all = bookingFactsService.getBreakdown(1L, 5L, false, null, null, null, null, 10);
+
+        assertEquals(4, all.getBookings());
+        assertEquals(Map.of(Booking.BookingStatus.CONFIRMED, 2L, Booking.BookingStatus.CANCELLED, 1L,
+                Booking.BookingStatus.WAITLISTED, 1L), all.getByStatus());
+        assertEquals(Map.of(Booking.BookingType.SOLO, 3L, Booking.BookingType.GROUP, 1L), all.getByType());
+        assertEquals(List.of(DAY_ONE, DAY_ONE.plusDays(2)), List.copyOf(all.getByDay().keySet()));
+        assertEquals(List.of("Vegan", "Halal"), List.copyOf(all.getDietaryRestrictions().keySet()));
+        assertEquals(2L, all.getDietaryRestrictions().get("Vegan"));
+        assertTrue(all.getAccessibilityNeeds().isEmpty());
+
+        BookingBreakdown confirmedSolo = bookingFactsService.getBreakdown(1L, 5L, false, DAY_ONE, DAY_ONE,
+                Booking.BookingStatus.CONFIRMED, Booking.BookingType.SOLO, 1);
+        assertEquals(1, confirmedSolo.getBookings());
+        assertEquals(Map.of("Acme", 1L), confirmedSolo.getCompanies());
+        verify(bookingRepository, times(1)).findFactsByEventId(1L);
+    }
+
+    @Test
+    void bookingSaved_UpdatesLoadedColumnsWithoutQuerying() {
+        givenEvent(List.<Object[]>of(
+                fact(1, DAY_ONE, Booking.BookingStatus.CONFIRMED, Booking.BookingType.SOLO, null, null)));
+        bookingFactsService.getBreakdown(1L, 5L, false, null, null, null, null, 10);
+
+        Booking cancelled = new Booking();
+        cancelled.setBookingId(1L);
+        cancelled.setEventId(1L);
+        cancelled.setBookingDate(DAY_ONE.atStartOfDay());
+        cancelled.setStatus(Booking.BookingStatus.CANCELLED);
+        Booking added = new Booking();
+        added.setBookingId(2L);
+        added.setEventId(1L);
+        added.setBookingDate(LocalDateTime.now());
+        added.setBookingType(Booking.BookingType.GROUP);
+        added.setCompanyName("Initech");
+        Booking otherEvent = new Booking();
+        otherEvent.setBookingId(3L);
+        otherEvent.setEventId(2L);
+        bookingFactsService.bookingsSaved(List.of(cancelled, added, otherEvent));
+
+        BookingBreakdown breakdown = bookingFactsService.getBreakdown(1L, 5L, false, null, null, null, null, 10);
+
+        assertEquals(2, breakdown.getBookings());
+        assertEquals(Map.of(Booking.BookingStatus.CANCELLED, 1L, Booking.BookingStatus.CONFIRMED, 1L),
+                breakdown.getByStatus());
+        assertEquals(Map.of("Initech", 1L), breakdown.getCompanies());
+        verify(bookingRepository, times(1)).findFactsByEventId(1L);
+        verify(bookingRepository, never()).findFactsByEventId(2L);
+    }
+
+    @Test
+    void getBreakdown_OtherOrganizer_UnauthorizedWithoutLoading() {
+        givenEvent(List.of());
+
+        assertThrows(UnauthorizedException.class,
+                () -> bookingFactsService.getBreakdown(1L, 6L, false, null, null, null, null, 10));
+        verify(bookingRepository, never()).findFactsByEventId(1L);
+        assertEquals(0, bookingFactsService.getBreakdown(1L, 6L, true, null, null, null, null, 10).getBookings());
+    }
+
+    @Test
+    void getBreakdown_MoreDistinctValuesThanLimit_RestCountedAsOther() {
+        ReflectionTestUtils.setField(bookingFactsService, "maxDistinctValues", 2);
+        givenEvent(List.of(
+                fact(1, DAY_ONE, Booking.BookingStatus.CONFIRMED, Booking.BookingType.SOLO, null, "Acme"),
+                fact(2, DAY_ONE, Booking.BookingStatus.CONFIRMED, Booking.BookingType.SOLO, null, "Globex"),
+                fact(3, DAY_ONE, Booking.BookingStatus.CONFIRMED, Booking.BookingType.SOLO, null, "Initech"),
+                fact(4, DAY_ONE, Booking.BookingStatus.CONFIRMED, Booking.BookingType.SOLO, null, "Umbrella"),
+                fact(5, DAY_ONE, Booking.BookingStatus.CONFIRMED, Booking.BookingType.SOLO, null, "acme")));
+
+        BookingBreakdown breakdown = bookingFactsService.getBreakdown(1L, 5L, false, null, null, null, null, 10);
+
+        assertEquals(Map.of("Acme", 2L, "Globex", 1L, "Other", 2L), breakdown.getCompanies());
+    }
+}
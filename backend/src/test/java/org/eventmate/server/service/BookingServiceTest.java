@@ -4,6 +4,7 @@ import org.eventmate.server.dto.BookingRequest;
 import org.eventmate.server.entity.Booking;
 import org.eventmate.server.entity.Event;
 import org.eventmate.server.entity.TicketType;
+import org.eventmate.server.exception.custom.DuplicateResourceException;
 import org.eventmate.server.repository.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -35,6 +36,24 @@ class BookingServiceTest {
     @Mock
     private UserRepository userRepository;
 
+    @Mock
+    private WaitlistService waitlistService;
+
+    @Mock
+    private TicketInventoryService ticketInventoryService;
+
+    @Mock
+    private CheckInService checkInService;
+
+    @Mock
+    private TicketCodeService ticketCodeService;
+
+    @Mock
+    private AnalyticsService analyticsService;
+
+    @Mock
+    private BookingFactsService bookingFactsService;
+
     @InjectMocks
     private BookingService bookingService;
 
@@ -68,7 +87,7 @@ class BookingServiceTest {
     @Test
     void enrollEvent_Success() {
         when(bookingRepository.findByUserIdAndEventId(anyLong(), anyLong())).thenReturn(Optional.empty());
-        when(eventRepository.findById(anyLong())).thenReturn(Optional.of(testEvent));
+        when(eventRepository.findByIdForUpdate(anyLong())).thenReturn(Optional.of(testEvent));
         when(bookingRepository.countConfirmedBookings(anyLong())).thenReturn(50L);
         when(ticketTypeRepository.findById(anyLong())).thenReturn(Optional.of(testTicketType));
         when(bookingRepository.save(any(Booking.class))).thenReturn(testBooking);
@@ -82,22 +101,40 @@ class BookingServiceTest {
 
     @Test
     void enrollEvent_AlreadyEnrolled_ThrowsException() {
+        when(eventRepository.findByIdForUpdate(anyLong())).thenReturn(Optional.of(testEvent));
         when(bookingRepository.findByUserIdAndEventId(anyLong(), anyLong())).thenReturn(Optional.of(testBooking));
 
-        assertThrows(RuntimeException.class, () -> bookingService.enrollEvent(bookingRequest, 1L));
+        assertThrows(DuplicateResourceException.class, () -> bookingService.enrollEvent(bookingRequest, 1L));
         verify(bookingRepository, never()).save(any(Booking.class));
     }
 
     @Test
     void enrollEvent_EventFull_ThrowsException() {
         when(bookingRepository.findByUserIdAndEventId(anyLong(), anyLong())).thenReturn(Optional.empty());
-        when(eventRepository.findById(anyLong())).thenReturn(Optional.of(testEvent));
+        when(eventRepository.findByIdForUpdate(anyLong())).thenReturn(Optional.of(testEvent));
         when(bookingRepository.countConfirmedBookings(anyLong())).thenReturn(100L);
 
         assertThrows(RuntimeException.class, () -> bookingService.enrollEvent(bookingRequest, 1L));
         verify(bookingRepository, never()).save(any(Booking.class));
     }
 
+    @Test
+    void enrollEvent_EventFull_JoinWaitlist_CreatesWaitlistedBooking() {
+        bookingRequest.setJoinWaitlist(true);
+        bookingRequest.setSeatNumber(5);
+        when(bookingRepository.findByUserIdAndEventId(anyLong(), anyLong())).thenReturn(Optional.empty());
+        when(eventRepository.findByIdForUpdate(anyLong())).thenReturn(Optional.of(testEvent));
+        when(bookingRepository.countConfirmedBookings(anyLong())).thenReturn(100L);
+        when(bookingRepository.save(any(Booking.class))).thenAnswer(invocation -> invocation.getArgument(0));
+
+        Booking result = bookingService.enrollEvent(bookingRequest, 1L);
+
+        assertEquals(Booking.BookingStatus.WAITLISTED, result.getStatus());
+        assertNull(result.getSeatNumber());
+        verify(ticketInventoryService, never()).reserve(any(), any(), any());
+        verify(userRepository, never()).findById(anyLong());
+    }
+
     @Test
     void getUserBookings_Success() {
         when(bookingRepository.findByUserId(anyLong())).thenReturn(Arrays.asList(testBooking));
@@ -109,20 +146,51 @@ class BookingServiceTest {
         verify(bookingRepository).findByUserId(anyLong());
     }
 
+    private void givenBooking() {
+        when(bookingRepository.findEventIdById(1L)).thenReturn(Optional.of(1L));
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testEvent));
+        when(bookingRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testBooking));
+    }
+
     @Test
     void cancelBooking_Success() {
-        when(bookingRepository.findById(anyLong())).thenReturn(Optional.of(testBooking));
+        givenBooking();
         when(bookingRepository.save(any(Booking.class))).thenReturn(testBooking);
 
         assertDoesNotThrow(() -> bookingService.cancelBooking(1L, 1L));
         verify(bookingRepository).save(any(Booking.class));
+        verify(ticketInventoryService).release(testBooking);
+        verify(waitlistService).promoteWaitlisted(1L);
+    }
+
+    @Test
+    void cancelBooking_Waitlisted_DoesNotPromote() {
+        testBooking.setStatus(Booking.BookingStatus.WAITLISTED);
+        givenBooking();
+
+        bookingService.cancelBooking(1L, 1L);
+
+        assertEquals(Booking.BookingStatus.CANCELLED, testBooking.getStatus());
+        verify(waitlistService, never()).promoteWaitlisted(anyLong());
     }
 
     @Test
     void cancelBooking_Unauthorized_ThrowsException() {
-        when(bookingRepository.findById(anyLong())).thenReturn(Optional.of(testBooking));
+        givenBooking();
 
         assertThrows(RuntimeException.class, () -> bookingService.cancelBooking(1L, 999L));
         verify(bookingRepository, never()).save(any(Booking.class));
     }
+
+    @Test
+    void cancelBooking_AlreadyCancelled_ReleasesNothing() {
+        testBooking.setStatus(Booking.BookingStatus.CANCELLED);
+        givenBooking();
+
+        bookingService.cancelBooking(1L, 1L);
+
+        verify(bookingRepository, never()).save(any(Booking.class));
+        verify(ticketInventoryService, never()).release(any(Booking.class));
+        verify(waitlistService, never()).promoteWaitlisted(anyLong());
+    }
 }
@@ -0,0 +1,106 @@
+package org.eventmate.server.service;
+
+import org.eventmate.server.dto.BookingRequest;
+import org.eventmate.server.entity.Booking;
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.repository.BookingRepository;
+import org.eventmate.server.repository.EventRepository;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Many more enrollments for one event at once than the pool has connections, on virtual threads,
+ * as under a registration opening. Each transaction takes a connection at begin and then queues on
+ * the event row lock; the bulkhead keeps enough connections free that none of them times out.
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:bookingwrites;MODE=MySQL;DATABASE_TO_LOWER=TRUE;LOCK_TIMEOUT=10000",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password=",
+        "spring.datasource.hikari.maximum-pool-size=10",
+        "spring.datasource.hikari.connection-timeout=3000",
+        "app.booking.write.max-concurrent=6",
+        "app.booking.write.max-wait-ms=30000",
+        "app.codes.block-size=4",
+        "app.codes.secret=test-secret"
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Import({ BookingService.class, BookingWriteGuard.class, TicketCodeService.class, TicketInventoryService.class })
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+class BookingWriteConcurrencyTest {
+
+    private static final int ENROLLMENTS = 40;
+
+    @Autowired
+    private BookingService bookingService;
+
+    @Autowired
+    private BookingWriteGuard bookingWriteGuard;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @MockitoBean
+    private EmailService emailService;
+
+    @MockitoBean
+    private WaitlistService waitlistService;
+
+    @MockitoBean
+    private CheckInService checkInService;
+
+    @MockitoBean
+    private AnalyticsService analyticsService;
+
+    @MockitoBean
+    private BookingFactsService bookingFactsService;
+
+    @MockitoBean
+    private EntityCacheService entityCacheService;
+
+    @Test
+    void enrollEvent_MoreConcurrentEnrollsThanConnections_AllBooked() throws Exception {
+        Event event = new Event();
+        event.setTitle("Launch Day");
+        event.setOrganizerId(1L);
+        event.setStatus(Event.EventStatus.ACTIVE);
+        event.setEventFormat(Event.EventFormat.REMOTE);
+        event.setTotalCapacity(ENROLLMENTS);
+        Long eventId = eventRepository.save(event).getEventId();
+
+        List<Future<Booking>> results = new ArrayList<>();
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor()) {
+            for (long userId = 1; userId <= ENROLLMENTS; userId++) {
+                BookingRequest request = new BookingRequest();
+                request.setEventId(eventId);
+                request.setBookingType("SOLO");
+                long attendee = userId;
+                results.add(executor.submit(
+                        () -> bookingWriteGuard.call(() -> bookingService.enrollEvent(request, attendee))));
+            }
+        }
+
+        for (Future<Booking> result : results) {
+            assertEquals(Booking.BookingStatus.CONFIRMED, result.get().getStatus());
+        }
+        assertEquals(ENROLLMENTS, bookingRepository.countConfirmedBookings(eventId));
+    }
+}
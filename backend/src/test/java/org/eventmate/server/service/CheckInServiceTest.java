@@ -0,0 +1,168 @@
+package org.eventmate.server.service;
+
+import org.eventmate.server.dto.CheckInRequest;
+import org.eventmate.server.dto.CheckInResult;
+import org.eventmate.server.entity.Booking;
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.exception.custom.UnauthorizedException;
+import org.eventmate.server.repository.BookingRepository;
+import org.eventmate.server.repository.EventRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDateTime;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CheckInServiceTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private CheckInService checkInService;
+
+    private Event testEvent;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(checkInService, "maxBatchSize", 10);
+
+        testEvent = new Event();
+        testEvent.setEventId(1L);
+        testEvent.setOrganizerId(5L);
+    }
+
+    private Booking confirmed(long id, String ticketCode) {
+        Booking booking = new Booking();
+        booking.setBookingId(id);
+        booking.setEventId(1L);
+        booking.setTicketCode(ticketCode);
+        booking.setAttendeeName("Attendee " + id);
+        booking.setStatus(Booking.BookingStatus.CONFIRMED);
+        return booking;
+    }
+
+    private CheckInRequest scan(String ticketCode) {
+        CheckInRequest request = new CheckInRequest();
+        request.setTicketCode(ticketCode);
+        return request;
+    }
+
+    private void givenIndex(Booking... bookings) {
+        when(eventRepository.findOrganizerIdById(1L)).thenReturn(Optional.of(5L));
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        when(bookingRepository.findByEventIdAndStatus(1L, Booking.BookingStatus.CONFIRMED))
+                .thenReturn(Arrays.asList(bookings));
+    }
+
+    @Test
+    void checkIn_SecondScanOfSameTicket_ReportsAlreadyCheckedIn() {
+        givenIndex(confirmed(10L, "EVT-1-AAAAAA"));
+
+        CheckInResult first = checkInService.checkIn(1L, 5L, false, scan("evt-1-aaaaaa "));
+        CheckInResult second = checkInService.checkIn(1L, 5L, false, scan("EVT-1-AAAAAA"));
+
+        assertEquals(CheckInResult.Outcome.CHECKED_IN, first.getOutcome());
+        assertEquals(10L, first.getBookingId());
+        assertEquals(CheckInResult.Outcome.ALREADY_CHECKED_IN, second.getOutcome());
+        assertEquals(first.getCheckinTime(), second.getCheckinTime());
+        verify(eventRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void checkIn_UnknownCode_Invalid() {
+        givenIndex(confirmed(10L, "EVT-1-AAAAAA"));
+        when(bookingRepository.findFirstByEventIdAndTicketCode(1L, "EVT-1-ZZZZZZ")).thenReturn(Optional.empty());
+
+        assertEquals(CheckInResult.Outcome.INVALID,
+                checkInService.checkIn(1L, 5L, false, scan("EVT-1-ZZZZZZ")).getOutcome());
+    }
+
+    @Test
+    void checkIn_BookedAfterIndexLoad_FoundInDatabase() {
+        givenIndex();
+        when(bookingRepository.findFirstByEventIdAndTicketCode(1L, "EVT-1-BBBBBB"))
+                .thenReturn(Optional.of(confirmed(11L, "EVT-1-BBBBBB")));
+
+        assertEquals(CheckInResult.Outcome.CHECKED_IN,
+                checkInService.checkIn(1L, 5L, false, scan("EVT-1-BBBBBB")).getOutcome());
+        assertEquals(CheckInResult.Outcome.ALREADY_CHECKED_IN,
+                checkInService.checkIn(1L, 5L, false, scan("EVT-1-BBBBBB")).getOutcome());
+        verify(bookingRepository, times(1)).findFirstByEventIdAndTicketCode(1L, "EVT-1-BBBBBB");
+    }
+
+    @Test
+    void checkIn_CancelledTicket_Invalid() {
+        givenIndex(confirmed(10L, "EVT-1-AAAAAA"));
+        checkInService.getStats(1L, 5L, false);
+        when(bookingRepository.findFirstByEventIdAndTicketCode(1L, "EVT-1-AAAAAA")).thenReturn(Optional.empty());
+
+        checkInService.evict(1L, "EVT-1-AAAAAA");
+
+        assertEquals(CheckInResult.Outcome.INVALID,
+                checkInService.checkIn(1L, 5L, false, scan("EVT-1-AAAAAA")).getOutcome());
+    }
+
+    @Test
+    void checkIn_NotOrganizerOfEvent_RejectedWithoutLoadingIndex() {
+        when(eventRepository.findOrganizerIdById(1L)).thenReturn(Optional.of(5L));
+
+        assertThrows(UnauthorizedException.class, () -> checkInService.checkIn(1L, 99L, false, scan("X")));
+        verify(eventRepository, never()).findById(anyLong());
+        verify(bookingRepository, never()).findByEventIdAndStatus(anyLong(), any());
+
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        assertDoesNotThrow(() -> checkInService.getStats(1L, 99L, true));
+    }
+
+    @Test
+    void preloadUpcoming_KeepsIndexBuiltOnFirstScan() {
+        ReflectionTestUtils.setField(checkInService, "preloadLeadHours", 6);
+        givenIndex(confirmed(10L, "EVT-1-AAAAAA"));
+        checkInService.checkIn(1L, 5L, false, scan("EVT-1-AAAAAA"));
+        when(eventRepository.findEventIdsOpenForCheckIn(any(), any())).thenReturn(List.of());
+
+        checkInService.preloadUpcoming();
+
+        assertEquals(CheckInResult.Outcome.ALREADY_CHECKED_IN,
+                checkInService.checkIn(1L, 5L, false, scan("EVT-1-AAAAAA")).getOutcome());
+        verify(eventRepository, times(1)).findById(1L);
+    }
+
+    @Test
+    void checkInBatch_OfflineScans_UseScanTimeAndFlushPerSecond() {
+        givenIndex(confirmed(10L, "EVT-1-AAAAAA"), confirmed(11L, "EVT-1-BBBBBB"), confirmed(12L, "EVT-1-CCCCCC"));
+        LocalDateTime scannedAt = LocalDateTime.now().minusMinutes(5).withNano(0);
+        List<CheckInRequest> scans = Arrays.asList(scan("EVT-1-AAAAAA"), scan("EVT-1-BBBBBB"), scan("EVT-1-AAAAAA"));
+        scans.get(0).setScannedAt(scannedAt);
+        scans.get(1).setScannedAt(scannedAt);
+
+        List<CheckInResult> results = checkInService.checkInBatch(1L, 5L, false, scans);
+
+        assertEquals(CheckInResult.Outcome.CHECKED_IN, results.get(0).getOutcome());
+        assertEquals(scannedAt, results.get(0).getCheckinTime());
+        assertEquals(CheckInResult.Outcome.ALREADY_CHECKED_IN, results.get(2).getOutcome());
+        assertEquals(2L, checkInService.getStats(1L, 5L, false).get("checkedIn"));
+
+        checkInService.flush();
+        checkInService.flush();
+
+        verify(bookingRepository, times(1)).markCheckedIn(argThat(ids -> ids.containsAll(List.of(10L, 11L))),
+                eq(scannedAt));
+    }
+}
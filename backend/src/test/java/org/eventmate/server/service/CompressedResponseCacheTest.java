@@ -0,0 +1,100 @@
+package org.eventmate.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.util.unit.DataSize;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class CompressedResponseCacheTest {
+
+    @Mock
+    private MetadataService metadataService;
+
+    @Mock
+    private MetadataService.Snapshot snapshot;
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+
+    private CompressedResponseCache cache;
+
+    @BeforeEach
+    void setUp() {
+        cache = new CompressedResponseCache(new ObjectMapper(), metadataService, meterRegistry);
+        ReflectionTestUtils.setField(cache, "enabled", true);
+        ReflectionTestUtils.setField(cache, "maxEntries", 10);
+        ReflectionTestUtils.setField(cache, "ttlMs", 60_000L);
+        ReflectionTestUtils.setField(cache, "minCompressSize", DataSize.ofBytes(1024));
+        ReflectionTestUtils.invokeMethod(cache, "initCache");
+        when(metadataService.getSnapshot()).thenReturn(snapshot);
+        when(snapshot.version()).thenReturn(1L);
+    }
+
+    private static List<Map<String, Object>> events(int count) {
+        return java.util.stream.IntStream.range(0, count)
+                .mapToObj(i -> Map.<String, Object>of("eventId", i, "title", "Event " + i))
+                .toList();
+    }
+
+    private static String gunzip(byte[] body) throws IOException {
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(body))) {
+            return new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+    }
+
+    @Test
+    void json_Hit_ServesStoredGzipWithoutSerializingAgain() throws IOException {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.json("featured:*", () -> events(loads.incrementAndGet() * 100), null);
+        ResponseEntity<byte[]> response = cache.json("featured:*", () -> events(loads.incrementAndGet() * 100), null)
+                .toResponse("gzip, deflate, br");
+
+        assertEquals(1, loads.get());
+        assertEquals("gzip", response.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertEquals(HttpHeaders.ACCEPT_ENCODING, response.getHeaders().getFirst(HttpHeaders.VARY));
+        assertTrue(gunzip(response.getBody()).contains("\"title\":\"Event 99\""));
+        assertEquals(1.0, meterRegistry.counter("eventmate.response.cache", "result", "hit").count());
+    }
+
+    @Test
+    void json_NoGzipAcceptedOrSmallBody_ServesPlain() {
+        ResponseEntity<byte[]> refused = cache.json("featured:*", () -> events(100), null).toResponse("gzip;q=0");
+        ResponseEntity<byte[]> small = cache.json("event:1:*", () -> events(1), null).toResponse("gzip");
+
+        assertNull(refused.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+        assertTrue(new String(refused.getBody(), StandardCharsets.UTF_8).startsWith("[{"));
+        assertNull(small.getHeaders().getFirst(HttpHeaders.CONTENT_ENCODING));
+    }
+
+    @Test
+    void json_MetadataVersionChanged_Reloads() {
+        AtomicInteger loads = new AtomicInteger();
+
+        cache.json("event:1:*", () -> events(loads.incrementAndGet()), null);
+        when(snapshot.version()).thenReturn(2L);
+        ResponseEntity<byte[]> response = cache.json("event:1:*", () -> events(loads.incrementAndGet()), null)
+                .toResponse(null);
+
+        assertEquals(2, loads.get());
+        assertTrue(new String(response.getBody(), StandardCharsets.UTF_8).contains("Event 1"));
+    }
+}
@@ -0,0 +1,154 @@
+package org.eventmate.server.service;
+
+import org.eventmate.server.dto.EventFields;
+import org.eventmate.server.dto.EventResponse;
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.entity.Guest;
+import org.eventmate.server.entity.TicketTier;
+import org.eventmate.server.entity.Venue;
+import org.eventmate.server.repository.BookingRepository;
+import org.eventmate.server.repository.EventRepository;
+import org.eventmate.server.repository.FeedbackRepository;
+import org.eventmate.server.repository.VenueRepository;
+import org.hibernate.Hibernate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.autoconfigure.orm.jpa.TestEntityManager;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.eventmate.server.metrics.QueryAssertions.assertMaxQueries;
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.mock;
+
+/**
+ * Query-count guards for EventService read paths, on H2 in MySQL mode
+ */
+@DataJpaTest(properties = {
+        "spring.datasource.url=jdbc:h2:mem:querycount;MODE=MySQL;DATABASE_TO_LOWER=TRUE",
+        "spring.datasource.driver-class-name=org.h2.Driver",
+        "spring.datasource.username=sa",
+        "spring.datasource.password="
+})
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+class EventServiceQueryCountTest {
+
+    @Autowired
+    private TestEntityManager entityManager;
+
+    @Autowired
+    private EventRepository eventRepository;
+
+    @Autowired
+    private VenueRepository venueRepository;
+
+    @Autowired
+    private BookingRepository bookingRepository;
+
+    @Autowired
+    private FeedbackRepository feedbackRepository;
+
+    private EventService eventService;
+
+    @BeforeEach
+    void setUp() {
+        eventService = new EventService(eventRepository, venueRepository, bookingRepository, feedbackRepository,
+                mock(MetadataService.class), mock(AnalyticsService.class));
+    }
+
+    private Long plannedEvent() {
+        Event event = new Event();
+        event.setTitle("Cloud Summit");
+        event.setOrganizerId(1L);
+        event.setStatus(Event.EventStatus.PLANNED);
+        event.setEventFormat(Event.EventFormat.REMOTE);
+        event.setEventType(Event.EventType.CONFERENCE);
+        event.setTotalCapacity(100);
+        event.setStartDate(LocalDateTime.now().plusDays(10));
+        event.setEndDate(LocalDateTime.now().plusDays(10).plusHours(8));
+        Long eventId = entityManager.persistAndFlush(event).getEventId();
+        // Start from an empty persistence context so every load below is a real statement
+        entityManager.clear();
+        return eventId;
+    }
+
+    @Test
+    void getEventById_AtMostFiveStatements() {
+        Long eventId = plannedEvent();
+
+        // event (+ venue), tiers, guests, enrolled count, average rating
+        var response = assertMaxQueries(5, () -> eventService.getEventById(eventId));
+
+        assertEquals("Cloud Summit", response.getTitle());
+    }
+
+    private void featuredEvent(String title, LocalDateTime start, LocalDateTime end) {
+        Event event = new Event();
+        event.setTitle(title);
+        event.setOrganizerId(1L);
+        event.setStatus(Event.EventStatus.ACTIVE);
+        event.setIsFeatured(true);
+        event.setStartDate(start);
+        event.setEndDate(end);
+        TicketTier tier = new TicketTier();
+        tier.setName("General");
+        tier.setPrice(10.0);
+        tier.setCapacity(50);
+        event.addTicketTier(tier);
+        Guest guest = new Guest();
+        guest.setName("Speaker");
+        event.addGuest(guest);
+        entityManager.persist(event);
+    }
+
+    @Test
+    void getFeaturedEvents_EndedEventDropped_ChildrenFetchedWithTheEvents() {
+        LocalDateTime now = LocalDateTime.now();
+        for (int i = 0; i < 3; i++) {
+            featuredEvent("Live " + i, now.minusHours(1), now.plusHours(2));
+        }
+        featuredEvent("Ended", now.minusDays(2), now.minusDays(1));
+        entityManager.flush();
+        entityManager.clear();
+
+        // events with tiers, guests, then enrolled count and average rating per event
+        List<EventResponse> responses = assertMaxQueries(2 + 2 * 3, () -> eventService.getFeaturedEvents());
+
+        assertEquals(3, responses.size());
+        assertTrue(responses.stream().allMatch(response -> response.getStatus() == Event.EventStatus.ACTIVE));
+        assertTrue(Hibernate.isInitialized(responses.get(0).getGuests()));
+        assertEquals(1, responses.get(0).getGuests().size());
+    }
+
+    @Test
+    void getAllEventsForAttendee_CardFields_TwoStatementsForAnyNumberOfEvents() {
+        Venue venue = new Venue();
+        venue.setName("Hall A");
+        venue.setAddress("1 Main Road");
+        venue.setCity("Pune");
+        venue.setState("MH");
+        venue.setCountry("India");
+        entityManager.persist(venue);
+        for (int i = 0; i < 5; i++) {
+            Event event = new Event();
+            event.setTitle("Meetup " + i);
+            event.setDescription("Long description " + i);
+            event.setOrganizerId(1L);
+            event.setVenue(venue);
+            entityManager.persist(event);
+        }
+        entityManager.flush();
+        entityManager.clear();
+
+        // event cards (+ venue name and city), enrolled counts
+        var responses = assertMaxQueries(2, () -> eventService.getAllEventsForAttendee(EventFields.parse("card")));
+
+        assertEquals(5, responses.size());
+        assertEquals("Hall A", responses.get(0).getVenue().getName());
+        assertNull(responses.get(0).getDescription());
+    }
+}
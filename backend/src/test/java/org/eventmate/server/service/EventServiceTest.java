@@ -1,9 +1,12 @@
 package org.eventmate.server.service;
 
+import org.eventmate.server.dto.EventCard;
+import org.eventmate.server.dto.EventFields;
 import org.eventmate.server.dto.EventRequest;
 import org.eventmate.server.dto.EventResponse;
 import org.eventmate.server.entity.Event;
 import org.eventmate.server.entity.Venue;
+import org.eventmate.server.exception.custom.ValidationException;
 import org.eventmate.server.repository.*;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
@@ -36,6 +39,12 @@ class EventServiceTest {
     @Mock
     private FeedbackRepository feedbackRepository;
 
+    @Mock
+    private MetadataService metadataService;
+
+    @Mock
+    private AnalyticsService analyticsService;
+
     @InjectMocks
     private EventService eventService;
 
@@ -141,6 +150,52 @@ class EventServiceTest {
         verify(eventRepository).findAll();
     }
 
+    @Test
+    void getAllEvents_DateStaleStatus_ShownButNotCounted() {
+        testEvent.setStatus(Event.EventStatus.ACTIVE);
+        testEvent.setStartDate(LocalDateTime.now().minusDays(2));
+        testEvent.setEndDate(LocalDateTime.now().minusDays(1));
+        when(eventRepository.findAll()).thenReturn(List.of(testEvent));
+
+        List<EventResponse> results = eventService.getAllEvents();
+
+        assertEquals(Event.EventStatus.COMPLETED, results.get(0).getStatus());
+        assertEquals(Event.EventStatus.ACTIVE, testEvent.getStatus());
+        verify(eventRepository, never()).save(any());
+        verifyNoInteractions(metadataService, analyticsService);
+    }
+
+    @Test
+    void getEventById_DateStaleStatus_LeavesMetadataVersionUnchanged() {
+        MetadataService metadata = new MetadataService(venueRepository, eventRepository);
+        EventService service = new EventService(eventRepository, venueRepository, bookingRepository,
+                feedbackRepository, metadata, analyticsService);
+        testEvent.setStatus(Event.EventStatus.PLANNED);
+        testEvent.setStartDate(LocalDateTime.now().minusHours(1));
+        when(eventRepository.findById(1L)).thenReturn(Optional.of(testEvent));
+        long version = metadata.getSnapshot().version();
+
+        EventResponse response = service.getEventById(1L);
+
+        assertEquals(Event.EventStatus.ACTIVE, response.getStatus());
+        assertEquals(version, metadata.getSnapshot().version());
+    }
+
+    @Test
+    void refreshEventStatuses_MovesEndedEventsAndCountsThem() {
+        testEvent.setStatus(Event.EventStatus.ACTIVE);
+        testEvent.setStartDate(LocalDateTime.now().minusDays(2));
+        testEvent.setEndDate(LocalDateTime.now().minusDays(1));
+        when(eventRepository.findByDeletedAtIsNullAndStatusIn(
+                List.of(Event.EventStatus.PLANNED, Event.EventStatus.ACTIVE))).thenReturn(List.of(testEvent));
+
+        eventService.refreshEventStatuses();
+
+        assertEquals(Event.EventStatus.COMPLETED, testEvent.getStatus());
+        verify(metadataService).eventChanged(testEvent);
+        verify(analyticsService).eventSaved(Event.EventStatus.ACTIVE, Event.EventStatus.COMPLETED);
+    }
+
     @Test
     void searchEvents_Success() {
         when(eventRepository.searchEvents(anyString())).thenReturn(Arrays.asList(testEvent));
@@ -166,4 +221,42 @@ class EventServiceTest {
         assertEquals(1, results.size());
         verify(eventRepository).findByEventType(any(Event.EventType.class));
     }
+
+    @Test
+    void getAllEventsForAttendee_CardFields_ReadsProjectionWithBatchedCounts() {
+        EventCard card = new EventCard(1L, "Test Event", null, Event.EventType.CONFERENCE, Event.EventFormat.ONSITE,
+                Event.EventStatus.ACTIVE, LocalDateTime.now().plusDays(7), LocalDateTime.now().plusDays(8), null,
+                null, 100, 1L, "Test Venue", "Pune", "banner-1", null, 0.0, false);
+        when(eventRepository.findLiveCards()).thenReturn(List.of(card));
+        when(bookingRepository.countConfirmedBookingsByEventIds(List.of(1L)))
+                .thenReturn(List.<Object[]>of(new Object[] { 1L, 10L }));
+
+        List<EventResponse> results = eventService.getAllEventsForAttendee(EventFields.parse("card"));
+
+        assertEquals(1, results.size());
+        assertEquals(10L, results.get(0).getEnrolledCount());
+        assertEquals(Event.EventStatus.PLANNED, results.get(0).getStatus());
+        assertEquals("Pune", results.get(0).getVenue().getCity());
+        verify(eventRepository, never()).findByDeletedAtIsNullOrderByCreatedAtDesc();
+        verify(bookingRepository, never()).countConfirmedBookings(anyLong());
+        verifyNoInteractions(feedbackRepository);
+    }
+
+    @Test
+    void getAllEvents_FieldsBeyondCard_LoadsWholeEvents() {
+        when(eventRepository.findAll()).thenReturn(Arrays.asList(testEvent));
+        when(bookingRepository.countConfirmedBookings(anyLong())).thenReturn(10L);
+
+        List<EventResponse> results = eventService.getAllEvents(EventFields.parse("card,description"));
+
+        assertEquals("Test Description", results.get(0).getDescription());
+        verify(eventRepository, never()).findAllCards();
+    }
+
+    @Test
+    void eventFields_UnknownName_ThrowsValidation() {
+        assertTrue(EventFields.parse(null).isAll());
+        assertTrue(EventFields.parse("eventId, title,averageRating").isProjected());
+        assertThrows(ValidationException.class, () -> EventFields.parse("title,passwordHash"));
+    }
 }
@@ -0,0 +1,167 @@
+package org.eventmate.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.persistence.EntityManager;
+import org.eventmate.server.entity.Booking;
+import org.eventmate.server.entity.Role;
+import org.eventmate.server.entity.Transaction;
+import org.eventmate.server.entity.User;
+import org.eventmate.server.exception.custom.UnauthorizedException;
+import org.eventmate.server.exception.custom.ValidationException;
+import org.eventmate.server.repository.BookingRepository;
+import org.eventmate.server.repository.EventRepository;
+import org.eventmate.server.repository.TransactionRepository;
+import org.eventmate.server.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseEntity;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+import java.util.zip.GZIPInputStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ExportServiceTest {
+
+    @Mock
+    private TransactionRepository transactionRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private ExportService exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ExportService(transactionRepository, userRepository, bookingRepository, eventRepository,
+                entityManager, transactionManager, new ObjectMapper().findAndRegisterModules());
+    }
+
+    private static String body(ResponseEntity<StreamingResponseBody> response) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+        return out.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Transaction transaction(Long id, String method) {
+        Transaction transaction = new Transaction();
+        transaction.setTransactionId(id);
+        transaction.setBookingId(10L);
+        transaction.setAmount(new BigDecimal("250.00"));
+        transaction.setPaymentMethod(method);
+        transaction.setPaymentDate(LocalDateTime.of(2025, 3, 1, 10, 30));
+        transaction.setInvoiceId("INV-" + id);
+        return transaction;
+    }
+
+    @Test
+    void exportTransactions_Csv_QuotesAndNeutralisesFormulas() throws IOException {
+        when(transactionRepository.streamByPaymentDate(null, null)).thenReturn(Stream.of(
+                transaction(1L, "Card, Visa"),
+                transaction(2L, "=HYPERLINK(\"x\")")));
+
+        ResponseEntity<StreamingResponseBody> response = exportService.exportTransactions(
+                ExportService.Format.CSV, null, null, false);
+        String[] lines = body(response).split("\r\n");
+
+        assertEquals("transactionId,bookingId,amount,paymentMethod,transactionStatus,paymentDate,invoiceId", lines[0]);
+        assertEquals("1,10,250.00,\"Card, Visa\",SUCCESS,2025-03-01T10:30,INV-1", lines[1]);
+        assertEquals("2,10,250.00,\"'=HYPERLINK(\"\"x\"\")\",SUCCESS,2025-03-01T10:30,INV-2", lines[2]);
+        assertTrue(response.getHeaders().getFirst(HttpHeaders.CONTENT_DISPOSITION).contains(".csv\""));
+    }
+
+    @Test
+    void exportUsers_Ndjson_InclusiveRangeAndNoSecrets() throws IOException {
+        User user = new User();
+        user.setUserId(7L);
+        user.setFullName("Asha");
+        user.setEmail("asha@example.com");
+        user.setRole(Role.USER);
+        user.setPasswordHash("$2a$10$secret");
+        user.setOtp("123456");
+        when(userRepository.streamForExport(Role.USER, LocalDate.of(2025, 1, 1).atStartOfDay(),
+                LocalDate.of(2025, 2, 1).atStartOfDay())).thenReturn(Stream.of(user));
+
+        String body = body(exportService.exportUsers(ExportService.Format.NDJSON, Role.USER,
+                LocalDate.of(2025, 1, 1), LocalDate.of(2025, 1, 31), false));
+
+        assertTrue(body.startsWith("{\"userId\":7,\"fullName\":\"Asha\",\"email\":\"asha@example.com\",\"role\":\"USER\""));
+        assertTrue(body.endsWith("}\n"));
+        assertFalse(body.contains("secret"));
+        assertFalse(body.contains("123456"));
+    }
+
+    @Test
+    void exportEventBookings_Gzip_RoundTripsAndClosesStream() throws IOException {
+        AtomicBoolean closed = new AtomicBoolean();
+        Stream<Object[]> rows = IntStream.rangeClosed(1, 1200).mapToObj(i -> {
+            Booking booking = new Booking();
+            booking.setBookingId((long) i);
+            booking.setEventId(3L);
+            return new Object[] { booking, "User " + i, "user" + i + "@example.com" };
+        });
+        when(eventRepository.findOrganizerIdById(3L)).thenReturn(Optional.of(9L));
+        when(bookingRepository.streamForExport(3L, null, null)).thenReturn(rows.onClose(() -> closed.set(true)));
+
+        ResponseEntity<StreamingResponseBody> response = exportService.exportEventBookings(3L, 9L, false,
+                ExportService.Format.CSV, null, null, true);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        response.getBody().writeTo(out);
+
+        String csv;
+        try (GZIPInputStream in = new GZIPInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            csv = new String(in.readAllBytes(), StandardCharsets.UTF_8);
+        }
+        String[] lines = csv.split("\r\n");
+        assertEquals(1201, lines.length);
+        assertTrue(lines[1200].startsWith("1200,3,,User 1200,user1200@example.com,"));
+        assertEquals("application/gzip", response.getHeaders().getContentType().toString());
+        assertTrue(closed.get());
+        verify(entityManager, times(2)).clear();
+    }
+
+    @Test
+    void exportEventBookings_NotOrganizer_ThrowsBeforeStreaming() {
+        when(eventRepository.findOrganizerIdById(3L)).thenReturn(Optional.of(9L));
+
+        assertThrows(UnauthorizedException.class, () -> exportService.exportEventBookings(3L, 4L, false,
+                ExportService.Format.CSV, null, null, false));
+        verifyNoInteractions(bookingRepository);
+    }
+
+    @Test
+    void format_Unknown_ThrowsValidation() {
+        assertEquals(ExportService.Format.NDJSON, ExportService.Format.from("ndjson"));
+        assertThrows(ValidationException.class, () -> ExportService.Format.from("xlsx"));
+    }
+}
@@ -0,0 +1,122 @@
+package org.eventmate.server.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.eventmate.server.dto.BookingRequest;
+import org.eventmate.server.entity.Booking;
+import org.eventmate.server.entity.IdempotencyRecord;
+import org.eventmate.server.exception.custom.ValidationException;
+import org.eventmate.server.repository.IdempotencyRecordRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Optional;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class IdempotencyServiceTest {
+
+    @Mock
+    private IdempotencyRecordRepository idempotencyRecordRepository;
+
+    private IdempotencyService idempotencyService;
+
+    private BookingRequest request;
+
+    @BeforeEach
+    void setUp() {
+        idempotencyService = new IdempotencyService(idempotencyRecordRepository,
+                new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(idempotencyService, "cacheSize", 100);
+        ReflectionTestUtils.setField(idempotencyService, "ttlHours", 24);
+        idempotencyService.initCache();
+
+        request = new BookingRequest();
+        request.setEventId(1L);
+    }
+
+    private Booking booking(long id) {
+        Booking booking = new Booking();
+        booking.setBookingId(id);
+        booking.setEventId(1L);
+        booking.setUserId(10L);
+        return booking;
+    }
+
+    @Test
+    void execute_SameKeyTwice_RunsActionOnce() {
+        when(idempotencyRecordRepository.findById("enroll:10:abc")).thenReturn(Optional.empty());
+        AtomicInteger calls = new AtomicInteger();
+
+        Booking first = idempotencyService.execute("enroll", 10L, "abc", request, Booking.class,
+                () -> booking(100L + calls.incrementAndGet()));
+        Booking second = idempotencyService.execute("enroll", 10L, "abc", request, Booking.class,
+                () -> booking(100L + calls.incrementAndGet()));
+
+        assertEquals(1, calls.get());
+        assertEquals(first.getBookingId(), second.getBookingId());
+        verify(idempotencyRecordRepository).save(any(IdempotencyRecord.class));
+    }
+
+    @Test
+    void execute_StoredInDatabase_ReplaysWithoutRunningAction() {
+        when(idempotencyRecordRepository.findById("enroll:10:abc")).thenReturn(Optional.empty());
+        idempotencyService.execute("enroll", 10L, "abc", request, Booking.class, () -> booking(101L));
+        ArgumentCaptor<IdempotencyRecord> saved = ArgumentCaptor.forClass(IdempotencyRecord.class);
+        verify(idempotencyRecordRepository).save(saved.capture());
+
+        // Fresh instance = another node / after restart
+        IdempotencyService other = new IdempotencyService(idempotencyRecordRepository,
+                new ObjectMapper().findAndRegisterModules());
+        ReflectionTestUtils.setField(other, "cacheSize", 100);
+        ReflectionTestUtils.setField(other, "ttlHours", 24);
+        other.initCache();
+        when(idempotencyRecordRepository.findById("enroll:10:abc")).thenReturn(Optional.of(saved.getValue()));
+
+        Booking replayed = other.execute("enroll", 10L, "abc", request, Booking.class,
+                () -> fail("action must not run again"));
+
+        assertEquals(101L, replayed.getBookingId());
+    }
+
+    @Test
+    void execute_SameKeyDifferentRequest_Rejected() {
+        when(idempotencyRecordRepository.findById("enroll:10:abc")).thenReturn(Optional.empty());
+        idempotencyService.execute("enroll", 10L, "abc", request, Booking.class, () -> booking(101L));
+
+        BookingRequest changed = new BookingRequest();
+        changed.setEventId(2L);
+
+        assertThrows(ValidationException.class, () -> idempotencyService.execute("enroll", 10L, "abc", changed,
+                Booking.class, () -> booking(102L)));
+    }
+
+    @Test
+    void execute_FailedAction_NotStored() {
+        when(idempotencyRecordRepository.findById("enroll:10:abc")).thenReturn(Optional.empty());
+
+        assertThrows(ValidationException.class, () -> idempotencyService.execute("enroll", 10L, "abc", request,
+                Booking.class, () -> { throw new ValidationException("Event is full"); }));
+
+        verify(idempotencyRecordRepository, never()).save(any());
+    }
+
+    @Test
+    void execute_WithoutKey_JustRunsAction() {
+        AtomicInteger calls = new AtomicInteger();
+
+        idempotencyService.execute("enroll", 10L, null, request, Booking.class, () -> booking(calls.incrementAndGet()));
+        idempotencyService.execute("enroll", 10L, null, request, Booking.class, () -> booking(calls.incrementAndGet()));
+
+        assertEquals(2, calls.get());
+        verifyNoInteractions(idempotencyRecordRepository);
+    }
+}
@@ -0,0 +1,116 @@
+package org.eventmate.server.service;
+
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.entity.Venue;
+import org.eventmate.server.repository.EventRepository;
+import org.eventmate.server.repository.VenueRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class MetadataServiceTest {
+
+    @Mock
+    private VenueRepository venueRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @InjectMocks
+    private MetadataService metadataService;
+
+    private Venue venue;
+    private Event event;
+
+    @BeforeEach
+    void setUp() {
+        venue = new Venue();
+        venue.setVenueId(10L);
+        venue.setName("Blue Hall");
+        venue.setCity("Chennai");
+
+        event = new Event();
+        event.setEventId(1L);
+        event.setTitle("Jazz Night");
+        event.setStatus(Event.EventStatus.ACTIVE);
+        event.setVenue(venue);
+    }
+
+    @Test
+    void syncMetadataSync_BuildsSnapshotFromDatabase() {
+        when(venueRepository.findAll()).thenReturn(List.of(venue));
+        when(eventRepository.findByStatus(Event.EventStatus.ACTIVE)).thenReturn(List.of(event));
+
+        metadataService.syncMetadataSync();
+
+        MetadataService.Snapshot snapshot = metadataService.getSnapshot();
+        assertEquals(1, snapshot.version());
+        assertEquals("Jazz Night", snapshot.events().get(1L).get("title"));
+        assertTrue(metadataService.readMetadata().contains("\"totalEvents\" : 1"));
+    }
+
+    @Test
+    void syncMetadataSync_ReplaysPatchesCommittedDuringRebuild() {
+        Event added = new Event();
+        added.setEventId(2L);
+        added.setTitle("Food Fest");
+        added.setStatus(Event.EventStatus.ACTIVE);
+        when(venueRepository.findAll()).thenReturn(List.of(venue));
+        // Committed after the rebuild read events, so only the patch knows about it
+        when(eventRepository.findByStatus(Event.EventStatus.ACTIVE)).thenAnswer(invocation -> {
+            metadataService.eventChanged(added);
+            return List.of(event);
+        });
+
+        metadataService.syncMetadataSync();
+
+        MetadataService.Snapshot snapshot = metadataService.getSnapshot();
+        assertEquals("Jazz Night", snapshot.events().get(1L).get("title"));
+        assertEquals("Food Fest", snapshot.events().get(2L).get("title"));
+    }
+
+    @Test
+    void eventChanged_PatchesSnapshotWithoutDatabase() {
+        metadataService.eventChanged(event);
+        long version = metadataService.getSnapshot().version();
+        assertTrue(metadataService.getSnapshot().events().containsKey(1L));
+
+        event.setStatus(Event.EventStatus.COMPLETED);
+        metadataService.eventChanged(event);
+
+        assertEquals(version + 1, metadataService.getSnapshot().version());
+        assertFalse(metadataService.getSnapshot().events().containsKey(1L));
+        verifyNoInteractions(eventRepository, venueRepository);
+    }
+
+    @Test
+    void venueChanged_RenamesVenueOnItsEvents() {
+        metadataService.eventChanged(event);
+
+        venue.setName("Blue Arena");
+        metadataService.venueChanged(venue);
+
+        MetadataService.Snapshot snapshot = metadataService.getSnapshot();
+        assertEquals("Blue Arena", snapshot.venues().get(10L).get("name"));
+        assertEquals("Blue Arena", snapshot.events().get(1L).get("venue"));
+
+        metadataService.venueRemoved(10L);
+        assertTrue(metadataService.getSnapshot().venues().isEmpty());
+    }
+
+    @Test
+    void readMetadata_SameVersion_SerializedOnce() {
+        metadataService.eventChanged(event);
+
+        assertSame(metadataService.readMetadata(), metadataService.readMetadata());
+    }
+}
@@ -0,0 +1,82 @@
+package org.eventmate.server.service;
+
+import org.eventmate.server.entity.Booking;
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.entity.Notification;
+import org.eventmate.server.entity.User;
+import org.eventmate.server.repository.BookingRepository;
+import org.eventmate.server.repository.EventRepository;
+import org.eventmate.server.repository.NotificationRepository;
+import org.eventmate.server.repository.UserRepository;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class ReminderServiceTest {
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @InjectMocks
+    private ReminderService reminderService;
+
+    private static Booking booking(Long userId, Booking.BookingStatus status) {
+        Booking booking = new Booking();
+        booking.setUserId(userId);
+        booking.setStatus(status);
+        return booking;
+    }
+
+    private static User user(Long userId) {
+        User user = new User();
+        user.setUserId(userId);
+        user.setEmail("user" + userId + "@example.com");
+        return user;
+    }
+
+    @Test
+    void sendEventReminders_OneBatchedSavePerEvent() {
+        Event event = new Event();
+        event.setEventId(5L);
+        event.setTitle("Cloud Summit");
+        event.setStartDate(LocalDate.now().plusDays(2).atTime(10, 0));
+        when(eventRepository.findAll()).thenReturn(List.of(event));
+        when(bookingRepository.findByEventId(5L)).thenReturn(List.of(
+                booking(1L, Booking.BookingStatus.CONFIRMED),
+                booking(2L, Booking.BookingStatus.CANCELLED),
+                booking(3L, Booking.BookingStatus.CONFIRMED)));
+        when(userRepository.findAllById(List.of(1L, 3L))).thenReturn(List.of(user(1L), user(3L)));
+
+        reminderService.sendEventReminders();
+
+        @SuppressWarnings("unchecked")
+        ArgumentCaptor<List<Notification>> saved = ArgumentCaptor.forClass(List.class);
+        verify(notificationRepository).saveAll(saved.capture());
+        assertEquals(List.of(1L, 3L), saved.getValue().stream().map(Notification::getUserId).toList());
+        verify(emailService, times(2)).sendEventReminder(anyString(), any(), eq(event));
+        verify(userRepository, never()).findById(anyLong());
+    }
+}
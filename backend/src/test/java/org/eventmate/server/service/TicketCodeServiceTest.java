@@ -0,0 +1,135 @@
+package org.eventmate.server.service;
+
+import org.eventmate.server.entity.CodeSequence;
+import org.eventmate.server.repository.CodeSequenceRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.PlatformTransactionManager;
+
+import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketCodeServiceTest {
+
+    @Mock
+    private CodeSequenceRepository codeSequenceRepository;
+
+    @Mock
+    private PlatformTransactionManager transactionManager;
+
+    private TicketCodeService ticketCodeService;
+
+    private CodeSequence sequence;
+
+    @BeforeEach
+    void setUp() {
+        ticketCodeService = new TicketCodeService(codeSequenceRepository, transactionManager);
+        ReflectionTestUtils.setField(ticketCodeService, "blockSize", 100);
+        ReflectionTestUtils.setField(ticketCodeService, "secret", "test-secret");
+        ReflectionTestUtils.setField(ticketCodeService, "jwtSecret", "jwt-secret");
+        ticketCodeService.initKey();
+        ticketCodeService.refillExecutor = Runnable::run;
+
+        sequence = new CodeSequence("booking_codes", 1L);
+    }
+
+    @Test
+    void newTicketCode_UniqueAcrossBlocks_OneDatabaseTripPerBlock() {
+        when(codeSequenceRepository.findByNameForUpdate("booking_codes")).thenReturn(Optional.of(sequence));
+
+        Set<String> codes = new HashSet<>();
+        for (int i = 0; i < 250; i++) {
+            String code = ticketCodeService.newTicketCode(7L);
+            assertTrue(code.matches("EVT-7-[0-9A-HJKMNP-TV-Z]{8}"), code);
+            assertFalse(TicketCodeService.hasBadCheckCharacter(code));
+            codes.add(code);
+        }
+
+        assertEquals(250, codes.size());
+        assertEquals(301L, sequence.getNextValue());
+        verify(codeSequenceRepository, times(3)).saveAndFlush(any(CodeSequence.class));
+    }
+
+    @Test
+    void newTicketCode_BlockRunsOut_SwapsToPrefetchedSpareWithoutDatabase() {
+        List<Runnable> refills = new ArrayList<>();
+        ticketCodeService.refillExecutor = refills::add;
+        when(codeSequenceRepository.findByNameForUpdate("booking_codes")).thenReturn(Optional.of(sequence));
+
+        for (int i = 0; i < 51; i++) {
+            ticketCodeService.newTicketCode(7L);
+        }
+        assertEquals(1, refills.size());
+        refills.remove(0).run();
+        verify(codeSequenceRepository, times(2)).saveAndFlush(any(CodeSequence.class));
+
+        // Rest of the first block, then into the spare
+        for (int i = 0; i < 60; i++) {
+            ticketCodeService.newTicketCode(7L);
+        }
+        verify(codeSequenceRepository, times(2)).saveAndFlush(any(CodeSequence.class));
+        assertTrue(refills.isEmpty());
+    }
+
+    @Test
+    void onApplicationReady_PrefetchesBlockAndSpare() {
+        when(codeSequenceRepository.findByNameForUpdate("booking_codes")).thenReturn(Optional.of(sequence));
+
+        ticketCodeService.onApplicationReady();
+        // Both blocks were fetched up front; the spare's half-way mark fetches the next one
+        for (int i = 0; i < 151; i++) {
+            ticketCodeService.newGroupCode();
+        }
+
+        assertEquals(301L, sequence.getNextValue());
+        verify(codeSequenceRepository, times(3)).saveAndFlush(any(CodeSequence.class));
+    }
+
+    @Test
+    void newGroupCode_FirstUse_CreatesSequenceRow() {
+        when(codeSequenceRepository.findByNameForUpdate("booking_codes")).thenReturn(Optional.empty());
+
+        assertTrue(ticketCodeService.newGroupCode().startsWith("GRP-"));
+        verify(codeSequenceRepository).saveAndFlush(argThat(s -> s.getNextValue() == 101L));
+    }
+
+    @Test
+    void hasBadCheckCharacter_DetectsEverySingleCharacterTypo() {
+        String body = ticketCodeService.encode(12345L);
+        for (int position = 0; position < body.length(); position++) {
+            for (char replacement : TicketCodeService.ALPHABET.toCharArray()) {
+                if (replacement == body.charAt(position)) {
+                    continue;
+                }
+                char[] typo = body.toCharArray();
+                typo[position] = replacement;
+                assertTrue(TicketCodeService.hasBadCheckCharacter("EVT-1-" + new String(typo)));
+            }
+        }
+    }
+
+    @Test
+    void hasBadCheckCharacter_LegacyCodesAccepted() {
+        assertFalse(TicketCodeService.hasBadCheckCharacter("EVT-1-3FA9C2"));
+        assertFalse(TicketCodeService.hasBadCheckCharacter(null));
+    }
+
+    @Test
+    void initKey_SameKeyAsJwt_Refused() {
+        ReflectionTestUtils.setField(ticketCodeService, "secret", "jwt-secret");
+
+        assertThrows(IllegalStateException.class, () -> ticketCodeService.initKey());
+    }
+}
@@ -0,0 +1,96 @@
+package org.eventmate.server.service;
+
+import org.eventmate.server.entity.Booking;
+import org.eventmate.server.entity.TicketTier;
+import org.eventmate.server.entity.TicketType;
+import org.eventmate.server.exception.custom.ValidationException;
+import org.eventmate.server.repository.TicketTierRepository;
+import org.eventmate.server.repository.TicketTypeRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class TicketInventoryServiceTest {
+
+    @Mock
+    private TicketTierRepository ticketTierRepository;
+
+    @Mock
+    private TicketTypeRepository ticketTypeRepository;
+
+    @Mock
+    private EntityCacheService entityCacheService;
+
+    @InjectMocks
+    private TicketInventoryService ticketInventoryService;
+
+    private TicketType testTicketType;
+
+    @BeforeEach
+    void setUp() {
+        testTicketType = new TicketType();
+        testTicketType.setTicketTypeId(7L);
+        testTicketType.setEventId(1L);
+    }
+
+    @Test
+    void reserve_TierAvailable_Succeeds() {
+        when(ticketTierRepository.reserveOne(3L, 1L)).thenReturn(1);
+
+        assertDoesNotThrow(() -> ticketInventoryService.reserve(1L, 3L, null));
+        verify(ticketTierRepository).reserveOne(3L, 1L);
+        verify(entityCacheService).evictAfterWrite(TicketTier.class, 3L);
+    }
+
+    @Test
+    void reserve_TierSoldOut_ThrowsException() {
+        when(ticketTierRepository.reserveOne(3L, 1L)).thenReturn(0);
+
+        assertThrows(ValidationException.class, () -> ticketInventoryService.reserve(1L, 3L, null));
+        verify(ticketTypeRepository, never()).reserveOne(anyLong());
+    }
+
+    @Test
+    void tryReserve_TicketTypeSoldOut_RollsBackTier() {
+        when(ticketTierRepository.reserveOne(3L, 1L)).thenReturn(1);
+        when(ticketTypeRepository.findById(7L)).thenReturn(Optional.of(testTicketType));
+        when(ticketTypeRepository.reserveOne(7L)).thenReturn(0);
+
+        assertFalse(ticketInventoryService.tryReserve(1L, 3L, 7L));
+        verify(ticketTierRepository).releaseOne(3L);
+    }
+
+    @Test
+    void tryReserve_TicketTypeOfOtherEvent_IsIgnored() {
+        testTicketType.setEventId(2L);
+        when(ticketTypeRepository.findById(7L)).thenReturn(Optional.of(testTicketType));
+
+        assertTrue(ticketInventoryService.tryReserve(1L, null, 7L));
+        verify(ticketTypeRepository, never()).reserveOne(anyLong());
+    }
+
+    @Test
+    void release_ConfirmedBooking_RestoresCounters() {
+        Booking booking = new Booking();
+        booking.setEventId(1L);
+        booking.setTicketTierId(3L);
+        booking.setTicketTypeId(7L);
+        when(ticketTypeRepository.findById(7L)).thenReturn(Optional.of(testTicketType));
+
+        ticketInventoryService.release(booking);
+
+        verify(ticketTierRepository).releaseOne(3L);
+        verify(ticketTypeRepository).releaseOne(7L);
+        verify(entityCacheService).evictAfterWrite(TicketTier.class, 3L);
+    }
+}
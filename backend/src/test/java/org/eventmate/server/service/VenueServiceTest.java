@@ -35,6 +35,9 @@ class VenueServiceTest {
     @Mock
     private VenueBookingRepository venueBookingRepository;
 
+    @Mock
+    private MetadataService metadataService;
+
     @InjectMocks
     private VenueService venueService;
 
@@ -0,0 +1,178 @@
+package org.eventmate.server.service;
+
+import org.eventmate.server.entity.Booking;
+import org.eventmate.server.entity.Event;
+import org.eventmate.server.entity.User;
+import org.eventmate.server.repository.BookingRepository;
+import org.eventmate.server.repository.EventRepository;
+import org.eventmate.server.repository.NotificationRepository;
+import org.eventmate.server.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+class WaitlistServiceTest {
+
+    @Mock
+    private BookingRepository bookingRepository;
+
+    @Mock
+    private EventRepository eventRepository;
+
+    @Mock
+    private NotificationRepository notificationRepository;
+
+    @Mock
+    private TicketInventoryService ticketInventoryService;
+
+    @Mock
+    private BookingFactsService bookingFactsService;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private EmailService emailService;
+
+    @InjectMocks
+    private WaitlistService waitlistService;
+
+    private Event testEvent;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(waitlistService, "promotionBatchSize", 2);
+
+        testEvent = new Event();
+        testEvent.setEventId(1L);
+        testEvent.setTitle("Test Event");
+        testEvent.setTotalCapacity(10);
+    }
+
+    private Booking waitlisted(long id) {
+        Booking booking = new Booking();
+        booking.setBookingId(id);
+        booking.setEventId(1L);
+        booking.setUserId(id);
+        booking.setStatus(Booking.BookingStatus.WAITLISTED);
+        return booking;
+    }
+
+    @Test
+    void promoteWaitlisted_FillsFreedSlotsInBatches() {
+        Booking first = waitlisted(1L);
+        Booking second = waitlisted(2L);
+        Booking third = waitlisted(3L);
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testEvent));
+        when(bookingRepository.countConfirmedBookings(1L)).thenReturn(7L);
+        when(bookingRepository.findPromotableWaitlist(eq(1L), eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(first, second));
+        when(bookingRepository.findPromotableWaitlist(eq(1L), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(third));
+        when(ticketInventoryService.tryReserve(any(Booking.class))).thenReturn(true);
+
+        int promoted = waitlistService.promoteWaitlisted(1L);
+
+        assertEquals(3, promoted);
+        assertEquals(Booking.BookingStatus.CONFIRMED, first.getStatus());
+        assertEquals(Booking.BookingStatus.CONFIRMED, third.getStatus());
+        verify(bookingRepository, times(2)).saveAll(anyList());
+        verify(notificationRepository, times(2)).saveAll(anyList());
+    }
+
+    @Test
+    void promoteWaitlisted_TierSoldOut_KeepsBookingWaitlisted() {
+        Booking first = waitlisted(1L);
+        Booking second = waitlisted(2L);
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testEvent));
+        when(bookingRepository.countConfirmedBookings(1L)).thenReturn(8L);
+        when(bookingRepository.findPromotableWaitlist(eq(1L), eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(first, second));
+        when(bookingRepository.findPromotableWaitlist(eq(1L), eq(2L), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+        when(ticketInventoryService.tryReserve(first)).thenReturn(false);
+        when(ticketInventoryService.tryReserve(second)).thenReturn(true);
+
+        assertEquals(1, waitlistService.promoteWaitlisted(1L));
+        assertEquals(Booking.BookingStatus.WAITLISTED, first.getStatus());
+        assertEquals(Booking.BookingStatus.CONFIRMED, second.getStatus());
+    }
+
+    @Test
+    void promoteWaitlisted_WholeBatchSoldOut_MovesOnToLaterBookings() {
+        Booking first = waitlisted(1L);
+        Booking second = waitlisted(2L);
+        Booking third = waitlisted(3L);
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testEvent));
+        when(bookingRepository.countConfirmedBookings(1L)).thenReturn(8L);
+        when(bookingRepository.findPromotableWaitlist(eq(1L), eq(0L), any(Pageable.class)))
+                .thenReturn(Arrays.asList(first, second));
+        when(bookingRepository.findPromotableWaitlist(eq(1L), eq(2L), any(Pageable.class)))
+                .thenReturn(List.of(third));
+        when(ticketInventoryService.tryReserve(first)).thenReturn(false);
+        when(ticketInventoryService.tryReserve(second)).thenReturn(false);
+        when(ticketInventoryService.tryReserve(third)).thenReturn(true);
+
+        assertEquals(1, waitlistService.promoteWaitlisted(1L));
+        assertEquals(Booking.BookingStatus.CONFIRMED, third.getStatus());
+        verify(bookingRepository, times(1)).saveAll(List.of(third));
+    }
+
+    @Test
+    void promoteWaitlisted_OnsiteEvent_AssignsFreeSeatAndSendsTicket() {
+        testEvent.setEventFormat(Event.EventFormat.ONSITE);
+        Booking first = waitlisted(1L);
+        first.setTicketCode("EVT-1-AAAAAAAA");
+        User user = new User();
+        user.setUserId(1L);
+        user.setEmail("asha@example.com");
+        user.setFullName("Asha");
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testEvent));
+        when(bookingRepository.countConfirmedBookings(1L)).thenReturn(9L);
+        when(bookingRepository.findBookedSeatsByEventId(1L)).thenReturn(List.of(1, 2, 4));
+        when(bookingRepository.findPromotableWaitlist(eq(1L), eq(0L), any(Pageable.class)))
+                .thenReturn(List.of(first));
+        when(ticketInventoryService.tryReserve(first)).thenReturn(true);
+        when(userRepository.findAllById(List.of(1L))).thenReturn(List.of(user));
+
+        assertEquals(1, waitlistService.promoteWaitlisted(1L));
+        assertEquals(3, first.getSeatNumber());
+        verify(emailService).sendTicketConfirmation(eq("asha@example.com"), eq("Ticket Confirmed: Test Event"),
+                argThat(model -> "EVT-1-AAAAAAAA".equals(model.get("ticketCode"))));
+    }
+
+    @Test
+    void promoteWaitlisted_EmptyWaitlist_PromotesNothing() {
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testEvent));
+        when(bookingRepository.countConfirmedBookings(1L)).thenReturn(9L);
+        when(bookingRepository.findPromotableWaitlist(eq(1L), eq(0L), any(Pageable.class)))
+                .thenReturn(Collections.emptyList());
+
+        assertEquals(0, waitlistService.promoteWaitlisted(1L));
+        verify(bookingRepository, never()).saveAll(anyList());
+    }
+
+    @Test
+    void promoteWaitlisted_NoFreeCapacity_SkipsQuery() {
+        when(eventRepository.findByIdForUpdate(1L)).thenReturn(Optional.of(testEvent));
+        when(bookingRepository.countConfirmedBookings(1L)).thenReturn(10L);
+
+        assertEquals(0, waitlistService.promoteWaitlisted(1L));
+        verify(bookingRepository, never()).findPromotableWaitlist(anyLong(), anyLong(), any());
+    }
+}